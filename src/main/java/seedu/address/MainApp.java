@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -23,7 +24,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookStorageUtil;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -55,12 +56,15 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
 
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = AddressBookStorageUtil.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath(), config.getOrderCacheSize());
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = storageManager;
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+        storageManager.startAsyncSaving(config.getSaveDebounceMillis());
         logic = new LogicManager(model, storage);
         ui = new UiManager(logic);
     }
@@ -69,12 +73,24 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * An address book file in another format than the one in {@code userPrefs} is read in its own format,
+     * and converted when it is next saved.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            Path addressBookFilePath = storage.getAddressBookFilePath();
+            AddressBookFormat fileFormat = AddressBookStorageUtil.detectFormat(addressBookFilePath);
+            if (fileFormat != null && fileFormat != userPrefs.getAddressBookFormat()) {
+                logger.info("Data file is in " + fileFormat + " format. Will be converted to "
+                        + userPrefs.getAddressBookFormat() + " format when saved");
+                addressBookOptional = AddressBookStorageUtil.createAddressBookStorage(fileFormat, addressBookFilePath)
+                        .readAddressBook();
+            } else {
+                addressBookOptional = storage.readAddressBook();
+            }
+
             if (addressBookOptional.isEmpty()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
@@ -176,5 +192,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * Formats in which the address book can be stored on the hard disk.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, with changes appended to a journal between full saves. */
+    JSON,
+    /** Compact binary snapshot, which is faster to read and write. */
+    BINARY,
+    /** Separate json segments for products, clients and orders, of which only the changed ones are written. */
+    SHARDED
+}
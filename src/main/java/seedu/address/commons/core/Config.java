@@ -14,6 +14,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDebounceMillis = 200;
+    private long orderCacheSize = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -31,6 +33,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long, in milliseconds, changes to the address book are collected before they are written together.
+     */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /**
+     * Returns the number of orders of a sharded address book that are kept in memory, with the orders of each client
+     * read only when they are needed. 0 reads all orders when the address book is loaded.
+     */
+    public long getOrderCacheSize() {
+        return orderCacheSize;
+    }
+
+    public void setOrderCacheSize(long orderCacheSize) {
+        this.orderCacheSize = orderCacheSize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -43,12 +68,14 @@ public class Config {
 
         Config o = (Config) other;
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveDebounceMillis == o.saveDebounceMillis
+                && orderCacheSize == o.orderCacheSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDebounceMillis, orderCacheSize);
     }
 
     @Override
@@ -10,6 +10,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX = "The client index provided is invalid";
     public static final String MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX = "The product index provided is invalid";
 
+    public static final String MESSAGE_ORDERS_TOO_LARGE = "The units or revenue of the orders would be too large to "
+            + "be counted";
+
     public static final String MESSAGE_CLIENTS_LISTED_OVERVIEW = "%1$d client(s) listed!";
     public static final String MESSAGE_PRODUCTS_LISTED_OVERVIEW = "%1$d product(s) listed!";
 
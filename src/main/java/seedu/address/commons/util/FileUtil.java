@@ -1,17 +1,37 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /** The size in bytes from which files are memory-mapped to be read. */
+    public static final long MAPPED_READ_THRESHOLD = 1 << 20;
+
     private static final String CHARSET = "UTF-8";
 
+    // A file that is mapped on Windows cannot be replaced until the mapping is garbage collected
+    private static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -73,10 +93,172 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing the file atomically.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes), false);
+    }
+
+    /**
+     * Returns the location of the previous version of {@code file} kept by
+     * {@link #writeAtomically(Path, ContentWriter, boolean)}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return Paths.get(file.toString() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the contents of a file with what {@code contentWriter} writes, such that a crash at any point leaves
+     * either the old or the new contents in place, but never a mix of both.
+     * The contents are written to a temporary file next to {@code file}, forced to the disk, and then renamed over
+     * {@code file}. If {@code isBackupKept} is true, the old contents are kept at {@link #getBackupFilePath(Path)}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean isBackupKept)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Paths.get(file.toString() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (isBackupKept && isFileExists(file)) {
+            moveFile(file, getBackupFilePath(file));
+        }
+
+        moveFile(tempFile, file);
+        forceParentDir(file);
+    }
+
+    /**
+     * Moves a file, replacing {@code target} if it exists. The move is atomic where the file system supports it.
+     */
+    public static void moveFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the renaming of files in the parent directory of {@code file} to the disk.
+     * This is not possible on every platform, in which case the renaming is left to the operating system.
+     */
+    private static void forceParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, such as Windows
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns a buffered stream to read the contents of a file from.
+     * Assumes file exists
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns a stream to read the contents of a file from, like {@link #newInputStream(Path)}.
+     * Files of at least {@link #MAPPED_READ_THRESHOLD} bytes are memory-mapped instead of being copied into a buffer,
+     * so that their contents are read straight from the page cache of the OS, except on Windows.
+     * Assumes file exists
+     */
+    public static InputStream newMappedInputStream(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (!IS_MAPPING_SUPPORTED || size < MAPPED_READ_THRESHOLD || size > Integer.MAX_VALUE) {
+                return newInputStream(file);
+            }
+
+            // The mapping stays valid after the channel is closed
+            return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Returns a buffered stream to write the contents of a file with, replacing what the file contained before.
+     * Will create the file if it does not exist yet.
+     */
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        return new BufferedOutputStream(Files.newOutputStream(file));
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the contents of a byte buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
     }
 }
@@ -0,0 +1,237 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of strings that looks up the strings starting with a prefix, ignoring case, in time proportional to the
+ * length of the prefix and the number of strings returned rather than the number of strings held.
+ * The same string may be added more than once, and is held until it has been removed as many times as it was added.
+ * Strings differing only in case are held separately but share the same place in the trie.
+ * Not thread-safe.
+ */
+public class PrefixTrie {
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code s} to the trie.
+     */
+    public void add(String s) {
+        requireNonNull(s);
+
+        String key = foldCase(s);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+        }
+
+        if (node.strings == null) {
+            node.strings = new TreeMap<>();
+        }
+
+        node.strings.merge(s, 1, Integer::sum);
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of {@code s} from the trie, if it is held.
+     *
+     * @return true if an occurrence of {@code s} was removed.
+     */
+    public boolean remove(String s) {
+        requireNonNull(s);
+
+        String key = foldCase(s);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].getChild(key.charAt(i));
+            if (path[i + 1] == null) {
+                return false;
+            }
+        }
+
+        Node node = path[key.length()];
+        Integer count = node.strings == null ? null : node.strings.get(s);
+        if (count == null) {
+            return false;
+        }
+
+        if (count > 1) {
+            node.strings.put(s, count - 1);
+        } else if (node.strings.size() > 1) {
+            node.strings.remove(s);
+        } else {
+            node.strings = null;
+        }
+
+        size--;
+
+        // Prunes the nodes that no longer lead to any string, so that lookups never walk into dead ends
+        for (int i = key.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if an occurrence of {@code s} is held, matching case exactly.
+     */
+    public boolean contains(String s) {
+        requireNonNull(s);
+
+        Node node = find(foldCase(s));
+        return node != null && node.strings != null && node.strings.containsKey(s);
+    }
+
+    /**
+     * Returns the number of occurrences of strings held.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct strings starting with {@code prefix}, ignoring case, in the order of their
+     * case-folded forms.
+     */
+    public List<String> startingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit should not be negative");
+
+        List<String> strings = new ArrayList<>();
+        Node node = find(foldCase(prefix));
+        if (node != null) {
+            collect(node, limit, strings);
+        }
+
+        return strings;
+    }
+
+    /**
+     * Returns the longest string that starts with {@code prefix}, ignoring case, and that every string held starting
+     * with {@code prefix} also starts with, ignoring case.
+     * The returned string keeps the case of {@code prefix}, and takes the case of the rest from a string held.
+     * Returns {@code prefix} unchanged if no string held starts with it.
+     */
+    public String extend(String prefix) {
+        requireNonNull(prefix);
+
+        Node node = find(foldCase(prefix));
+        if (node == null) {
+            return prefix;
+        }
+
+        int length = prefix.length();
+        while (node.strings == null && node.childCount == 1) {
+            node = node.children[0];
+            length++;
+        }
+
+        String sample = collectFirst(node);
+        return prefix + sample.substring(prefix.length(), length);
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.getChild(key.charAt(i));
+        }
+
+        return node;
+    }
+
+    private static void collect(Node node, int limit, List<String> strings) {
+        if (strings.size() >= limit) {
+            return;
+        }
+
+        if (node.strings != null) {
+            for (String s : node.strings.keySet()) {
+                if (strings.size() >= limit) {
+                    return;
+                }
+
+                strings.add(s);
+            }
+        }
+
+        for (int i = 0; i < node.childCount; i++) {
+            collect(node.children[i], limit, strings);
+        }
+    }
+
+    private static String collectFirst(Node node) {
+        while (node.strings == null) {
+            node = node.children[0];
+        }
+
+        return node.strings.keySet().iterator().next();
+    }
+
+    /**
+     * A node of the trie. Children are kept sorted by their characters so that lookups can binary search them and
+     * strings are returned in order, without the overhead of a map per node.
+     */
+    private static class Node {
+        private static final char[] NO_CHARS = new char[0];
+        private static final Node[] NO_NODES = new Node[0];
+
+        private char[] chars = NO_CHARS;
+        private Node[] children = NO_NODES;
+        private int childCount;
+        private Map<String, Integer> strings;
+
+        Node getChild(char c) {
+            int i = Arrays.binarySearch(chars, 0, childCount, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(chars, 0, childCount, c);
+            if (i >= 0) {
+                return children[i];
+            }
+
+            int insertAt = -i - 1;
+            if (childCount == chars.length) {
+                int capacity = Math.max(2, childCount * 2);
+                chars = Arrays.copyOf(chars, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+
+            System.arraycopy(chars, insertAt, chars, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            chars[insertAt] = c;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(chars, 0, childCount, c);
+            if (i < 0) {
+                return;
+            }
+
+            System.arraycopy(chars, i + 1, chars, i, childCount - i - 1);
+            System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        boolean isEmpty() {
+            return childCount == 0 && strings == null;
+        }
+    }
+}
@@ -35,6 +35,78 @@ public class StringUtil {
         return Arrays.stream(wordsInPreppedSentence).anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with each character folded the same way as {@link String#equalsIgnoreCase(String)} compares
+     * characters, so that two strings are equal ignoring case exactly when their folded forms are equal.
+     * The folded string has the same length as {@code s}.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to turn {@code a} into {@code b}, with no character edited more than once, if it is at most
+     * {@code maxDistance}. Returns {@code maxDistance + 1} otherwise, giving up as soon as the distance is known to
+     * exceed {@code maxDistance}.
+     * <br>examples:<pre>
+     *       editDistance("kitten", "sitting", 3) == 3
+     *       editDistance("jonh", "john", 1) == 1 // a swap of adjacent characters counts as one edit
+     *       editDistance("kitten", "sitting", 2) == 3 // more than maxDistance
+     *       </pre>
+     *
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistance(String a, String b, int maxDistance) {
+        requireAllNonNull(a, b);
+        checkArgument(maxDistance >= 0, "Max distance cannot be negative");
+
+        int tooFar = maxDistance + 1;
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        // Only the last three rows of the table of distances between prefixes of a and b are kept
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+
+                rowMin = Math.min(rowMin, current[j]);
+            }
+
+            if (rowMin > maxDistance) {
+                return tooFar;
+            }
+
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+
+        return Math.min(previous[b.length()], tooFar);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.autocomplete.Suggestions;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -25,6 +28,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the suggestions for completing a partially typed command, looked up in the background.
+     *
+     * @param commandText The command typed so far.
+     */
+    CompletableFuture<Suggestions> suggest(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -43,6 +53,12 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Sets the handler to be notified with an error message when saving the address book in the background fails.
+     * The handler is called on the thread that does the saving.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -2,13 +2,23 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.autocomplete.Autocompleter;
+import seedu.address.logic.autocomplete.Suggestions;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandType;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,6 +38,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Autocompleter autocompleter;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -36,6 +47,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        autocompleter = new Autocompleter(model.getAddressBook());
     }
 
     @Override
@@ -43,7 +55,18 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         Command command = addressBookParser.parseCommand(commandText, model);
+        long versionBeforeCommand = model.getModificationVersion();
         CommandResult commandResult = command.execute(model);
+        if (commandResult.getCommandType() == CommandType.IMPORT) {
+            importAddressBook(commandResult.getFilePath().get());
+        } else if (commandResult.getCommandType() == CommandType.EXPORT) {
+            exportAddressBook(commandResult.getFileFormat().get(), commandResult.getFilePath().get());
+        }
+
+        if (model.getModificationVersion() == versionBeforeCommand) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -54,6 +77,40 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Replaces the address book of the model with the one the storage reads from {@code filePath}.
+     */
+    private void importAddressBook(Path filePath) throws CommandException {
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.importAddressBook(filePath);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(ImportCommand.MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+
+        if (addressBook.isEmpty()) {
+            throw new CommandException(String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        model.setAddressBook(addressBook.get());
+    }
+
+    /**
+     * Has the storage write the address book of the model to {@code filePath} in {@code format}.
+     */
+    private void exportAddressBook(AddressBookFormat format, Path filePath) throws CommandException {
+        try {
+            storage.exportAddressBook(model.getAddressBook(), format, filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(ExportCommand.MESSAGE_FAILURE, filePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Suggestions> suggest(String commandText) {
+        return autocompleter.suggest(commandText);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -74,6 +131,11 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
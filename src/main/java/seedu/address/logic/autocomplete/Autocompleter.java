@@ -0,0 +1,202 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.commands.FindClientCommand;
+import seedu.address.logic.commands.FindProductCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.commons.Name;
+import seedu.address.model.product.Product;
+
+/**
+ * Suggests how to complete partially typed commands: command words, and the words of client or product names being
+ * typed after {@code find -c} or {@code find -p}.
+ * Words are kept in prefix tries that follow changes to the clients and products of an address book. The tries are
+ * only ever touched by a single background thread, so neither following changes nor looking up suggestions blocks
+ * the thread that changes the address book or asks for suggestions.
+ */
+public class Autocompleter {
+    /** The most candidates suggested for a word. */
+    public static final int MAX_CANDIDATES = 10;
+
+    private static final long IDLE_THREAD_SECONDS = 30;
+
+    private final Executor executor;
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final PrefixTrie clientNameWords = new PrefixTrie();
+    private final PrefixTrie productNameWords = new PrefixTrie();
+
+    /**
+     * Creates an {@code Autocompleter} that follows the clients and products of {@code addressBook} on its own
+     * background thread.
+     */
+    public Autocompleter(ReadOnlyAddressBook addressBook) {
+        this(addressBook, createBackgroundExecutor());
+    }
+
+    /**
+     * Creates an {@code Autocompleter} that follows the clients and products of {@code addressBook}, touching its
+     * tries only through {@code executor}, which must run tasks one at a time in the order they are submitted.
+     */
+    public Autocompleter(ReadOnlyAddressBook addressBook, Executor executor) {
+        requireAllNonNull(addressBook, executor);
+
+        this.executor = executor;
+        follow(addressBook.getClientList(), Client::getName, clientNameWords);
+        follow(addressBook.getProductList(), Product::getName, productNameWords);
+        executor.execute(() -> AddressBookParser.COMMAND_WORDS.forEach(commandWords::add));
+    }
+
+    /**
+     * Returns the suggestions for completing {@code input}, looked up in the background.
+     * The suggestions reflect every change made to the address book before this call.
+     */
+    public CompletableFuture<Suggestions> suggest(String input) {
+        requireNonNull(input);
+
+        return CompletableFuture.supplyAsync(() -> lookUp(input), executor);
+    }
+
+    private Suggestions lookUp(String input) {
+        String command = input.stripLeading();
+        int commandStart = input.length() - command.length();
+
+        if (hasArguments(command, FindClientCommand.COMMAND_WORD)) {
+            return lookUpWord(input, clientNameWords);
+        }
+
+        if (hasArguments(command, FindProductCommand.COMMAND_WORD)) {
+            return lookUpWord(input, productNameWords);
+        }
+
+        // Command words are matched case-sensitively, as by the parser
+        List<String> candidates = new ArrayList<>();
+        for (String commandWord : commandWords.startingWith(command, Integer.MAX_VALUE)) {
+            if (commandWord.startsWith(command)) {
+                candidates.add(commandWord);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Suggestions.none(input);
+        }
+
+        String completion = input.substring(0, commandStart) + commonPrefix(candidates)
+                + (candidates.size() == 1 ? " " : "");
+        return new Suggestions(input, commandStart, candidates, completion);
+    }
+
+    private static Suggestions lookUpWord(String input, PrefixTrie words) {
+        int wordStart = input.length();
+        while (wordStart > 0 && !Character.isWhitespace(input.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+
+        String word = input.substring(wordStart);
+        List<String> candidates = words.startingWith(word, MAX_CANDIDATES);
+        if (candidates.isEmpty()) {
+            return Suggestions.none(input);
+        }
+
+        String extended = words.extend(word);
+        boolean isWhole = candidates.size() == 1 && candidates.get(0).equalsIgnoreCase(extended);
+        return new Suggestions(input, wordStart, candidates,
+                input.substring(0, wordStart) + extended + (isWhole ? " " : ""));
+    }
+
+    private static boolean hasArguments(String command, String commandWord) {
+        return command.length() > commandWord.length()
+                && command.startsWith(commandWord)
+                && Character.isWhitespace(command.charAt(commandWord.length()));
+    }
+
+    private static String commonPrefix(List<String> strings) {
+        String prefix = strings.get(0);
+        for (String s : strings) {
+            int length = 0;
+            while (length < prefix.length() && length < s.length() && prefix.charAt(length) == s.charAt(length)) {
+                length++;
+            }
+
+            prefix = prefix.substring(0, length);
+        }
+
+        return prefix;
+    }
+
+    /**
+     * Keeps {@code words} holding every word of the names of the elements of {@code list}.
+     * The names changed are copied out of each change as it happens, since a change cannot be read later, but the
+     * tries are only updated in the background.
+     */
+    private <T> void follow(ObservableList<T> list, Function<T, Name> toName, PrefixTrie words) {
+        List<Name> initialNames = toNames(list, toName);
+        executor.execute(() -> initialNames.forEach(name -> addWords(words, name)));
+
+        list.addListener((ListChangeListener<T>) change -> {
+            List<Name> removedNames = new ArrayList<>();
+            List<Name> addedNames = new ArrayList<>();
+            while (change.next()) {
+                removedNames.addAll(toNames(change.getRemoved(), toName));
+                addedNames.addAll(toNames(change.getAddedSubList(), toName));
+            }
+
+            executor.execute(() -> {
+                removedNames.forEach(name -> removeWords(words, name));
+                addedNames.forEach(name -> addWords(words, name));
+            });
+        });
+    }
+
+    private static <T> List<Name> toNames(List<? extends T> elements, Function<T, Name> toName) {
+        List<Name> names = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            names.add(toName.apply(element));
+        }
+
+        return names;
+    }
+
+    private static void addWords(PrefixTrie words, Name name) {
+        for (String word : name.fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    private static void removeWords(PrefixTrie words, Name name) {
+        for (String word : name.fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns an executor running tasks one at a time on a daemon thread, which is let go while there is nothing to do.
+     */
+    private static Executor createBackgroundExecutor() {
+        return new ThreadPoolExecutor(0, 1, IDLE_THREAD_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "Autocompleter");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+}
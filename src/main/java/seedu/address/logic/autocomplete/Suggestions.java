@@ -0,0 +1,82 @@
+package seedu.address.logic.autocomplete;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The ways a partially typed command can be completed.
+ * The last word being typed in the command can be replaced by any of the candidates.
+ */
+public class Suggestions {
+    private final String input;
+    private final int wordStart;
+    private final List<String> candidates;
+    private final String completion;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param input the partially typed command.
+     * @param wordStart the index in {@code input} of the word being typed.
+     * @param candidates the words that can replace the word being typed.
+     * @param completion {@code input} completed as far as it can be without choosing between the candidates.
+     */
+    public Suggestions(String input, int wordStart, List<String> candidates, String completion) {
+        requireAllNonNull(input, candidates, completion);
+        checkArgument(wordStart >= 0 && wordStart <= input.length(), "Word start should be within the input");
+
+        this.input = input;
+        this.wordStart = wordStart;
+        this.candidates = List.copyOf(candidates);
+        this.completion = completion;
+    }
+
+    /**
+     * Returns suggestions for {@code input} that has nothing to complete.
+     */
+    public static Suggestions none(String input) {
+        return new Suggestions(input, input.length(), List.of(), input);
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public List<String> getCandidates() {
+        return candidates;
+    }
+
+    public String getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Returns the input with the word being typed replaced by {@code candidate}, ready for the next word.
+     */
+    public String complete(String candidate) {
+        return input.substring(0, wordStart) + candidate + " ";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Suggestions // instanceof handles nulls
+                && input.equals(((Suggestions) other).input)
+                && wordStart == ((Suggestions) other).wordStart
+                && candidates.equals(((Suggestions) other).candidates)
+                && completion.equals(((Suggestions) other).completion));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(input, wordStart, candidates, completion);
+    }
+
+    @Override
+    public String toString() {
+        return completion + " " + candidates;
+    }
+}
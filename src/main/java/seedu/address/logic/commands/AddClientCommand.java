@@ -7,9 +7,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE_NUMBER;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.client.Address;
@@ -17,6 +20,7 @@ import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.PhoneNumber;
 import seedu.address.model.commons.Name;
+import seedu.address.model.commons.exceptions.IdsExhaustedException;
 import seedu.address.model.order.Order;
 
 public class AddClientCommand extends Command {
@@ -36,56 +40,70 @@ public class AddClientCommand extends Command {
                     + PREFIX_ORDER + "2 10 10/20";
 
     public static final String MESSAGE_SUCCESS = "New client added: %1$s";
-    public static final String MESSAGE_DUPLICATE_CLIENT = "This client already exists in Sellah";
 
-    private final Client clientToAdd;
+    private final Name name;
+    private final PhoneNumber phoneNumber;
+    private final Email email;
+    private final Address address;
+    private final Set<Order> orders;
 
     /**
      * Constructor of the class `AddClientCommand`.
+     * The client is only created when the command is executed, as its ID is given by the model.
      *
      * @param addClientDescriptor A descriptor containing the information of a client.
      */
     public AddClientCommand(AddClientDescriptor addClientDescriptor) {
         requireNonNull(addClientDescriptor);
-        this.clientToAdd = createAddedClient(addClientDescriptor);
+        this.name = addClientDescriptor.getName();
+        this.phoneNumber = addClientDescriptor.getPhoneNumber();
+        this.email = addClientDescriptor.getEmail();
+        this.address = addClientDescriptor.getAddress();
+        this.orders = addClientDescriptor.getOrders()
+                .stream()
+                .filter(Order::isPositiveQuantity)
+                .collect(Collectors.toSet());
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasClient(clientToAdd)) {
-            throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
+        // a client is told apart by its ID, which is only allocated once the client is sure to be added
+        if (!model.canCountOrders(List.of(), orders)) {
+            throw new CommandException(Messages.MESSAGE_ORDERS_TOO_LARGE);
+        }
+
+        Client clientToAdd;
+        try {
+            clientToAdd = new Client(model.allocateClientId(), name, phoneNumber, email, address, orders);
+        } catch (IdsExhaustedException e) {
+            throw new CommandException(e.getMessage(), e);
         }
 
         model.addClient(clientToAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, clientToAdd), CommandType.ADD, clientToAdd, true);
     }
 
-    /**
-     * Creates a Client from an AddClientDescriptor.
-     *
-     * @param addClientDescriptor A descriptor that contains the client's information.
-     * @return The client to be added.
-     */
-    private static Client createAddedClient(AddClientDescriptor addClientDescriptor) {
-        Name name = addClientDescriptor.getName();
-        PhoneNumber phoneNumber = addClientDescriptor.getPhoneNumber();
-        Email email = addClientDescriptor.getEmail();
-        Address address = addClientDescriptor.getAddress();
-        Set<Order> orders = addClientDescriptor.getOrders()
-                .stream()
-                .filter(Order::isPositiveQuantity)
-                .collect(Collectors.toSet());
-
-        return new Client(name, phoneNumber, email, address, orders);
-    }
-
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof AddClientCommand // instanceof handles nulls
-                && clientToAdd.equals(((AddClientCommand) other).clientToAdd));
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddClientCommand)) {
+            return false;
+        }
+
+        // state check
+        AddClientCommand e = (AddClientCommand) other;
+        return name.equals(e.name)
+                && phoneNumber.equals(e.phoneNumber)
+                && Objects.equals(email, e.email)
+                && Objects.equals(address, e.address)
+                && orders.equals(e.orders);
     }
 
     /**
@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QUANTITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNIT_PRICE;
 
+import java.util.Objects;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.commons.Name;
+import seedu.address.model.commons.exceptions.IdsExhaustedException;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.Quantity;
 import seedu.address.model.product.UnitPrice;
@@ -27,31 +30,39 @@ public class AddProductCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New product added: %1$s";
     public static final String MESSAGE_DUPLICATE_PRODUCT = "This product already exists in Sellah";
 
-    private final Product productToAdd;
+    private final Name name;
+    private final UnitPrice unitPrice;
+    private final Quantity quantity;
 
     /**
      * Constructor of the class `AddProductCommand`.
+     * The product is only created when the command is executed, as its ID is given by the model.
      *
      * @param addProductDescriptor A descriptor containing the information of the added product.
      */
     public AddProductCommand(AddProductDescriptor addProductDescriptor) {
         requireNonNull(addProductDescriptor);
 
-        Name name = addProductDescriptor.getName();
-        UnitPrice unitPrice = addProductDescriptor.getUnitPrice();
-        Quantity quantity = addProductDescriptor.getQuantity();
-
-        this.productToAdd = new Product(name, unitPrice, quantity);
+        this.name = addProductDescriptor.getName();
+        this.unitPrice = addProductDescriptor.getUnitPrice();
+        this.quantity = addProductDescriptor.getQuantity();
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasProduct(productToAdd)) {
+        if (model.hasProductWithName(name)) {
             throw new CommandException(MESSAGE_DUPLICATE_PRODUCT);
         }
 
+        Product productToAdd;
+        try {
+            productToAdd = new Product(model.allocateProductId(), name, unitPrice, quantity);
+        } catch (IdsExhaustedException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+
         model.addProduct(productToAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, productToAdd), CommandType.ADD, productToAdd, false);
     }
@@ -60,7 +71,9 @@ public class AddProductCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddProductCommand // instanceof handles nulls
-                && productToAdd.equals(((AddProductCommand) other).productToAdd));
+                && name.equals(((AddProductCommand) other).name)
+                && unitPrice.equals(((AddProductCommand) other).unitPrice)
+                && Objects.equals(quantity, ((AddProductCommand) other).quantity));
     }
 
     /**
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.commons.ID;
 
 /**
  * Clears the address book.
@@ -17,7 +16,6 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setAddressBook(new AddressBook());
-        ID.resetIdCounter();
         return new CommandResult(MESSAGE_SUCCESS, CommandType.CLEAR);
     }
 }
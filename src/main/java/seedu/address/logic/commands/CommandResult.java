@@ -2,9 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.model.Category;
+import seedu.address.model.sales.RevenueReport;
+import seedu.address.model.sales.SalesReport;
 
 /**
  * Represents the result of a command execution.
@@ -14,6 +19,11 @@ public class CommandResult {
     private final CommandType commandType;
     private final Category info;
     private final boolean isClientCommand;
+    private final SalesReport salesReport;
+    private final RevenueReport revenueReport;
+    // The file to import from or export to, and the format to export in, which are read and written by the storage
+    private final Path filePath;
+    private final AddressBookFormat fileFormat;
 
     /**
      * Constructs a {@code CommandResult} with the specified fields.
@@ -23,6 +33,54 @@ public class CommandResult {
         this.commandType = commandType;
         this.info = info;
         this.isClientCommand = isClientCommand;
+        this.salesReport = null;
+        this.revenueReport = null;
+        this.filePath = null;
+        this.fileFormat = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} of a {@code STAT} command that shows {@code salesReport}.
+     */
+    public CommandResult(String feedbackToUser, SalesReport salesReport) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.commandType = CommandType.STAT;
+        this.info = null;
+        this.isClientCommand = false;
+        this.salesReport = requireNonNull(salesReport);
+        this.revenueReport = null;
+        this.filePath = null;
+        this.fileFormat = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} of a {@code REVENUE} command that shows {@code revenueReport}.
+     */
+    public CommandResult(String feedbackToUser, RevenueReport revenueReport) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.commandType = CommandType.REVENUE;
+        this.info = null;
+        this.isClientCommand = false;
+        this.salesReport = null;
+        this.revenueReport = requireNonNull(revenueReport);
+        this.filePath = null;
+        this.fileFormat = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} of an {@code IMPORT} or {@code EXPORT} command, which asks for the address
+     * book to be read from or written to {@code filePath}. {@code fileFormat} is the format to write in, and is null
+     * when reading, as the format of a file is told by its header.
+     */
+    public CommandResult(String feedbackToUser, CommandType commandType, Path filePath, AddressBookFormat fileFormat) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.commandType = commandType;
+        this.info = null;
+        this.isClientCommand = false;
+        this.salesReport = null;
+        this.revenueReport = null;
+        this.filePath = requireNonNull(filePath);
+        this.fileFormat = fileFormat;
     }
 
     public CommandResult(String feedbackToUser, CommandType commandType) {
@@ -41,7 +99,14 @@ public class CommandResult {
      * Constructs a {@code CommandResult} by copying from the provided {@code copyFrom}.
      */
     public CommandResult(CommandResult copyFrom) {
-        this(copyFrom.feedbackToUser, copyFrom.commandType, copyFrom.info, copyFrom.isClientCommand);
+        this.feedbackToUser = copyFrom.feedbackToUser;
+        this.commandType = copyFrom.commandType;
+        this.info = copyFrom.info;
+        this.isClientCommand = copyFrom.isClientCommand;
+        this.salesReport = copyFrom.salesReport;
+        this.revenueReport = copyFrom.revenueReport;
+        this.filePath = copyFrom.filePath;
+        this.fileFormat = copyFrom.fileFormat;
     }
 
     public String getFeedbackToUser() {
@@ -60,6 +125,34 @@ public class CommandResult {
         return isClientCommand;
     }
 
+    /**
+     * Returns the sales to be shown, if the command reported sales within a range of dates.
+     */
+    public Optional<SalesReport> getSalesReport() {
+        return Optional.ofNullable(salesReport);
+    }
+
+    /**
+     * Returns the revenue to be shown, if the command reported revenue.
+     */
+    public Optional<RevenueReport> getRevenueReport() {
+        return Optional.ofNullable(revenueReport);
+    }
+
+    /**
+     * Returns the file to import the address book from or export it to, if the command imported or exported it.
+     */
+    public Optional<Path> getFilePath() {
+        return Optional.ofNullable(filePath);
+    }
+
+    /**
+     * Returns the format to export the address book in, if the command exported it.
+     */
+    public Optional<AddressBookFormat> getFileFormat() {
+        return Optional.ofNullable(fileFormat);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
@@ -75,11 +168,16 @@ public class CommandResult {
         return feedbackToUser.equals(other.feedbackToUser)
                 && commandType == other.commandType
                 && Objects.equals(info, other.info)
-                && isClientCommand == other.isClientCommand;
+                && isClientCommand == other.isClientCommand
+                && Objects.equals(salesReport, other.salesReport)
+                && Objects.equals(revenueReport, other.revenueReport)
+                && Objects.equals(filePath, other.filePath)
+                && fileFormat == other.fileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, commandType, info, isClientCommand);
+        return Objects.hash(feedbackToUser, commandType, info, isClientCommand, salesReport, revenueReport, filePath,
+                fileFormat);
     }
 }
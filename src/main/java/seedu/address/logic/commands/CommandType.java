@@ -1,5 +1,5 @@
 package seedu.address.logic.commands;
 
 public enum CommandType {
-    ADD, DELETE, EDIT, FIND, LIST, VIEW, STAT, CLEAR, HELP, EXIT
+    ADD, DELETE, EDIT, FIND, LIST, VIEW, STAT, REVENUE, CLEAR, EXPORT, IMPORT, HELP, EXIT
 }
@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -14,7 +13,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
 import seedu.address.model.commons.ID;
-import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 
 /**
@@ -51,13 +49,8 @@ public class DeleteProductCommand extends Command {
         ID productID = productToDelete.getId();
         logger.log(Level.INFO, String.format("Deleted product (ID %1$s)", productID));
 
-        Name productName = productToDelete.getName();
-        ObservableList<Client> clientList = model.getAddressBook().getClientList();
-        clientList.forEach(client -> {
-            if (client.hasOrder(productName)) {
-                client.removeOrder(productName);
-            }
-        });
+        List<Client> clientsWithOrder = model.getClientsWithOrder(productID);
+        clientsWithOrder.forEach(client -> model.removeOrder(client, productID));
 
         logger.log(Level.INFO, String.format("Deleted orders containing product (ID %1$s)", productID));
 
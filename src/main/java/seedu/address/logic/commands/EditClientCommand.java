@@ -9,7 +9,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE_NUMBER;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +23,7 @@ import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
 
@@ -84,6 +84,12 @@ public class EditClientCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
         }
 
+        // an edit that keeps the same set of orders does not need them read to be checked
+        if (clientToEdit.getOrders() != editedClient.getOrders()
+                && !model.canCountOrders(clientToEdit.getOrders(), editedClient.getOrders())) {
+            throw new CommandException(Messages.MESSAGE_ORDERS_TOO_LARGE);
+        }
+
         model.setClient(clientToEdit, editedClient);
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
 
@@ -102,20 +108,33 @@ public class EditClientCommand extends Command {
         PhoneNumber updatedPhoneNumber = editClientDescriptor.getPhoneNumber().orElse(clientToEdit.getPhoneNumber());
         Email updatedEmail = editClientDescriptor.getEmail().orElse(clientToEdit.getEmail());
         Address updatedAddress = editClientDescriptor.getAddress().orElse(clientToEdit.getAddress());
-        Set<Order> updatedOrders = getUpdatedOrders(clientToEdit.getOrders(), editClientDescriptor);
+        Set<Order> updatedOrders = getUpdatedOrders(clientToEdit, editClientDescriptor);
 
         return Client.updateClient(clientToEdit, updatedName, updatedPhoneNumber, updatedEmail, updatedAddress,
                 updatedOrders);
     }
 
-    private static Set<Order> getUpdatedOrders(Set<Order> oldOrders, EditClientDescriptor editClientDescriptor) {
-        Set<Order> updatedOrders = new HashSet<>();
-        editClientDescriptor.getOrders().ifPresent(updatedOrders::addAll);
-        updatedOrders.addAll(oldOrders);
+    /**
+     * Returns the orders of {@code clientToEdit} after the orders of {@code editClientDescriptor} are made.
+     * An order of no units removes every order of its product, and any other order is added as a new order.
+     */
+    private static Set<Order> getUpdatedOrders(Client clientToEdit, EditClientDescriptor editClientDescriptor) {
+        if (editClientDescriptor.getOrders().isEmpty()) {
+            // keeps the same set, so that orders that have not been read yet are not read
+            return clientToEdit.getOrders();
+        }
+
+        Set<Order> newOrders = editClientDescriptor.getOrders().get();
+        Set<ID> removedProductIds = newOrders.stream()
+                .filter(order -> !order.isPositiveQuantity())
+                .map(Order::getProductId)
+                .collect(Collectors.toSet());
 
-        return updatedOrders.stream()
+        List<Order> addedOrders = newOrders.stream()
                 .filter(Order::isPositiveQuantity)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toList());
+        return clientToEdit.getOrderHistory().withChanges(order -> !order.isPositiveQuantity()
+                || removedProductIds.contains(order.getProductId()), addedOrders);
     }
 
     @Override
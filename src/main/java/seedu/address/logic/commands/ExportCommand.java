@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.Model;
+
+/**
+ * Exports the address book to a file in the given format.
+ * The file is written by the storage, which the result of this command asks to write it.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD + ": Exports the address book to a file.\n"
+                    + "Parameters: FORMAT (json, binary or sharded) FILE_PATH\n"
+                    + "Example: " + COMMAND_WORD + " binary data/backup.bin";
+
+    public static final String MESSAGE_SUCCESS = "Exported address book to %1$s";
+    public static final String MESSAGE_FAILURE = "Could not export address book to %1$s: %2$s";
+
+    private final AddressBookFormat format;
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export the address book to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        this.format = format;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath), CommandType.EXPORT, filePath, format);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && format == ((ExportCommand) other).format
+                && filePath.equals(((ExportCommand) other).filePath)); // state check
+    }
+}
@@ -1,33 +1,58 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FUZZY_SEARCH_MARKER;
+
+import java.util.Comparator;
+import java.util.Map;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.commons.ID;
 
 /**
  * Finds and lists all clients in application whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive, and may allow for typos, listing the closest matches first.
  */
 public class FindClientCommand extends Command {
     public static final String COMMAND_WORD = "find -c";
     public static final String MESSAGE_USAGE =
             COMMAND_WORD + ": Finds all clients whose names contain any of "
                     + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-                    + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-                    + "Example: " + COMMAND_WORD + " alice bob charlie";
+                    + "Start with " + FUZZY_SEARCH_MARKER + " to also find names a few typos away, closest first.\n"
+                    + "Parameters: [" + FUZZY_SEARCH_MARKER + "]KEYWORD [MORE_KEYWORDS]...\n"
+                    + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+                    + "Example: " + COMMAND_WORD + " " + FUZZY_SEARCH_MARKER + "alcie";
 
     private final ClientContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindClientCommand(ClientContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindClientCommand to find the clients with names matching the keywords of {@code predicate},
+     * allowing for typos if {@code isFuzzy} is true.
+     */
+    public FindClientCommand(ClientContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredClientList(predicate);
+        if (isFuzzy) {
+            Map<ID, Integer> distances = model.getAddressBook().findClientsWithNameNear(predicate.getKeywords());
+            model.updateFilteredClientList(client -> distances.containsKey(client.getId()),
+                    Comparator.comparingInt(client -> distances.getOrDefault(client.getId(), Integer.MAX_VALUE)));
+        } else {
+            // The address book looks the keywords up in its index of names, instead of splitting every name
+            model.updateFilteredClientList(model.getAddressBook().getClientNameMatcher(predicate.getKeywords()));
+        }
+
         return new CommandResult(
                 String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()),
                 CommandType.FIND, null, true);
@@ -37,6 +62,7 @@ public class FindClientCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindClientCommand // instanceof handles nulls
-                && predicate.equals(((FindClientCommand) other).predicate)); // state check
+                && predicate.equals(((FindClientCommand) other).predicate) // state check
+                && isFuzzy == ((FindClientCommand) other).isFuzzy);
     }
 }
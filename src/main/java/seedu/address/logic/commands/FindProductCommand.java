@@ -1,33 +1,58 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FUZZY_SEARCH_MARKER;
+
+import java.util.Comparator;
+import java.util.Map;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.commons.ID;
 import seedu.address.model.product.ProductContainsKeywordsPredicate;
 
 /**
  * Finds and lists all products in application whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive, and may allow for typos, listing the closest matches first.
  */
 public class FindProductCommand extends Command {
     public static final String COMMAND_WORD = "find -p";
     public static final String MESSAGE_USAGE =
             COMMAND_WORD + ": Finds all products whose names contain any of "
                     + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-                    + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-                    + "Example: " + COMMAND_WORD + " alice bob charlie";
+                    + "Start with " + FUZZY_SEARCH_MARKER + " to also find names a few typos away, closest first.\n"
+                    + "Parameters: [" + FUZZY_SEARCH_MARKER + "]KEYWORD [MORE_KEYWORDS]...\n"
+                    + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+                    + "Example: " + COMMAND_WORD + " " + FUZZY_SEARCH_MARKER + "alcie";
 
     private final ProductContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindProductCommand(ProductContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindProductCommand to find the products with names matching the keywords of {@code predicate},
+     * allowing for typos if {@code isFuzzy} is true.
+     */
+    public FindProductCommand(ProductContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredProductList(predicate);
+        if (isFuzzy) {
+            Map<ID, Integer> distances = model.getAddressBook().findProductsWithNameNear(predicate.getKeywords());
+            model.updateFilteredProductList(product -> distances.containsKey(product.getId()),
+                    Comparator.comparingInt(product -> distances.getOrDefault(product.getId(), Integer.MAX_VALUE)));
+        } else {
+            // The address book looks the keywords up in its index of names, instead of splitting every name
+            model.updateFilteredProductList(model.getAddressBook().getProductNameMatcher(predicate.getKeywords()));
+        }
+
         return new CommandResult(
                 String.format(Messages.MESSAGE_PRODUCTS_LISTED_OVERVIEW, model.getFilteredProductList().size()),
                 CommandType.FIND, null, false);
@@ -37,6 +62,7 @@ public class FindProductCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindProductCommand // instanceof handles nulls
-                && predicate.equals(((FindProductCommand) other).predicate)); // state check
+                && predicate.equals(((FindProductCommand) other).predicate) // state check
+                && isFuzzy == ((FindProductCommand) other).isFuzzy);
     }
 }
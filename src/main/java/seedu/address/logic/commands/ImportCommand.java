@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.model.Model;
+
+/**
+ * Replaces the address book with the one in a file, which may be in any of the supported formats.
+ * The file is read by the storage, which the result of this command asks to read it.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD + ": Replaces the address book with the one in a json, binary or sharded file.\n"
+                    + "Parameters: FILE_PATH\n"
+                    + "Example: " + COMMAND_WORD + " data/backup.bin";
+
+    public static final String MESSAGE_SUCCESS = "Imported address book from %1$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_FAILURE = "Could not import address book from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the address book in {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath), CommandType.IMPORT, filePath, null);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.commons.ID;
+import seedu.address.model.product.UnitPrice;
+import seedu.address.model.sales.ClientSales;
+import seedu.address.model.sales.ProductSales;
+import seedu.address.model.sales.RevenueReport;
+import seedu.address.model.sales.SalesAggregates;
+import seedu.address.model.sales.SalesPeriod;
+import seedu.address.model.sales.SalesReport;
+import seedu.address.model.sales.SalesRollups;
+
+public class RevenueCommand extends SalesRangeCommand {
+    public static final String COMMAND_WORD = "revenue";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the revenue of the clients shown and the "
+            + "products and clients with the highest revenue, optionally only from and to the given dates, and by "
+            + "day, week, month or year.\n"
+            + "Parameters: [" + PREFIX_FROM + "DATE] [" + PREFIX_TO + "DATE] [" + PREFIX_BY + "PERIOD]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2021/01/01 " + PREFIX_TO + "2021/03/31 "
+            + PREFIX_BY + "month";
+
+    public static final String MESSAGE_SUCCESS = "Revenue from %1$s to %2$s: $%3$s";
+
+    public static final int TOP_COUNT = 5;
+
+    /**
+     * Creates a RevenueCommand to show the revenue from {@code from} to {@code to} by {@code period}. Any of them may
+     * be null: the range then starts at the earliest order or ends at the latest, and the revenue is totalled.
+     */
+    public RevenueCommand(LocalDate from, LocalDate to, SalesPeriod period) {
+        super(from, to, period);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        SalesRollups rollups = getRollups(model);
+        LocalDate start = getStart(rollups);
+        LocalDate end = getEnd(rollups);
+
+        RevenueReport report = isAllTime()
+                ? reportAllTime(start, end, isEveryClientShown(model)
+                        ? model.getAddressBook().getSalesAggregates()
+                        : countAggregates(model.getFilteredClientList()))
+                : reportBetween(start, end, rollups);
+
+        if (report.getTopProducts().isEmpty()) {
+            throw noOrdersInRange(start, end);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, start.format(DATE_FORMAT), end.format(DATE_FORMAT),
+                UnitPrice.formatCents(report.getRevenueCents())), report);
+    }
+
+    /**
+     * Returns the revenue of every order, which {@code aggregates} already keep in total and sorted.
+     */
+    private static RevenueReport reportAllTime(LocalDate start, LocalDate end, SalesAggregates aggregates) {
+        return new RevenueReport(start, end, null, aggregates.getRevenueCents(), Map.of(),
+                aggregates.getHighestRevenue(TOP_COUNT), aggregates.getHighestRevenueClients(TOP_COUNT));
+    }
+
+    /**
+     * Returns the revenue from {@code start} to {@code end} of the products and clients from {@code rollups}. No sum
+     * is more than the revenue of every order, which the address book keeps within a {@code long}.
+     */
+    private RevenueReport reportBetween(LocalDate start, LocalDate end, SalesRollups rollups) {
+        Map<ID, ProductSales> salesByProductId = rollups.getSalesBetween(start, end);
+        long revenueCents = salesByProductId.values().stream()
+                .mapToLong(ProductSales::getRevenueCents)
+                .sum();
+        Map<LocalDate, Long> revenueCentsByPeriod = period == null
+                ? Map.of()
+                : new SalesReport(start, end, period, rollups.getSalesByPeriod(start, end, period))
+                        .getRevenueCentsByPeriod();
+        List<ProductSales> topProducts = salesByProductId.values().stream()
+                .sorted(SalesAggregates.HIGHEST_REVENUE_FIRST)
+                .limit(TOP_COUNT)
+                .collect(Collectors.toList());
+        List<ClientSales> topClients = rollups.getClientSalesBetween(start, end).values().stream()
+                .sorted(SalesAggregates.HIGHEST_CLIENT_REVENUE_FIRST)
+                .limit(TOP_COUNT)
+                .collect(Collectors.toList());
+
+        return new RevenueReport(start, end, period, revenueCents, revenueCentsByPeriod, topProducts, topClients);
+    }
+
+    /**
+     * Returns the aggregates of only the clients in {@code clients}, which the address book does not keep up to date.
+     */
+    private static SalesAggregates countAggregates(List<Client> clients) {
+        SalesAggregates aggregates = new SalesAggregates();
+        for (Client client : clients) {
+            client.getOrders().forEach(order -> aggregates.addOrder(client.getId(), order));
+        }
+
+        return aggregates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RevenueCommand // instanceof handles nulls
+                && isSameRange((RevenueCommand) other));
+    }
+}
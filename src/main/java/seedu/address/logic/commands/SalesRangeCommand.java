@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.sales.SalesPeriod;
+import seedu.address.model.sales.SalesRollups;
+
+/**
+ * A command that shows the sales of the clients shown, optionally only from and to the given dates, and by day,
+ * week, month or year.
+ */
+public abstract class SalesRangeCommand extends Command {
+    public static final String MESSAGE_FAILURE = "None of the clients have any orders";
+    public static final String MESSAGE_NO_ORDERS_IN_RANGE = "None of the clients have any orders from %1$s to %2$s";
+
+    protected static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    // Null if not given
+    protected final LocalDate from;
+    protected final LocalDate to;
+    protected final SalesPeriod period;
+
+    /**
+     * Creates a SalesRangeCommand to show the sales from {@code from} to {@code to} by {@code period}. Any of them
+     * may be null: the range then starts at the earliest order or ends at the latest, and the sales are totalled.
+     */
+    protected SalesRangeCommand(LocalDate from, LocalDate to, SalesPeriod period) {
+        this.from = from;
+        this.to = to;
+        this.period = period;
+    }
+
+    /**
+     * Returns true if neither the range nor the period were given.
+     */
+    protected boolean isAllTime() {
+        return from == null && to == null && period == null;
+    }
+
+    /**
+     * Returns true if every client is shown, so that the sales the address book keeps up to date can be used.
+     */
+    protected static boolean isEveryClientShown(Model model) {
+        return model.getFilteredClientList().size() == model.getAddressBook().getClientList().size();
+    }
+
+    /**
+     * Returns the rollups of the clients shown.
+     *
+     * @throws CommandException if none of the clients shown have any orders.
+     */
+    protected static SalesRollups getRollups(Model model) throws CommandException {
+        SalesRollups rollups = isEveryClientShown(model)
+                ? model.getAddressBook().getSalesRollups()
+                : countRollups(model.getFilteredClientList());
+        if (rollups.isEmpty()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        return rollups;
+    }
+
+    /**
+     * Returns the rollups of only the clients in {@code clients}, which the address book does not keep up to date.
+     */
+    private static SalesRollups countRollups(List<Client> clients) {
+        SalesRollups rollups = new SalesRollups();
+        for (Client client : clients) {
+            client.getOrders().forEach(order -> rollups.addOrder(client.getId(), order));
+        }
+
+        return rollups;
+    }
+
+    /**
+     * Returns the first day of the range, which is that of the earliest order in {@code rollups} if not given.
+     */
+    protected LocalDate getStart(SalesRollups rollups) {
+        return from == null ? rollups.getFirstDay().get() : from;
+    }
+
+    /**
+     * Returns the last day of the range, which is that of the latest order in {@code rollups} if not given.
+     */
+    protected LocalDate getEnd(SalesRollups rollups) {
+        return to == null ? rollups.getLastDay().get() : to;
+    }
+
+    /**
+     * Returns the exception for no orders from {@code start} to {@code end}.
+     */
+    protected static CommandException noOrdersInRange(LocalDate start, LocalDate end) {
+        return new CommandException(String.format(MESSAGE_NO_ORDERS_IN_RANGE,
+                start.format(DATE_FORMAT), end.format(DATE_FORMAT)));
+    }
+
+    /**
+     * Returns true if {@code other} shows the sales of the same range by the same period.
+     */
+    protected boolean isSameRange(SalesRangeCommand other) {
+        return Objects.equals(from, other.from)
+                && Objects.equals(to, other.to)
+                && period == other.period;
+    }
+}
@@ -1,26 +1,79 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
+import seedu.address.model.sales.SalesPeriod;
+import seedu.address.model.sales.SalesReport;
+import seedu.address.model.sales.SalesRollups;
 
-public class StatCommand extends Command {
+public class StatCommand extends SalesRangeCommand {
     public static final String COMMAND_WORD = "stat";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the best-selling products of the clients shown, "
+            + "optionally only from and to the given dates, and by day, week, month or year.\n"
+            + "Parameters: [" + PREFIX_FROM + "DATE] [" + PREFIX_TO + "DATE] [" + PREFIX_BY + "PERIOD]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2021/01/01 " + PREFIX_TO + "2021/03/31 "
+            + PREFIX_BY + "month";
+
     public static final String MESSAGE_SUCCESS = "Showed stats";
-    public static final String MESSAGE_FAILURE = "None of the clients have any orders";
+    public static final String MESSAGE_SUCCESS_RANGE = "Showed stats from %1$s to %2$s";
+
+    /**
+     * Creates a StatCommand to show the best-selling products of all time.
+     */
+    public StatCommand() {
+        this(null, null, null);
+    }
+
+    /**
+     * Creates a StatCommand to show the sales from {@code from} to {@code to} by {@code period}. Any of them may be
+     * null: the range then starts at the earliest order or ends at the latest, and the sales are totalled.
+     */
+    public StatCommand(LocalDate from, LocalDate to, SalesPeriod period) {
+        super(from, to, period);
+    }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        ObservableList<Client> clientList = model.getFilteredClientList();
-        Predicate<Client> clientHasOrder = client -> !client.getOrders().isEmpty();
+        if (isAllTime()) {
+            Predicate<Client> clientHasOrder = client -> !client.getOrders().isEmpty();
+            boolean hasNoOrder = isEveryClientShown(model)
+                    ? model.getAddressBook().getSalesAggregates().isEmpty()
+                    : model.getFilteredClientList().stream().noneMatch(clientHasOrder);
+
+            if (hasNoOrder) {
+                throw new CommandException(MESSAGE_FAILURE);
+            }
 
-        if (clientList.filtered(clientHasOrder).isEmpty()) {
-            throw new CommandException(MESSAGE_FAILURE);
+            return new CommandResult(MESSAGE_SUCCESS, CommandType.STAT, null, false);
         }
 
-        return new CommandResult(MESSAGE_SUCCESS, CommandType.STAT, null, false);
+        SalesRollups rollups = getRollups(model);
+        LocalDate start = getStart(rollups);
+        LocalDate end = getEnd(rollups);
+        SalesReport report = period == null
+                ? new SalesReport(start, end, rollups.getSalesBetween(start, end))
+                : new SalesReport(start, end, period, rollups.getSalesByPeriod(start, end, period));
+
+        if (report.isEmpty()) {
+            throw noOrdersInRange(start, end);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS_RANGE, start.format(DATE_FORMAT),
+                end.format(DATE_FORMAT)), report);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatCommand // instanceof handles nulls
+                && isSameRange((StatCommand) other));
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -15,11 +16,14 @@ import seedu.address.logic.commands.DeleteProductCommand;
 import seedu.address.logic.commands.EditClientCommand;
 import seedu.address.logic.commands.EditProductCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindClientCommand;
 import seedu.address.logic.commands.FindProductCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListClientCommand;
 import seedu.address.logic.commands.ListProductCommand;
+import seedu.address.logic.commands.RevenueCommand;
 import seedu.address.logic.commands.StatCommand;
 import seedu.address.logic.commands.ViewClientCommand;
 import seedu.address.logic.commands.ViewProductCommand;
@@ -30,6 +34,20 @@ import seedu.address.model.Model;
  * Parses user input.
  */
 public class AddressBookParser {
+    /**
+     * The command words recognised by {@link #parseCommand(String, Model)}.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(
+            AddClientCommand.COMMAND_WORD, AddProductCommand.COMMAND_WORD,
+            ViewClientCommand.COMMAND_WORD, ViewProductCommand.COMMAND_WORD,
+            EditClientCommand.COMMAND_WORD, EditProductCommand.COMMAND_WORD,
+            DeleteClientCommand.COMMAND_WORD, DeleteProductCommand.COMMAND_WORD,
+            ListClientCommand.COMMAND_WORD, ListProductCommand.COMMAND_WORD,
+            FindClientCommand.COMMAND_WORD, FindProductCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            StatCommand.COMMAND_WORD, RevenueCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD,
+            ImportCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -112,7 +130,16 @@ public class AddressBookParser {
             return new ExitCommand();
 
         case StatCommand.COMMAND_WORD:
-            return new StatCommand();
+            return new StatCommandParser().parse(arguments);
+
+        case RevenueCommand.COMMAND_WORD:
+            return new RevenueCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
 
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
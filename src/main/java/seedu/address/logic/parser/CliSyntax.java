@@ -20,4 +20,14 @@ public class CliSyntax {
 
     // Order
     public static final Prefix PREFIX_ORDER = new Prefix("-o ");
+
+    // Stat
+    public static final Prefix PREFIX_FROM = new Prefix("-from ");
+    public static final Prefix PREFIX_TO = new Prefix("-to ");
+    public static final Prefix PREFIX_BY = new Prefix("-by ");
+
+    /* Other syntax */
+
+    // Find: marks the keywords to be matched allowing for typos
+    public static final String FUZZY_SEARCH_MARKER = "~";
 }
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String[] formatAndFilePath = args.trim().split("\\s+", 2);
+        if (formatAndFilePath.length < 2 || !FileUtil.isValidPath(formatAndFilePath[1])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        AddressBookFormat format;
+        switch (formatAndFilePath[0].toLowerCase()) {
+        case "json":
+            format = AddressBookFormat.JSON;
+            break;
+
+        case "binary":
+            format = AddressBookFormat.BINARY;
+            break;
+
+        case "sharded":
+            format = AddressBookFormat.SHARDED;
+            break;
+
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        return new ExportCommand(format, Paths.get(formatAndFilePath[1]));
+    }
+}
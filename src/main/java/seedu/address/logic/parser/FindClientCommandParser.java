@@ -1,8 +1,10 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FUZZY_SEARCH_MARKER;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.FindClientCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,7 +26,21 @@ public class FindClientCommandParser implements Parser<FindClientCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-        return new FindClientCommand(new ClientContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        boolean isFuzzy = trimmedArgs.startsWith(FUZZY_SEARCH_MARKER);
+        List<String> nameKeywords = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            String unmarkedKeyword = isFuzzy && keyword.startsWith(FUZZY_SEARCH_MARKER)
+                    ? keyword.substring(FUZZY_SEARCH_MARKER.length())
+                    : keyword;
+            if (!unmarkedKeyword.isEmpty()) {
+                nameKeywords.add(unmarkedKeyword);
+            }
+        }
+
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE));
+        }
+
+        return new FindClientCommand(new ClientContainsKeywordsPredicate(nameKeywords), isFuzzy);
     }
 }
@@ -22,11 +22,15 @@ import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
 import seedu.address.model.product.Quantity;
 import seedu.address.model.product.UnitPrice;
+import seedu.address.model.sales.SalesPeriod;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
  */
 public class ParserUtil {
+    public static final String MESSAGE_INVALID_DATE = "Dates should be in the format YYYY/MM/DD, or MM/DD for a date "
+            + "this year";
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
      * Leading and trailing whitespaces will be trimmed.
@@ -179,7 +183,7 @@ public class ParserUtil {
         String[] args = trimmedOrder.split(" ");
         ID productId = new ID(args[0]);
         Quantity quantity = new Quantity(args[1]);
-        LocalDate time = getDate(args[2]);
+        LocalDate time = getDate(args[2], Order.MESSAGE_CONSTRAINTS);
 
         Order orderToAdd;
         try {
@@ -191,7 +195,34 @@ public class ParserUtil {
         return orderToAdd;
     }
 
-    private static LocalDate getDate(String timeStr) throws ParseException {
+    /**
+     * Parses a {@code String date} in the format YYYY/MM/DD, or MM/DD for a date this year, into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        return getDate(date.trim(), MESSAGE_INVALID_DATE);
+    }
+
+    /**
+     * Parses a {@code String period} into a {@code SalesPeriod}.
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     *
+     * @throws ParseException if the given {@code period} is invalid.
+     */
+    public static SalesPeriod parseSalesPeriod(String period) throws ParseException {
+        requireNonNull(period);
+
+        try {
+            return SalesPeriod.fromName(period);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(SalesPeriod.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static LocalDate getDate(String timeStr, String errorMessage) throws ParseException {
         if (timeStr.length() <= 5) {
             int year = Calendar.getInstance().get(Calendar.YEAR);
             timeStr = String.format("%d/%s", year, timeStr);
@@ -203,7 +234,7 @@ public class ParserUtil {
         try {
             time = LocalDate.parse(timeStr, formatter);
         } catch (DateTimeParseException e) {
-            throw new ParseException(Order.MESSAGE_CONSTRAINTS);
+            throw new ParseException(errorMessage);
         }
 
         return time;
@@ -0,0 +1,16 @@
+package seedu.address.logic.parser;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.RevenueCommand;
+import seedu.address.model.sales.SalesPeriod;
+
+/**
+ * Parses input arguments and creates a new RevenueCommand object
+ */
+public class RevenueCommandParser extends SalesRangeCommandParser<RevenueCommand> {
+    @Override
+    protected RevenueCommand createCommand(LocalDate from, LocalDate to, SalesPeriod period) {
+        return new RevenueCommand(from, to, period);
+    }
+}
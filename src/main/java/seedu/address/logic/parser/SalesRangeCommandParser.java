@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.SalesRangeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.sales.SalesPeriod;
+
+/**
+ * Parses the optional range of dates and period of a command that shows sales, and creates the command.
+ */
+public abstract class SalesRangeCommandParser<T extends SalesRangeCommand> implements Parser<T> {
+    public static final String MESSAGE_INVALID_RANGE = "The date after -from should not be after the date after -to";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the command
+     * and returns the command object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public T parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        // The arguments start with a prefix, which is only found after a whitespace
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FROM, PREFIX_TO, PREFIX_BY);
+
+        LocalDate from = null;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        }
+
+        LocalDate to = null;
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        }
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        SalesPeriod period = null;
+        if (argMultimap.getValue(PREFIX_BY).isPresent()) {
+            period = ParserUtil.parseSalesPeriod(argMultimap.getValue(PREFIX_BY).get());
+        }
+
+        return createCommand(from, to, period);
+    }
+
+    /**
+     * Returns the command to show the sales from {@code from} to {@code to} by {@code period}, any of which may be
+     * null if not given.
+     */
+    protected abstract T createCommand(LocalDate from, LocalDate to, SalesPeriod period);
+}
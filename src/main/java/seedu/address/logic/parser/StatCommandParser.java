@@ -0,0 +1,16 @@
+package seedu.address.logic.parser;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.StatCommand;
+import seedu.address.model.sales.SalesPeriod;
+
+/**
+ * Parses input arguments and creates a new StatCommand object
+ */
+public class StatCommandParser extends SalesRangeCommandParser<StatCommand> {
+    @Override
+    protected StatCommand createCommand(LocalDate from, LocalDate to, SalesPeriod period) {
+        return new StatCommand(from, to, period);
+    }
+}
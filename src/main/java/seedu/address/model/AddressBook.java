@@ -1,15 +1,35 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
+import seedu.address.model.commons.KeywordIndex;
+import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderHistory;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.UniqueProductList;
+import seedu.address.model.sales.SalesAggregates;
+import seedu.address.model.sales.SalesRollups;
+import seedu.address.model.sales.SalesTotals;
+import seedu.address.model.sales.exceptions.SalesOverflowException;
 
 /**
  * Wraps all data at the address-book level
@@ -19,6 +39,34 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueClientList clients;
     private final UniqueProductList products;
 
+    // Hand out the IDs of new clients and products. Every client or product added is reserved in them, so that its ID
+    // is not handed out again, even after it has been removed.
+    private final IdAllocator clientIds = new IdAllocator();
+    private final IdAllocator productIds = new IdAllocator();
+
+    // The number of orders of each product by each client with any, by the product ID and then the client ID. Built on
+    // first use only, as it needs the orders of every client, and then kept up to date one order at a time.
+    private Map<ID, Map<ID, Integer>> orderCountsByProductId;
+
+    // The sales of each product and to each client, updated one order at a time. Built on first use only, like the
+    // indexes above.
+    private SalesAggregates salesAggregates;
+
+    // The sales of each product and to each client in each day, week, month and year. Built on first use only, like
+    // the above.
+    private SalesRollups salesRollups;
+
+    // The units and revenue of every order. Every sum kept by the indexes above is at most these totals, so checking
+    // that a change keeps them within a long, before anything is changed, keeps every sum within a long. Built on
+    // first use only, like the indexes above, and only needed once an order is added.
+    private SalesTotals salesTotals;
+
+    // The IDs of the clients and products by each word of their names. Built on first use only, and then kept up to
+    // date. A name is indexed before its client or product is put in its list, as the predicates returned by
+    // getClientNameMatcher and getProductNameMatcher look the name up when the filtered lists are notified.
+    private KeywordIndex clientKeywords;
+    private KeywordIndex productKeywords;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -49,7 +97,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code clients} must not contain duplicate clients.
      */
     public void setClients(List<Client> clients) {
+        clientKeywords = null;
         this.clients.setClients(clients);
+        clients.forEach(client -> clientIds.reserve(client.getId()));
+        orderCountsByProductId = null;
+        salesAggregates = null;
+        salesRollups = null;
+        salesTotals = null;
     }
 
     /**
@@ -57,15 +111,35 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code products} must not contain duplicate products.
      */
     public void setProducts(List<Product> products) {
+        productKeywords = null;
         this.products.setProducts(products);
+        products.forEach(product -> productIds.reserve(product.getId()));
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Each list is replaced in one change, so listeners of the lists are notified once per list.
+     * The IDs handed out next are those that {@code newData} would hand out next.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        clientIds.reset(newData.getNextClientId());
+        productIds.reset(newData.getNextProductId());
+        if (newData instanceof AddressBook) {
+            // the lists of another address book are known to be unique, and their indexes can be copied
+            AddressBook otherAddressBook = (AddressBook) newData;
+            clientKeywords = null;
+            productKeywords = null;
+            clients.setClients(otherAddressBook.clients);
+            products.setProducts(otherAddressBook.products);
+            orderCountsByProductId = null;
+            salesAggregates = null;
+            salesRollups = null;
+            salesTotals = null;
+            return;
+        }
+
         setClients(newData.getClientList());
         setProducts(newData.getProductList());
     }
@@ -80,23 +154,73 @@ public class AddressBook implements ReadOnlyAddressBook {
         return clients.contains(client);
     }
 
+    @Override
+    public Optional<Client> findClient(ID id) {
+        requireNonNull(id);
+        return clients.find(id);
+    }
+
     /**
      * Adds a client to the address book.
      * The client must not already exist in the address book.
+     *
+     * @throws SalesOverflowException if the units or revenue of the orders would be too large to be counted, in which
+     *     case nothing is changed.
      */
     public void addClient(Client p) {
-        clients.add(p);
+        requireNonNull(p);
+
+        SalesTotals newTotals = countTotals(List.of(), p.getOrders());
+        indexName(clientKeywords, p.getId(), p.getName());
+        try {
+            clients.add(p);
+        } catch (RuntimeException e) {
+            clientKeywords = null;
+            throw e;
+        }
+
+        clientIds.reserve(p.getId());
+        indexOrders(p);
+        salesTotals = newTotals;
     }
 
     /**
      * Replaces the given client {@code target} in the list with {@code editedClient}.
      * {@code target} must exist in the address book.
      * The client identity of {@code editedClient} must not be the same as another existing client in the address book.
+     *
+     * @throws SalesOverflowException if the units or revenue of the orders would be too large to be counted, in which
+     *     case nothing is changed.
      */
     public void setClient(Client target, Client editedClient) {
-        requireNonNull(editedClient);
+        requireAllNonNull(target, editedClient);
+
+        // an edit that keeps the same set of orders, such as of the details of a client with unread orders, changes
+        // nothing in the indexes, and should not read the orders
+        boolean isOrdersChanged = target.getOrders() != editedClient.getOrders()
+                || !target.isSameClient(editedClient);
+        SalesTotals newTotals = isOrdersChanged
+                ? countTotals(target.getOrders(), editedClient.getOrders())
+                : salesTotals;
+        if (clientKeywords != null && !target.getId().equals(editedClient.getId())) {
+            clientKeywords.remove(target.getId());
+        }
 
-        clients.setClient(target, editedClient);
+        indexName(clientKeywords, editedClient.getId(), editedClient.getName());
+        try {
+            clients.setClient(target, editedClient);
+        } catch (RuntimeException e) {
+            clientKeywords = null;
+            throw e;
+        }
+
+        clientIds.reserve(editedClient.getId());
+        if (isOrdersChanged) {
+            unindexOrders(target);
+            indexOrders(editedClient);
+        }
+
+        salesTotals = newTotals;
     }
 
     /**
@@ -104,7 +228,279 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeClient(Client key) {
+        SalesTotals newTotals = countTotals(key.getOrders(), List.of());
         clients.remove(key);
+        unindexOrders(key);
+        salesTotals = newTotals;
+        if (clientKeywords != null) {
+            clientKeywords.remove(key.getId());
+        }
+    }
+
+    //// order-level operations
+    // Clients in the address book are never changed in place, so that the lists can be shared with a snapshot
+    // that is being saved. Changing an order replaces its client with an updated copy instead.
+
+    /**
+     * Adds {@code order} to the orders of {@code client}.
+     * {@code client} must exist in the address book, and is replaced by a copy that includes {@code order}.
+     *
+     * @throws SalesOverflowException if the units or revenue of the orders would be too large to be counted, in which
+     *     case nothing is changed.
+     */
+    public void addOrder(Client client, Order order) {
+        requireAllNonNull(client, order);
+
+        OrderHistory orders = client.getOrderHistory();
+        Order addedOrder = orders.identify(order);
+        replaceOrders(client, orders.with(addedOrder), List.of(),
+                orders.contains(addedOrder) ? List.of() : List.of(addedOrder));
+    }
+
+    /**
+     * Replaces the order {@code target} of {@code client} with {@code editedOrder}.
+     * {@code client} must exist in the address book, and is replaced by a copy with the edited order. The edited order
+     * keeps the ID of {@code target} if it has none of its own.
+     *
+     * @throws SalesOverflowException if the units or revenue of the orders would be too large to be counted, in which
+     *     case nothing is changed.
+     */
+    public void setOrder(Client client, Order target, Order editedOrder) {
+        requireAllNonNull(client, target, editedOrder);
+
+        OrderHistory orders = client.getOrderHistory();
+        Order orderToPut = orders.identify(editedOrder.getId().isEmpty() && target.getId().isPresent()
+                ? editedOrder.withId(target.getId().get())
+                : editedOrder);
+        replaceOrders(client, orders.withChanges(target::equals, List.of(orderToPut)),
+                orders.contains(target) ? List.of(target) : List.of(),
+                orders.contains(orderToPut) && !orderToPut.equals(target) ? List.of() : List.of(orderToPut));
+    }
+
+    /**
+     * Removes every order of the product with {@code productId} from the orders of {@code client}.
+     * {@code client} must exist in the address book, and is replaced by a copy without the orders if any exists.
+     *
+     * @return The latest order removed if any exists; null otherwise.
+     */
+    public Order removeOrder(Client client, ID productId) {
+        requireAllNonNull(client, productId);
+
+        OrderHistory orders = client.getOrderHistory();
+        List<Order> removedOrders = orders.stream()
+                .filter(order -> order.getProductId().equals(productId))
+                .collect(Collectors.toList());
+        if (removedOrders.isEmpty()) {
+            return null;
+        }
+
+        replaceOrders(client, orders.withChanges(order -> order.getProductId().equals(productId), List.of()),
+                removedOrders, List.of());
+        return removedOrders.get(removedOrders.size() - 1);
+    }
+
+    /**
+     * Replaces {@code client} with a copy with {@code updatedOrders}, which are its orders without
+     * {@code removedOrders} and with {@code addedOrders}. Only the orders removed and added are unindexed and indexed,
+     * rather than every order of the client.
+     */
+    private void replaceOrders(Client client, OrderHistory updatedOrders, List<Order> removedOrders,
+            List<Order> addedOrders) {
+        SalesTotals newTotals = countTotals(removedOrders, addedOrders);
+        clients.setClient(client, withOrders(client, updatedOrders));
+        removedOrders.forEach(order -> uncountOrder(client.getId(), order));
+        addedOrders.forEach(order -> countOrder(client.getId(), order));
+        salesTotals = newTotals;
+    }
+
+    /**
+     * Returns true if the units and revenue of the orders of the address book would not be too large to be counted
+     * after {@code removedOrders}, which must be orders in the address book, are removed and {@code addedOrders} are
+     * added.
+     */
+    public boolean canCountOrders(Collection<Order> removedOrders, Collection<Order> addedOrders) {
+        requireAllNonNull(removedOrders, addedOrders);
+
+        try {
+            countTotals(removedOrders, addedOrders);
+            return true;
+        } catch (SalesOverflowException soe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the totals of the orders of the address book after {@code removedOrders} are removed and
+     * {@code addedOrders} are added, without changing anything. Returns null if the totals have not been counted and
+     * need not be, as no order is added.
+     *
+     * @throws SalesOverflowException if the units or revenue would be too large to be counted.
+     */
+    private SalesTotals countTotals(Collection<Order> removedOrders, Collection<Order> addedOrders) {
+        if (salesTotals == null && addedOrders.isEmpty()) {
+            return null;
+        }
+
+        return getSalesTotals().minus(removedOrders).plus(addedOrders);
+    }
+
+    /**
+     * Returns the totals of every order, counting them if they have not been counted yet.
+     * The orders of a client that have not been read yet are not read if their totals are known without them.
+     *
+     * @throws SalesOverflowException if the orders, such as of a data file edited by hand, are too large to be counted.
+     */
+    private SalesTotals getSalesTotals() {
+        if (salesTotals == null) {
+            SalesTotals totals = SalesTotals.NONE;
+            for (Client client : clients) {
+                totals = totals.plus(client.getOrders());
+            }
+
+            salesTotals = totals;
+        }
+
+        return salesTotals;
+    }
+
+    @Override
+    public List<Client> getClientsWithOrder(ID productId) {
+        requireNonNull(productId);
+
+        Set<ID> clientIds = getOrderCountsByProductId().getOrDefault(productId, Collections.emptyMap()).keySet();
+        List<Client> clientsWithOrder = new ArrayList<>(clientIds.size());
+        for (ID clientId : clientIds) {
+            clientsWithOrder.add(clients.find(clientId).get());
+        }
+
+        return clientsWithOrder;
+    }
+
+    private Map<ID, Map<ID, Integer>> getOrderCountsByProductId() {
+        if (orderCountsByProductId == null) {
+            orderCountsByProductId = new HashMap<>();
+            for (Client client : clients) {
+                client.getOrders().forEach(order -> countOrderOfProduct(client.getId(), order));
+            }
+        }
+
+        return orderCountsByProductId;
+    }
+
+    @Override
+    public SalesAggregates getSalesAggregates() {
+        if (salesAggregates == null) {
+            // the totals are counted first, so that no sum overflows halfway through
+            getSalesTotals();
+            salesAggregates = new SalesAggregates();
+            for (Client client : clients) {
+                client.getOrders().forEach(order -> salesAggregates.addOrder(client.getId(), order));
+            }
+        }
+
+        return salesAggregates;
+    }
+
+    @Override
+    public SalesRollups getSalesRollups() {
+        if (salesRollups == null) {
+            getSalesTotals();
+            salesRollups = new SalesRollups();
+            for (Client client : clients) {
+                client.getOrders().forEach(order -> salesRollups.addOrder(client.getId(), order));
+            }
+        }
+
+        return salesRollups;
+    }
+
+    private void indexOrders(Client client) {
+        // the orders of a client that have not been read yet are only read if an index needs them
+        if (salesAggregates != null || salesRollups != null || orderCountsByProductId != null) {
+            client.getOrders().forEach(order -> countOrder(client.getId(), order));
+        }
+    }
+
+    private void unindexOrders(Client client) {
+        if (salesAggregates != null || salesRollups != null || orderCountsByProductId != null) {
+            client.getOrders().forEach(order -> uncountOrder(client.getId(), order));
+        }
+    }
+
+    /**
+     * Adds {@code order} to the indexes that have been built.
+     */
+    private void countOrder(ID clientId, Order order) {
+        if (salesAggregates != null) {
+            salesAggregates.addOrder(clientId, order);
+        }
+
+        if (salesRollups != null) {
+            salesRollups.addOrder(clientId, order);
+        }
+
+        if (orderCountsByProductId != null) {
+            countOrderOfProduct(clientId, order);
+        }
+    }
+
+    /**
+     * Removes {@code order} from the indexes that have been built.
+     */
+    private void uncountOrder(ID clientId, Order order) {
+        if (salesAggregates != null) {
+            salesAggregates.removeOrder(clientId, order);
+        }
+
+        if (salesRollups != null) {
+            salesRollups.removeOrder(clientId, order);
+        }
+
+        if (orderCountsByProductId == null) {
+            return;
+        }
+
+        Map<ID, Integer> orderCounts = orderCountsByProductId.get(order.getProductId());
+        if (orderCounts == null) {
+            return;
+        }
+
+        orderCounts.computeIfPresent(clientId, (unused, count) -> count == 1 ? null : count - 1);
+        if (orderCounts.isEmpty()) {
+            orderCountsByProductId.remove(order.getProductId());
+        }
+    }
+
+    private void countOrderOfProduct(ID clientId, Order order) {
+        orderCountsByProductId.computeIfAbsent(order.getProductId(), unused -> new HashMap<>())
+                .merge(clientId, 1, Integer::sum);
+    }
+
+    @Override
+    public Predicate<Client> getClientNameMatcher(List<String> keywords) {
+        List<String> normalizedKeywords = KeywordIndex.normalize(keywords);
+        return client -> getClientKeywords().hasAnyKeyword(client.getId(), normalizedKeywords);
+    }
+
+    @Override
+    public Map<ID, Integer> findClientsWithNameNear(List<String> terms) {
+        return getClientKeywords().findWithinEdits(KeywordIndex.normalize(terms));
+    }
+
+    private KeywordIndex getClientKeywords() {
+        if (clientKeywords == null) {
+            clientKeywords = new KeywordIndex();
+            for (Client client : clients) {
+                clientKeywords.put(client.getId(), client.getName());
+            }
+        }
+
+        return clientKeywords;
+    }
+
+    private static Client withOrders(Client client, Set<Order> orders) {
+        return Client.updateClient(client, client.getName(), client.getPhoneNumber(), client.getEmail(),
+                client.getAddress(), orders);
     }
 
     //// product-level operations
@@ -117,12 +513,36 @@ public class AddressBook implements ReadOnlyAddressBook {
         return products.hasProductWithSameName(product);
     }
 
+    /**
+     * Returns true if a product named {@code name} exists in the address book.
+     */
+    public boolean hasProductWithName(Name name) {
+        requireNonNull(name);
+        return products.hasProductWithName(name);
+    }
+
+    @Override
+    public Optional<Product> findProduct(ID id) {
+        requireNonNull(id);
+        return products.find(id);
+    }
+
     /**
      * Adds a product to the address book.
      * The product must not already exist in the address book.
      */
     public void addProduct(Product p) {
-        products.add(p);
+        requireNonNull(p);
+
+        indexName(productKeywords, p.getId(), p.getName());
+        try {
+            products.add(p);
+        } catch (RuntimeException e) {
+            productKeywords = null;
+            throw e;
+        }
+
+        productIds.reserve(p.getId());
     }
 
     /**
@@ -132,9 +552,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * book.
      */
     public void setProduct(Product target, Product editedProduct) {
-        requireNonNull(editedProduct);
+        requireAllNonNull(target, editedProduct);
+
+        if (productKeywords != null && !target.getId().equals(editedProduct.getId())) {
+            productKeywords.remove(target.getId());
+        }
+
+        indexName(productKeywords, editedProduct.getId(), editedProduct.getName());
+        try {
+            products.setProduct(target, editedProduct);
+        } catch (RuntimeException e) {
+            productKeywords = null;
+            throw e;
+        }
 
-        products.setProduct(target, editedProduct);
+        productIds.reserve(editedProduct.getId());
     }
 
     /**
@@ -143,10 +575,78 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeProduct(Product key) {
         products.remove(key);
+        if (productKeywords != null) {
+            productKeywords.remove(key.getId());
+        }
+    }
+
+    @Override
+    public Predicate<Product> getProductNameMatcher(List<String> keywords) {
+        List<String> normalizedKeywords = KeywordIndex.normalize(keywords);
+        return product -> getProductKeywords().hasAnyKeyword(product.getId(), normalizedKeywords);
+    }
+
+    @Override
+    public Map<ID, Integer> findProductsWithNameNear(List<String> terms) {
+        return getProductKeywords().findWithinEdits(KeywordIndex.normalize(terms));
+    }
+
+    private KeywordIndex getProductKeywords() {
+        if (productKeywords == null) {
+            productKeywords = new KeywordIndex();
+            for (Product product : products) {
+                productKeywords.put(product.getId(), product.getName());
+            }
+        }
+
+        return productKeywords;
+    }
+
+    /**
+     * Indexes {@code name} in {@code keywords}, if the index has been built.
+     */
+    private static void indexName(KeywordIndex keywords, ID id, Name name) {
+        if (keywords != null) {
+            keywords.put(id, name);
+        }
+    }
+
+    //// ID operations
+
+    /**
+     * Returns the allocator that hands out the IDs of new clients of this address book.
+     */
+    public IdAllocator getClientIdAllocator() {
+        return clientIds;
+    }
+
+    /**
+     * Returns the allocator that hands out the IDs of new products of this address book.
+     */
+    public IdAllocator getProductIdAllocator() {
+        return productIds;
+    }
+
+    @Override
+    public int getNextClientId() {
+        return clientIds.getNextId();
+    }
+
+    @Override
+    public int getNextProductId() {
+        return productIds.getNextId();
     }
 
     //// util methods
 
+    /**
+     * Returns a version number that increases every time the clients, products or orders of this address book are
+     * modified. Two equal versions of the same address book therefore always describe the same contents.
+     */
+    public long getModificationVersion() {
+        return clients.getModificationCount() + products.getModificationCount();
+    }
+
     @Override
     public String toString() {
         return clients.asUnmodifiableObservableList().size() + " clients"
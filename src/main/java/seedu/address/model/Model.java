@@ -1,12 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.Client;
 import seedu.address.model.commons.ID;
+import seedu.address.model.commons.Name;
+import seedu.address.model.commons.exceptions.IdsExhaustedException;
+import seedu.address.model.order.Order;
 import seedu.address.model.product.Product;
 
 /**
@@ -55,17 +62,40 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a version number of the address book that increases with every modification made to it.
+     * The address book is unchanged for as long as the version stays the same.
+     */
+    long getModificationVersion();
+
     /**
      * Returns true if a client with the same identity as {@code client} exists in the address book.
      */
     boolean hasClient(Client client);
 
+    /**
+     * Returns the client with the given {@code clientId} in the address book, if any.
+     */
+    Optional<Client> findClient(ID clientId);
+
+    /**
+     * Returns the clients in the address book with an order of the product with {@code productId}.
+     */
+    List<Client> getClientsWithOrder(ID productId);
+
     /**
      * Deletes the given client.
      * The client must exist in the address book.
      */
     void deleteClient(Client target);
 
+    /**
+     * Returns an ID for a new client, which no client of the address book has had.
+     *
+     * @throws IdsExhaustedException if every client ID has been handed out.
+     */
+    ID allocateClientId();
+
     /**
      * Adds the given client.
      * {@code client} must not already exist in the address book.
@@ -79,6 +109,33 @@ public interface Model {
      */
     void setClient(Client target, Client editedClient);
 
+    /**
+     * Adds {@code order} to the orders of {@code client}.
+     * {@code client} must exist in the address book, and is replaced by a copy that includes the order.
+     */
+    void addOrder(Client client, Order order);
+
+    /**
+     * Replaces the order {@code target} of {@code client} with {@code editedOrder}.
+     * {@code client} must exist in the address book, and is replaced by a copy with the edited order.
+     */
+    void setOrder(Client client, Order target, Order editedOrder);
+
+    /**
+     * Removes the order of the product with {@code productId} from the orders of {@code client}.
+     * {@code client} must exist in the address book, and is replaced by a copy without the order.
+     *
+     * @return The order removed if it exists; null otherwise.
+     */
+    Order removeOrder(Client client, ID productId);
+
+    /**
+     * Returns true if the units and revenue of the orders in the address book would not be too large to be counted
+     * after {@code removedOrders}, which must be orders in the address book, are removed and {@code addedOrders} are
+     * added. Changes that would make them too large are rejected by the address book.
+     */
+    boolean canCountOrders(Collection<Order> removedOrders, Collection<Order> addedOrders);
+
     /** Returns an unmodifiable view of the filtered client list */
     ObservableList<Client> getFilteredClientList();
 
@@ -89,6 +146,14 @@ public interface Model {
      */
     void updateFilteredClientList(Predicate<Client> predicate);
 
+    /**
+     * Updates the filter of the filtered client list to filter by the given {@code predicate}, and orders the clients
+     * shown by {@code comparator}. Clients the comparator considers equal keep their order in the address book.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredClientList(Predicate<Client> predicate, Comparator<Client> comparator);
+
     // =======================================================================================================
 
     /**
@@ -97,9 +162,14 @@ public interface Model {
     boolean hasProduct(Product product);
 
     /**
-     * Returns true if a product has the identity {@code productId} exists in the address book.
+     * Returns true if a product named {@code name} exists in the address book.
      */
-    boolean hasProduct(ID productId);
+    boolean hasProductWithName(Name name);
+
+    /**
+     * Returns the product with the given {@code productId} in the address book, if any.
+     */
+    Optional<Product> findProduct(ID productId);
 
     /**
      * Deletes the given product.
@@ -107,6 +177,13 @@ public interface Model {
      */
     void deleteProduct(Product target);
 
+    /**
+     * Returns an ID for a new product, which no product of the address book has had.
+     *
+     * @throws IdsExhaustedException if every product ID has been handed out.
+     */
+    ID allocateProductId();
+
     /**
      * Adds the given product.
      * {@code product} must not already exist in the address book.
@@ -121,11 +198,6 @@ public interface Model {
      */
     void setProduct(Product target, Product editedProduct);
 
-    /**
-     * Given {@code productId} of a product, returns the product.
-     */
-    Product getProductById(ID productId);
-
     /** Returns an unmodifiable view of the filtered product list */
     ObservableList<Product> getFilteredProductList();
 
@@ -135,4 +207,13 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredProductList(Predicate<Product> predicate);
+
+    /**
+     * Updates the filter of the filtered product list to filter by the given {@code predicate}, and orders the
+     * products shown by {@code comparator}. Products the comparator considers equal keep their order in the address
+     * book.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredProductList(Predicate<Product> predicate, Comparator<Product> comparator);
 }
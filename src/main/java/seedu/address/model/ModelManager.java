@@ -4,15 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.client.Client;
 import seedu.address.model.commons.ID;
+import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
 import seedu.address.model.product.Product;
 
 /**
@@ -26,6 +33,8 @@ public class ModelManager implements Model {
 
     private final FilteredList<Client> filteredClients;
     private final FilteredList<Product> filteredProducts;
+    private final SortedList<Client> sortedClients;
+    private final SortedList<Product> sortedProducts;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,6 +50,9 @@ public class ModelManager implements Model {
 
         filteredClients = new FilteredList<>(this.addressBook.getClientList());
         filteredProducts = new FilteredList<>(this.addressBook.getProductList());
+        // Without a comparator, the sorted lists keep the order of the address book
+        sortedClients = new SortedList<>(filteredClients);
+        sortedProducts = new SortedList<>(filteredProducts);
     }
 
     public ModelManager() {
@@ -94,17 +106,39 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getModificationVersion() {
+        return addressBook.getModificationVersion();
+    }
+
     @Override
     public boolean hasClient(Client client) {
         requireNonNull(client);
         return addressBook.hasClient(client);
     }
 
+    @Override
+    public Optional<Client> findClient(ID clientId) {
+        requireNonNull(clientId);
+        return addressBook.findClient(clientId);
+    }
+
+    @Override
+    public List<Client> getClientsWithOrder(ID productId) {
+        requireNonNull(productId);
+        return addressBook.getClientsWithOrder(productId);
+    }
+
     @Override
     public void deleteClient(Client target) {
         addressBook.removeClient(target);
     }
 
+    @Override
+    public ID allocateClientId() {
+        return addressBook.getClientIdAllocator().allocate();
+    }
+
     @Override
     public void addClient(Client client) {
         addressBook.addClient(client);
@@ -117,6 +151,30 @@ public class ModelManager implements Model {
         addressBook.setClient(target, editedClient);
     }
 
+    @Override
+    public void addOrder(Client client, Order order) {
+        requireAllNonNull(client, order);
+        addressBook.addOrder(client, order);
+    }
+
+    @Override
+    public void setOrder(Client client, Order target, Order editedOrder) {
+        requireAllNonNull(client, target, editedOrder);
+        addressBook.setOrder(client, target, editedOrder);
+    }
+
+    @Override
+    public Order removeOrder(Client client, ID productId) {
+        requireAllNonNull(client, productId);
+        return addressBook.removeOrder(client, productId);
+    }
+
+    @Override
+    public boolean canCountOrders(Collection<Order> removedOrders, Collection<Order> addedOrders) {
+        requireAllNonNull(removedOrders, addedOrders);
+        return addressBook.canCountOrders(removedOrders, addedOrders);
+    }
+
     @Override
     public boolean hasProduct(Product product) {
         requireNonNull(product);
@@ -124,10 +182,15 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public boolean hasProduct(ID productId) {
-        requireAllNonNull(productId);
-        FilteredList<Product> products = new FilteredList<>(addressBook.getProductList());
-        return products.stream().anyMatch(product -> product.getId().equals(productId));
+    public boolean hasProductWithName(Name name) {
+        requireNonNull(name);
+        return addressBook.hasProductWithName(name);
+    }
+
+    @Override
+    public Optional<Product> findProduct(ID productId) {
+        requireNonNull(productId);
+        return addressBook.findProduct(productId);
     }
 
     @Override
@@ -135,6 +198,11 @@ public class ModelManager implements Model {
         addressBook.removeProduct(target);
     }
 
+    @Override
+    public ID allocateProductId() {
+        return addressBook.getProductIdAllocator().allocate();
+    }
+
     @Override
     public void addProduct(Product product) {
         addressBook.addProduct(product);
@@ -147,13 +215,6 @@ public class ModelManager implements Model {
         addressBook.setProduct(target, editedProduct);
     }
 
-    @Override
-    public Product getProductById(ID productId) {
-        FilteredList<Product> products = new FilteredList<>(addressBook.getProductList());
-        products.setPredicate(product -> product.getId().equals(productId));
-        return products.get(0);
-    }
-
     //=========== Filtered Client List Accessors =============================================================
 
     /**
@@ -162,13 +223,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Client> getFilteredClientList() {
-        return filteredClients;
+        return sortedClients;
     }
 
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
+        sortedClients.setComparator(null);
+        filteredClients.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredClientList(Predicate<Client> predicate, Comparator<Client> comparator) {
+        requireAllNonNull(predicate, comparator);
         filteredClients.setPredicate(predicate);
+        sortedClients.setComparator(comparator);
     }
 
     //=========== Filtered Product List Accessors ============================================================
@@ -179,13 +248,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Product> getFilteredProductList() {
-        return filteredProducts;
+        return sortedProducts;
     }
 
     @Override
     public void updateFilteredProductList(Predicate<Product> predicate) {
         requireNonNull(predicate);
+        sortedProducts.setComparator(null);
+        filteredProducts.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredProductList(Predicate<Product> predicate, Comparator<Product> comparator) {
+        requireAllNonNull(predicate, comparator);
         filteredProducts.setPredicate(predicate);
+        sortedProducts.setComparator(comparator);
     }
 
     //=========== Others =====================================================================================
@@ -206,8 +283,8 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                        && userPrefs.equals(other.userPrefs)
-                       && filteredClients.equals(other.filteredClients)
-                       && filteredProducts.equals(other.filteredProducts);
+                       && sortedClients.equals(other.sortedClients)
+                       && sortedProducts.equals(other.sortedProducts);
     }
 
 }
@@ -1,8 +1,23 @@
 package seedu.address.model;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
+import seedu.address.model.commons.KeywordIndex;
+import seedu.address.model.order.Order;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.ProductContainsKeywordsPredicate;
+import seedu.address.model.sales.SalesAggregates;
+import seedu.address.model.sales.SalesRollups;
 
 /**
  * Unmodifiable view of an address book
@@ -19,4 +34,118 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate products.
      */
     ObservableList<Product> getProductList();
+
+    /**
+     * Returns the client with the given {@code id}, if any.
+     * The default implementation searches the clients list.
+     */
+    default Optional<Client> findClient(ID id) {
+        return getClientList().stream().filter(client -> client.getId().equals(id)).findFirst();
+    }
+
+    /**
+     * Returns the product with the given {@code id}, if any.
+     * The default implementation searches the products list.
+     */
+    default Optional<Product> findProduct(ID id) {
+        return getProductList().stream().filter(product -> product.getId().equals(id)).findFirst();
+    }
+
+    /**
+     * Returns the clients with an order of the product with {@code productId}.
+     * The default implementation searches the orders of every client.
+     */
+    default List<Client> getClientsWithOrder(ID productId) {
+        return getClientList().stream().filter(client -> client.hasOrder(productId)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the sales of each product and to each client, counted from the orders of every client. The sales must
+     * not be modified. The default implementation counts every order into new sales.
+     */
+    default SalesAggregates getSalesAggregates() {
+        SalesAggregates sales = new SalesAggregates();
+        for (Client client : getClientList()) {
+            for (Order order : client.getOrders()) {
+                sales.addOrder(client.getId(), order);
+            }
+        }
+
+        return sales;
+    }
+
+    /**
+     * Returns the sales of each product and to each client in each period, counted from the orders of every client.
+     * The rollups must not be modified. The default implementation counts every order into new rollups.
+     */
+    default SalesRollups getSalesRollups() {
+        SalesRollups rollups = new SalesRollups();
+        for (Client client : getClientList()) {
+            client.getOrders().forEach(order -> rollups.addOrder(client.getId(), order));
+        }
+
+        return rollups;
+    }
+
+    /**
+     * Returns a predicate that tests whether the name of a client of this address book contains any of
+     * {@code keywords} as a whole word, ignoring case.
+     * The default implementation checks the words of each name as it is tested.
+     */
+    default Predicate<Client> getClientNameMatcher(List<String> keywords) {
+        return new ClientContainsKeywordsPredicate(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests whether the name of a product of this address book contains any of
+     * {@code keywords} as a whole word, ignoring case.
+     * The default implementation checks the words of each name as it is tested.
+     */
+    default Predicate<Product> getProductNameMatcher(List<String> keywords) {
+        return new ProductContainsKeywordsPredicate(keywords);
+    }
+
+    /**
+     * Returns the edit distance of the name of each client within a few typos of any of {@code terms}, ignoring case,
+     * by the ID of the client.
+     * The default implementation indexes every name for each search.
+     *
+     * @see KeywordIndex#findWithinEdits(Collection)
+     */
+    default Map<ID, Integer> findClientsWithNameNear(List<String> terms) {
+        KeywordIndex index = new KeywordIndex();
+        getClientList().forEach(client -> index.put(client.getId(), client.getName()));
+        return index.findWithinEdits(KeywordIndex.normalize(terms));
+    }
+
+    /**
+     * Returns the edit distance of the name of each product within a few typos of any of {@code terms}, ignoring case,
+     * by the ID of the product.
+     * The default implementation indexes every name for each search.
+     *
+     * @see KeywordIndex#findWithinEdits(Collection)
+     */
+    default Map<ID, Integer> findProductsWithNameNear(List<String> terms) {
+        KeywordIndex index = new KeywordIndex();
+        getProductList().forEach(product -> index.put(product.getId(), product.getName()));
+        return index.findWithinEdits(KeywordIndex.normalize(terms));
+    }
+
+    /**
+     * Returns the lowest ID that may be given to a new client, which is above the ID of every client there has been.
+     * The default implementation only knows of the clients in the clients list.
+     */
+    default int getNextClientId() {
+        return getClientList().stream().mapToInt(client -> client.getId().getId() + 1)
+                .max().orElse(IdAllocator.FIRST_ID);
+    }
+
+    /**
+     * Returns the lowest ID that may be given to a new product, which is above the ID of every product there has been.
+     * The default implementation only knows of the products in the products list.
+     */
+    default int getNextProductId() {
+        return getProductList().stream().mapToInt(product -> product.getId().getId() + 1)
+                .max().orElse(IdAllocator.FIRST_ID);
+    }
 }
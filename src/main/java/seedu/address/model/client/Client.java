@@ -2,7 +2,9 @@ package seedu.address.model.client;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -11,7 +13,9 @@ import java.util.logging.Logger;
 import seedu.address.model.Category;
 import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
+import seedu.address.model.order.LazyOrderSet;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderHistory;
 
 /**
  * Represents a Client in the app.
@@ -26,13 +30,15 @@ public class Client implements Category {
     private final PhoneNumber phoneNumber;
     private final Email email;
     private final Address address;
+    // An OrderHistory, or a LazyOrderSet if the orders have not been read yet. Neither can be modified, so both are
+    // shared rather than copied, and a change to the orders makes a new Client.
     private final Set<Order> orders;
 
-    public Client(Name name, PhoneNumber phoneNumber, Email email, Address address, Set<Order> orders) {
-        this(ID.getNewClientID(), name, phoneNumber, email, address, orders);
-    }
-
-    private Client(ID id, Name name, PhoneNumber phoneNumber, Email email, Address address, Set<Order> orders) {
+    /**
+     * Every field but {@code email}, {@code address} and {@code orders} must be present and not null.
+     * New clients are given an ID by the {@link seedu.address.model.commons.IdAllocator} of their address book.
+     */
+    public Client(ID id, Name name, PhoneNumber phoneNumber, Email email, Address address, Set<Order> orders) {
         requireAllNonNull(id, name, phoneNumber);
 
         this.id = id;
@@ -40,13 +46,14 @@ public class Client implements Category {
         this.phoneNumber = phoneNumber;
         this.email = email;
         this.address = address;
-        this.orders = new HashSet<>();
-        if (orders != null) {
-            this.orders.addAll(orders);
+        if (orders instanceof LazyOrderSet || orders instanceof OrderHistory) {
+            this.orders = orders;
+        } else {
+            this.orders = orders == null ? new OrderHistory() : new OrderHistory(orders);
         }
 
         Logger logger = Logger.getLogger("create client object");
-        logger.info("new client created");
+        logger.fine("new client created");
     }
 
     public ID getId() {
@@ -69,52 +76,68 @@ public class Client implements Category {
         return address;
     }
 
+    /**
+     * Returns the orders of the client, from the earliest to the latest.
+     */
     public Set<Order> getOrders() {
         return orders;
     }
 
     /**
-     * Adds an order into the client's set of orders.
-     *
-     * @param orderToAdd The order to be added.
+     * Returns the orders of the client as a history, reading them if they have not been read yet.
+     */
+    public OrderHistory getOrderHistory() {
+        if (orders instanceof LazyOrderSet) {
+            return ((LazyOrderSet) orders).getHistory();
+        }
+
+        return (OrderHistory) orders;
+    }
+
+    /**
+     * Returns up to {@code count} of the latest orders of the client, from the latest to the earliest.
+     */
+    public List<Order> getLatestOrders(int count) {
+        return getOrderHistory().getLatest(count);
+    }
+
+    /**
+     * Returns the orders of the client made from {@code from} to {@code to}, both inclusive, from the earliest to the
+     * latest.
      */
-    public void addOrder(Order orderToAdd) {
-        orders.add(orderToAdd);
+    public NavigableSet<Order> getOrdersBetween(LocalDate from, LocalDate to) {
+        return getOrderHistory().getBetween(from, to);
     }
 
     /**
-     * Checks if the product name appears in the client's set of orders.
+     * Checks if the product ID appears in the client's set of orders.
      *
-     * @param productName The name of the product.
+     * @param productId The ID of the product.
      * @return True if it does appear; false otherwise.
      */
-    public boolean hasOrder(Name productName) {
-        return orders.stream().anyMatch(order -> order.getProductName().equals(productName));
+    public boolean hasOrder(ID productId) {
+        return orders.stream().anyMatch(order -> order.getProductId().equals(productId));
     }
 
     /**
-     * Removes the order with the same product name from the client's set of orders.
+     * Returns the latest order with the given product ID from the client's set of orders.
      *
-     * @param productName The name of the product of the order to be removed.
-     * @return The order removed if it exists; null otherwise.
+     * @param productId The ID of the product.
+     * @return The order if it exists; an empty Optional otherwise.
      */
-    public Order removeOrder(Name productName) {
-        Optional<Order> optionalOrder = orders.stream()
-                .filter(order -> order.getProductName().equals(productName))
-                .findAny();
-
-        if (optionalOrder.isPresent()) {
-            Order orderToRemove = optionalOrder.get();
-            orders.remove(orderToRemove);
-            return orderToRemove;
+    public Optional<Order> getOrder(ID productId) {
+        Order latestOrder = null;
+        for (Order order : orders) {
+            if (order.getProductId().equals(productId)) {
+                latestOrder = order;
+            }
         }
 
-        return null;
+        return Optional.ofNullable(latestOrder);
     }
 
     /**
-     * Returns a new copy of the {@code Client} with the same ID but the supplied data fields. <br>
-     * The only way to copy the ID of a {@code Client} over to another {@code Client}.
+     * Returns a new copy of the {@code Client} with the same ID but the supplied data fields.
      *
      * @param client ID of the original client.
      * @param name New name for the client.
@@ -15,6 +15,10 @@ public class ClientContainsKeywordsPredicate implements Predicate<Client> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Client client) {
         return keywords.stream()
@@ -3,13 +3,17 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.commons.ID;
 
 /**
  * A list of clients that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +22,9 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
+ * Clients are also indexed by their IDs, so that finding, replacing and checking for a client does not search the
+ * list. Removing a client only marks the recorded positions after it as out of date, and they are recorded again the
+ * next time one of them is needed, so that removing several clients in a row renumbers the rest of the list once.
  *
  * @see Client#isSameClient(Client)
  */
@@ -25,13 +32,28 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount;
+
+    // The clients in internalList and their positions in it, by their IDs
+    private final Map<ID, Client> clientsById = new HashMap<>();
+    private final Map<ID, Integer> positionsById = new HashMap<>();
+    // The positions recorded from this one onwards may be out of date
+    private int stalePositionsFrom;
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return clientsById.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Returns the client with the given {@code id}, if any.
+     */
+    public Optional<Client> find(ID id) {
+        requireNonNull(id);
+        return Optional.ofNullable(clientsById.get(id));
     }
 
     /**
@@ -45,6 +67,13 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.add(toAdd);
+        clientsById.put(toAdd.getId(), toAdd);
+        positionsById.put(toAdd.getId(), internalList.size() - 1);
+        if (stalePositionsFrom == internalList.size() - 1) {
+            stalePositionsFrom++;
+        }
+
+        modificationCount++;
     }
 
     /**
@@ -55,7 +84,7 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
@@ -65,6 +94,11 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.set(index, editedClient);
+        clientsById.remove(target.getId());
+        positionsById.remove(target.getId());
+        clientsById.put(editedClient.getId(), editedClient);
+        positionsById.put(editedClient.getId(), index);
+        modificationCount++;
     }
 
     /**
@@ -73,14 +107,27 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
+
+        internalList.remove(index);
+        clientsById.remove(toRemove.getId());
+        positionsById.remove(toRemove.getId());
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        modificationCount++;
     }
 
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        clientsById.clear();
+        clientsById.putAll(replacement.clientsById);
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        stalePositionsFrom = replacement.stalePositionsFrom;
+        modificationCount++;
     }
 
     /**
@@ -89,11 +136,28 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void setClients(List<Client> clients) {
         requireAllNonNull(clients);
-        if (!clientsAreUnique(clients)) {
-            throw new DuplicateClientException();
+        Map<ID, Client> replacementsById = new HashMap<>();
+        for (Client client : clients) {
+            if (replacementsById.putIfAbsent(client.getId(), client) != null) {
+                throw new DuplicateClientException();
+            }
         }
 
         internalList.setAll(clients);
+        clientsById.clear();
+        clientsById.putAll(replacementsById);
+        positionsById.clear();
+        stalePositionsFrom = 0;
+        updateStalePositions();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     * Every operation that replaces, adds or removes clients counts, even if the contents end up unchanged.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -121,17 +185,26 @@ public class UniqueClientList implements Iterable<Client> {
     }
 
     /**
-     * Returns true if {@code clients} contains only unique clients.
+     * Returns the position of {@code client} in the list, or -1 if the list does not contain an equal client.
      */
-    private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Client client) {
+        Integer index = positionsById.get(client.getId());
+        if (index != null && index >= stalePositionsFrom) {
+            updateStalePositions();
+            index = positionsById.get(client.getId());
+        }
+
+        return index != null && internalList.get(index).equals(client) ? index : -1;
+    }
+
+    /**
+     * Records the positions of the clients whose recorded positions may be out of date.
+     */
+    private void updateStalePositions() {
+        for (int i = stalePositionsFrom; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
         }
 
-        return true;
+        stalePositionsFrom = internalList.size();
     }
 }
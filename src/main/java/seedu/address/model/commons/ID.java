@@ -5,17 +5,19 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Client's or Product's ID in the address book.
- * Guarantees: immutable; is unique.
+ * Guarantees: immutable; is unique among the clients or the products of an address book, whose {@link IdAllocator}s
+ * hand out new IDs.
  */
 public class ID {
-    public static final String MESSAGE_CONSTRAINTS = "ID should only contain numbers and it should not be blank";
+    // The largest ID, one below the largest int so that the ID after it can always be kept by an IdAllocator
+    public static final int MAX_ID = Integer.MAX_VALUE - 1;
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "ID should only contain numbers, it should not be blank and it should be at most " + MAX_ID;
 
     // The quantity should contain digits from 0 to 9 only.
     public static final String VALIDATION_REGEX = "[0-9]+";
 
-    private static int clientIDCounter = 1;
-    private static int productIDCounter = 1;
-
     private final int id;
 
     public ID(int id) {
@@ -33,39 +35,33 @@ public class ID {
         this.id = Integer.parseInt(id);
     }
 
-    /**
-     * Constructs a {@code ID} for {@code Client}.
-     */
-    public static ID getNewClientID() {
-        return new ID(clientIDCounter++);
-    }
-
-    /**
-     * Constructs a {@code ID} for {@code Product}.
-     */
-    public static ID getNewProductID() {
-        return new ID(productIDCounter++);
-    }
-
     public int getId() {
         return id;
     }
 
     /**
      * Returns true if a given string is a valid id.
+     * IDs larger than {@link #MAX_ID} are not valid.
      *
      * @param id ID to be tested.
      */
     public static boolean isValidId(String id) {
-        return id.matches(VALIDATION_REGEX);
+        if (!id.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+
+        try {
+            return isValidId(Integer.parseInt(id));
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 
     /**
-     * Resets the counter. To be used with clear command.
+     * Returns true if {@code id} is neither negative nor larger than {@link #MAX_ID}.
      */
-    public static void resetIdCounter() {
-        clientIDCounter = 1;
-        productIDCounter = 1;
+    public static boolean isValidId(int id) {
+        return id >= 0 && id <= MAX_ID;
     }
 
     @Override
@@ -0,0 +1,95 @@
+package seedu.address.model.commons;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.model.commons.exceptions.IdsExhaustedException;
+
+/**
+ * Hands out the IDs of new clients or products of an address book.
+ * An ID is never handed out again, even after the client or product with it has been deleted, as long as the
+ * high-water mark returned by {@link #getNextId()} is kept along with the address book.
+ * IDs are handed out up to {@link ID#MAX_ID}, after which allocating throws an {@code IdsExhaustedException}.
+ * Safe to use from several threads at once.
+ */
+public class IdAllocator {
+    public static final int FIRST_ID = 1;
+
+    private final AtomicInteger nextId;
+
+    /**
+     * Creates an {@code IdAllocator} that has not handed out any ID yet.
+     */
+    public IdAllocator() {
+        this(FIRST_ID);
+    }
+
+    /**
+     * Creates an {@code IdAllocator} whose next ID is {@code nextId}.
+     */
+    public IdAllocator(int nextId) {
+        this.nextId = new AtomicInteger(nextId);
+    }
+
+    /**
+     * Returns a new ID.
+     *
+     * @throws IdsExhaustedException if every ID has been handed out.
+     */
+    public ID allocate() {
+        return new ID(allocateBlock(1));
+    }
+
+    /**
+     * Hands out {@code count} consecutive new IDs at once, such as for the clients or products of a file read in bulk,
+     * and returns the first of them.
+     *
+     * @throws IdsExhaustedException if fewer than {@code count} IDs are left, in which case none is handed out.
+     */
+    public int allocateBlock(int count) {
+        checkArgument(count >= 0, "Cannot allocate a negative number of IDs");
+        int firstId = nextId.getAndUpdate(next -> hasIdsLeft(next, count) ? next + count : next);
+        if (!hasIdsLeft(firstId, count)) {
+            throw new IdsExhaustedException();
+        }
+
+        return firstId;
+    }
+
+    private static boolean hasIdsLeft(int nextId, int count) {
+        return count <= ID.MAX_ID - nextId + 1;
+    }
+
+    /**
+     * Makes sure that {@code id}, which is in use, is not handed out.
+     *
+     * @throws IllegalArgumentException if {@code id} is not a valid ID.
+     */
+    public void reserve(ID id) {
+        checkArgument(ID.isValidId(id.getId()), ID.MESSAGE_CONSTRAINTS);
+        advanceTo(id.getId() + 1);
+    }
+
+    /**
+     * Makes sure that no ID below {@code nextId} is handed out from now on.
+     */
+    public void advanceTo(int nextId) {
+        this.nextId.accumulateAndGet(nextId, Math::max);
+    }
+
+    /**
+     * Hands out IDs from {@code nextId} onwards from now on, including IDs that have been handed out before.
+     * Only to be used when every client or product that has such an ID is discarded.
+     */
+    public void reset(int nextId) {
+        this.nextId.set(nextId);
+    }
+
+    /**
+     * Returns the high-water mark of this allocator, the lowest ID that may be handed out next.
+     */
+    public int getNextId() {
+        return nextId.get();
+    }
+}
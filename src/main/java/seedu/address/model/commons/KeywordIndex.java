@@ -0,0 +1,215 @@
+package seedu.address.model.commons;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes the IDs of clients or products by each word of their names, ignoring case, so that the clients or products
+ * with a name containing a word can be looked up without going through every name.
+ * Words are compared the same way as by {@link String#equalsIgnoreCase(String)}.
+ * Each distinct word is also indexed by its trigrams, so that the words within a few typos of a search term can be
+ * found by only measuring the edit distance to the words sharing enough trigrams with the term.
+ */
+public class KeywordIndex {
+    /** Searched words of fewer characters than this must match exactly. */
+    public static final int MIN_FUZZY_LENGTH = 3;
+
+    /** Searched words of at least this many characters may be this number of edits away from a word of a name. */
+    private static final int TWO_EDITS_LENGTH = 8;
+
+    /** Pads words so that their first and last characters start and end trigrams of their own. */
+    private static final String PADDING = "  ";
+
+    private final Map<String, Set<ID>> idsByKeyword = new HashMap<>();
+    private final Map<String, Set<String>> keywordsByTrigram = new HashMap<>();
+    private final Map<ID, Name> namesById = new HashMap<>();
+
+    /**
+     * Indexes {@code name} as the name of the client or product with {@code id}, in place of its previous name.
+     */
+    public void put(ID id, Name name) {
+        requireAllNonNull(id, name);
+
+        Name previousName = namesById.get(id);
+        if (name.equals(previousName)) {
+            return;
+        }
+
+        remove(id);
+        namesById.put(id, name);
+        for (String keyword : toKeywords(name)) {
+            idsByKeyword.computeIfAbsent(keyword, unused -> {
+                for (String trigram : toTrigrams(keyword)) {
+                    keywordsByTrigram.computeIfAbsent(trigram, unusedTrigram -> new HashSet<>()).add(keyword);
+                }
+
+                return new HashSet<>();
+            }).add(id);
+        }
+    }
+
+    /**
+     * Removes the name of the client or product with {@code id} from the index, if it is indexed.
+     */
+    public void remove(ID id) {
+        requireNonNull(id);
+
+        Name name = namesById.remove(id);
+        if (name == null) {
+            return;
+        }
+
+        for (String keyword : toKeywords(name)) {
+            Set<ID> ids = idsByKeyword.get(keyword);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                idsByKeyword.remove(keyword);
+                unindexTrigrams(keyword);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the indexed name of the client or product with {@code id} contains any of {@code keywords} as a
+     * whole word. {@code keywords} must have been normalized by {@link #normalize(Collection)}.
+     */
+    public boolean hasAnyKeyword(ID id, Collection<String> keywords) {
+        requireAllNonNull(id, keywords);
+
+        for (String keyword : keywords) {
+            Set<ID> ids = idsByKeyword.get(keyword);
+            if (ids != null && ids.contains(id)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the edit distance of the name of each client or product within a few typos of any of {@code terms}, by
+     * the ID of the client or product. The edit distance of a name is the smallest
+     * {@link StringUtil#editDistance(String, String, int) edit distance}, ignoring case, between any of its words and
+     * any of {@code terms}.
+     * Terms of fewer than {@value #MIN_FUZZY_LENGTH} characters must match a word exactly, terms of fewer than
+     * {@value #TWO_EDITS_LENGTH} characters may be one edit away from it and longer terms may be two edits away.
+     * {@code terms} must have been normalized by {@link #normalize(Collection)}.
+     */
+    public Map<ID, Integer> findWithinEdits(Collection<String> terms) {
+        requireNonNull(terms);
+
+        Map<ID, Integer> distancesById = new HashMap<>();
+        for (String term : terms) {
+            int maxEdits = getMaxEdits(term);
+            for (String keyword : getKeywordsSharingTrigrams(term, maxEdits)) {
+                int distance = StringUtil.editDistance(term, keyword, maxEdits);
+                if (distance > maxEdits) {
+                    continue;
+                }
+
+                for (ID id : idsByKeyword.get(keyword)) {
+                    distancesById.merge(id, distance, Math::min);
+                }
+            }
+        }
+
+        return distancesById;
+    }
+
+    private static int getMaxEdits(String term) {
+        if (term.length() < MIN_FUZZY_LENGTH) {
+            return 0;
+        }
+
+        return term.length() < TWO_EDITS_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Returns the indexed words that could be within {@code maxEdits} of {@code term}.
+     * An edit changes at most 4 of the trigrams of the padded term (a swap of adjacent characters changes 4), so a
+     * word within {@code maxEdits} shares all but at most {@code 4 * maxEdits} of them. The lengths of the terms
+     * searched with each number of edits leave at least one trigram to share.
+     */
+    private Set<String> getKeywordsSharingTrigrams(String term, int maxEdits) {
+        if (maxEdits == 0) {
+            return idsByKeyword.containsKey(term) ? Set.of(term) : Set.of();
+        }
+
+        Set<String> trigrams = toTrigrams(term);
+        int minShared = trigrams.size() - 4 * maxEdits;
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String keyword : keywordsByTrigram.getOrDefault(trigram, Set.of())) {
+                if (Math.abs(keyword.length() - term.length()) <= maxEdits) {
+                    sharedCounts.merge(keyword, 1, Integer::sum);
+                }
+            }
+        }
+
+        Set<String> candidates = new HashSet<>();
+        sharedCounts.forEach((keyword, count) -> {
+            if (count >= minShared) {
+                candidates.add(keyword);
+            }
+        });
+
+        return candidates;
+    }
+
+    private void unindexTrigrams(String keyword) {
+        for (String trigram : toTrigrams(keyword)) {
+            Set<String> keywords = keywordsByTrigram.get(trigram);
+            if (keywords != null && keywords.remove(keyword) && keywords.isEmpty()) {
+                keywordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    private static Set<String> toTrigrams(String keyword) {
+        String padded = PADDING + keyword + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+
+        return trigrams;
+    }
+
+    /**
+     * Returns {@code keywords} in the form they are indexed in, leaving out empty keywords.
+     */
+    public static List<String> normalize(Collection<String> keywords) {
+        requireNonNull(keywords);
+
+        List<String> normalized = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            if (!trimmed.isEmpty()) {
+                normalized.add(foldCase(trimmed));
+            }
+        }
+
+        return normalized;
+    }
+
+    private static Set<String> toKeywords(Name name) {
+        Set<String> keywords = new HashSet<>();
+        for (String word : name.fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                keywords.add(foldCase(word));
+            }
+        }
+
+        return keywords;
+    }
+}
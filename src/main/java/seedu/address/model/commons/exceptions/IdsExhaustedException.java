@@ -0,0 +1,10 @@
+package seedu.address.model.commons.exceptions;
+
+/**
+ * Signals that the operation needs a new ID, but every ID has already been handed out.
+ */
+public class IdsExhaustedException extends RuntimeException {
+    public IdsExhaustedException() {
+        super("Operation needs a new ID, but every ID has already been handed out");
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.model.order;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.sales.SalesTotals;
+import seedu.address.model.sales.exceptions.SalesOverflowException;
+
+/**
+ * The orders of a client, which are only read when they are first needed.
+ * The number of orders, and possibly their sales totals, are known without reading them. Once read, the orders are
+ * kept in memory for as long as the {@link OrderHistoryCache} of the set allows, and read again when they are next
+ * needed after that.
+ * The set cannot be modified.
+ */
+public class LazyOrderSet extends AbstractSet<Order> {
+    public static final String MESSAGE_WRONG_SIZE = "Expected to read %1$d orders, but read %2$d";
+    public static final String MESSAGE_WRONG_TOTALS = "Expected to read orders with totals %1$s, but read %2$s";
+
+    private final int size;
+    private final SalesTotals totals;
+    private final Loader loader;
+    private final OrderHistoryCache cache;
+
+    // Identifies this set in the cache, whose entries cannot be told apart by the contents of the sets.
+    private final Object cacheKey = new Object();
+    private volatile OrderHistory loadedOrders;
+
+    /**
+     * Creates a {@code LazyOrderSet} of {@code size} orders, which are read by {@code loader} when needed.
+     */
+    public LazyOrderSet(int size, Loader loader, OrderHistoryCache cache) {
+        this(size, null, loader, cache);
+    }
+
+    /**
+     * Creates a {@code LazyOrderSet} of {@code size} orders with the sales {@code totals}, which are read by
+     * {@code loader} when needed. The totals may be null if they are not known.
+     */
+    public LazyOrderSet(int size, SalesTotals totals, Loader loader, OrderHistoryCache cache) {
+        requireAllNonNull(loader, cache);
+        if (size < 0) {
+            throw new IllegalArgumentException("Size of an order set cannot be negative");
+        }
+
+        this.size = size;
+        this.totals = totals;
+        this.loader = loader;
+        this.cache = cache;
+    }
+
+    public Loader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Returns the sales totals of the orders, if they are known without reading the orders.
+     */
+    public Optional<SalesTotals> getTotals() {
+        return Optional.ofNullable(totals);
+    }
+
+    /**
+     * Returns true if the orders are currently in memory.
+     */
+    public boolean isLoaded() {
+        return loadedOrders != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return getOrders().contains(o);
+    }
+
+    @Override
+    public Iterator<Order> iterator() {
+        return Collections.unmodifiableSet(getOrders()).iterator();
+    }
+
+    /**
+     * Returns up to {@code count} of the latest orders, from the latest to the earliest.
+     *
+     * @see OrderHistory#getLatest(int)
+     */
+    public List<Order> getLatest(int count) {
+        return getOrders().getLatest(count);
+    }
+
+    /**
+     * Returns the orders made from {@code from} to {@code to}, both inclusive, from the earliest to the latest.
+     *
+     * @see OrderHistory#getBetween(LocalDate, LocalDate)
+     */
+    public NavigableSet<Order> getBetween(LocalDate from, LocalDate to) {
+        return getOrders().getBetween(from, to);
+    }
+
+    /**
+     * Returns the orders as a history, reading them if they are not in memory.
+     */
+    public OrderHistory getHistory() {
+        return getOrders();
+    }
+
+    private OrderHistory getOrders() {
+        OrderHistory orders = loadedOrders;
+        if (orders == null) {
+            orders = new OrderHistory(loader.load());
+            if (orders.size() != size) {
+                throw new IllegalStateException(String.format(MESSAGE_WRONG_SIZE, size, orders.size()));
+            }
+
+            if (totals != null && !totals.equals(countTotals(orders))) {
+                throw new IllegalStateException(String.format(MESSAGE_WRONG_TOTALS, totals, countTotals(orders)));
+            }
+
+            loadedOrders = orders;
+        }
+
+        cache.recordAccess(cacheKey, this);
+        return orders;
+    }
+
+    private static SalesTotals countTotals(OrderHistory orders) {
+        try {
+            return SalesTotals.of(orders);
+        } catch (SalesOverflowException soe) {
+            return null;
+        }
+    }
+
+    /**
+     * Drops the orders from memory. Called by the cache only.
+     */
+    void unload() {
+        loadedOrders = null;
+    }
+
+    /**
+     * Reads the orders of a {@code LazyOrderSet}.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Returns the orders, which must be as many as the size of the set.
+         *
+         * @throws java.io.UncheckedIOException if the orders cannot be read.
+         * @throws IllegalStateException if the orders read are not valid.
+         */
+        Set<Order> load();
+    }
+}
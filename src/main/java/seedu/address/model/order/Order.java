@@ -1,19 +1,29 @@
 package seedu.address.model.order;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.product.Quantity.QUANTITY_ZERO;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
 
 /**
  * Represents an Order in Sellah.
+ * An order is given an ID, unique among the orders of its client, when it is first added to a client. A client can
+ * have any number of orders of the same product.
+ * An order keeps the unit price of its product when it was made, so that later changes to the price do not change
+ * the revenue of the order. Orders recorded before prices were kept have no unit price.
  */
 public class Order {
     public static final String MESSAGE_CONSTRAINTS =
@@ -26,36 +36,94 @@ public class Order {
 
     public static final String VALIDATION_REGEX = "\\d+ \\d+ (\\d{4}/)?\\d{0,2}/\\d{0,2}";
 
-    private final Name productName;
+    /**
+     * Orders from the earliest to the latest, and orders on the same day by their IDs, with orders not yet given an
+     * ID first. Consistent with {@link #equals}.
+     */
+    public static final Comparator<Order> CHRONOLOGICAL_ORDER = Comparator.comparing(Order::getTime)
+            .thenComparing(order -> order.id, Comparator.nullsFirst(Comparator.comparingInt(ID::getId)))
+            .thenComparingInt(order -> order.productId.getId())
+            .thenComparing(Order::getQuantity)
+            .thenComparing(order -> order.unitPrice, Comparator.nullsFirst(Comparator.<UnitPrice>naturalOrder()));
+
+    // Null until the order is added to a client
+    private final ID id;
+    private final ID productId;
     private final Quantity quantity;
     private final LocalDate time;
+    // Null if the order was recorded before unit prices were kept
+    private final UnitPrice unitPrice;
 
     /**
      * Constructor of {@code Order}
      */
-    public Order(ID id, Quantity quantity, LocalDate time, Model model) {
-        requireAllNonNull(id, quantity, time, model);
-        checkArgument(isValidProductID(id, model), MESSAGE_CONSTRAINTS_ID);
+    public Order(ID productId, Quantity quantity, LocalDate time, Model model) {
+        requireAllNonNull(productId, quantity, time, model);
+        Optional<Product> foundProduct = model.findProduct(productId);
+        checkArgument(foundProduct.isPresent(), MESSAGE_CONSTRAINTS_ID);
 
-        Product product = model.getProductById(id);
+        Product product = foundProduct.get();
         checkArgument(isValidQuantity(quantity, product), MESSAGE_CONSTRAINTS_QUANTITY);
 
-        productName = product.getName();
+        this.id = null;
+        this.productId = product.getId();
         this.quantity = quantity;
         this.time = time;
+        this.unitPrice = product.getUnitPrice();
     }
 
     /**
      * Constructor of {@code Order}, assume attributes to be valid.
      */
-    public Order(Name productName, Quantity quantity, LocalDate time) {
-        this.productName = productName;
+    public Order(ID productId, Quantity quantity, LocalDate time) {
+        this(null, productId, quantity, time);
+    }
+
+    /**
+     * Constructor of {@code Order} with the given {@code id}, which may be null for an order not yet given one, and
+     * no unit price. Assume attributes to be valid.
+     */
+    public Order(ID id, ID productId, Quantity quantity, LocalDate time) {
+        this(id, productId, quantity, time, null);
+    }
+
+    /**
+     * Constructor of {@code Order} with the given {@code id} and {@code unitPrice}, either of which may be null for an
+     * order not yet given an ID or recorded without a unit price. Assume attributes to be valid.
+     */
+    public Order(ID id, ID productId, Quantity quantity, LocalDate time, UnitPrice unitPrice) {
+        this.id = id;
+        this.productId = productId;
         this.quantity = quantity;
         this.time = time;
+        this.unitPrice = unitPrice;
+    }
+
+    /**
+     * Returns the ID of this order, if it has been given one.
+     */
+    public Optional<ID> getId() {
+        return Optional.ofNullable(id);
     }
 
-    public Name getProductName() {
-        return productName;
+    /**
+     * Returns a copy of this order with the given {@code id}.
+     */
+    public Order withId(ID id) {
+        requireNonNull(id);
+        return new Order(id, productId, quantity, time, unitPrice);
+    }
+
+    public ID getProductId() {
+        return productId;
+    }
+
+    /**
+     * Returns the name of the product of this order in {@code addressBook}, if it is there.
+     * Orders only refer to their product by its ID, so renaming a product does not change its orders.
+     */
+    public Optional<Name> getProductName(ReadOnlyAddressBook addressBook) {
+        return addressBook.findProduct(productId).map(Product::getName);
     }
 
     public Quantity getQuantity() {
@@ -66,8 +134,20 @@ public class Order {
         return time;
     }
 
-    private static boolean isValidProductID(ID id, Model model) {
-        return model.hasProduct(id);
+    /**
+     * Returns the unit price of the product when this order was made, if it was recorded.
+     */
+    public Optional<UnitPrice> getUnitPrice() {
+        return Optional.ofNullable(unitPrice);
+    }
+
+    /**
+     * Returns the revenue of this order in cents, at the unit price when it was made, or 0 if that was not recorded.
+     *
+     * @throws ArithmeticException if the revenue is too large to be counted in cents in a {@code long}.
+     */
+    public long getRevenueCents() {
+        return unitPrice == null ? 0 : unitPrice.multiply(quantity);
     }
 
     private static boolean isValidQuantity(Quantity quantity, Product product) {
@@ -89,12 +169,16 @@ public class Order {
         }
 
         Order otherOrder = (Order) other;
-        return productName.equals(otherOrder.productName);
+        return Objects.equals(id, otherOrder.id)
+                && productId.equals(otherOrder.productId)
+                && quantity.equals(otherOrder.quantity)
+                && time.equals(otherOrder.time)
+                && Objects.equals(unitPrice, otherOrder.unitPrice);
     }
 
     @Override
     public int hashCode() {
-        return productName.hashCode();
+        return Objects.hash(id, productId, quantity, time, unitPrice);
     }
 
     /**
@@ -102,6 +186,9 @@ public class Order {
      */
     @Override
     public String toString() {
-        return "[ Product Name: " + productName + ", Quantity: " + quantity + ", Time: " + time + "]";
+        String orderId = id == null ? "" : "Order ID: " + id + ", ";
+        String price = unitPrice == null ? "" : ", Unit price: " + unitPrice;
+        return "[ " + orderId + "Product ID: " + productId + ", Quantity: " + quantity + price + ", Time: " + time
+                + "]";
     }
 }
@@ -0,0 +1,173 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
+
+/**
+ * The orders of a client, kept from the earliest to the latest, so that the latest orders and the orders within a
+ * range of dates are found in time proportional to the logarithm of the number of orders and the number of orders
+ * returned.
+ * Orders added without an ID are given the next ID of the history, and orders with an ID keep it.
+ * Iterates over the orders in {@link Order#CHRONOLOGICAL_ORDER}.
+ * Guarantees: immutable. A changed history is a copy, made in time linear in the number of orders.
+ */
+public class OrderHistory extends AbstractSet<Order> {
+    private static final ID LAST_ID = new ID(Integer.MAX_VALUE);
+    private static final ID LAST_PRODUCT_ID = new ID(Integer.MAX_VALUE);
+    private static final Quantity LARGEST_QUANTITY = new Quantity(Long.MAX_VALUE);
+    private static final UnitPrice HIGHEST_UNIT_PRICE = new UnitPrice(Long.MAX_VALUE);
+    private static final ID ANY_PRODUCT_ID = new ID(0);
+
+    private final NavigableSet<Order> orders;
+    private final IdAllocator orderIds;
+
+    /**
+     * Creates an empty {@code OrderHistory}.
+     */
+    public OrderHistory() {
+        orders = new TreeSet<>(Order.CHRONOLOGICAL_ORDER);
+        orderIds = new IdAllocator();
+    }
+
+    /**
+     * Creates an {@code OrderHistory} of {@code orders}. Orders without an ID are given IDs after those of the others.
+     */
+    public OrderHistory(Collection<Order> orders) {
+        requireNonNull(orders);
+
+        if (orders instanceof OrderHistory) {
+            // copying a sorted set takes linear time, so that a copy-on-write change stays cheap for long histories
+            OrderHistory history = (OrderHistory) orders;
+            this.orders = new TreeSet<>(history.orders);
+            orderIds = new IdAllocator(history.orderIds.getNextId());
+            return;
+        }
+
+        this.orders = new TreeSet<>(Order.CHRONOLOGICAL_ORDER);
+        orderIds = new IdAllocator();
+        List<Order> ordersWithoutIds = new ArrayList<>();
+        for (Order order : orders) {
+            if (order.getId().isPresent()) {
+                put(order);
+            } else {
+                ordersWithoutIds.add(order);
+            }
+        }
+
+        ordersWithoutIds.sort(Order.CHRONOLOGICAL_ORDER);
+        ordersWithoutIds.forEach(this::put);
+    }
+
+    /**
+     * Returns {@code order} as it would be added to this history: given the next ID of the history if it has none.
+     */
+    public Order identify(Order order) {
+        requireNonNull(order);
+        return order.getId().isPresent() ? order : order.withId(new ID(orderIds.getNextId()));
+    }
+
+    /**
+     * Returns a copy of this history with {@code order} added, given the next ID of the history if it has none.
+     */
+    public OrderHistory with(Order order) {
+        requireNonNull(order);
+        return withChanges(unused -> false, List.of(order));
+    }
+
+    /**
+     * Returns a copy of this history without {@code order}.
+     */
+    public OrderHistory without(Order order) {
+        requireNonNull(order);
+        return withChanges(order::equals, List.of());
+    }
+
+    /**
+     * Returns a copy of this history without the orders matching {@code toRemove}, and then with {@code toAdd} added.
+     * Orders without an ID are given the next IDs of the history in the order they are given.
+     */
+    public OrderHistory withChanges(Predicate<? super Order> toRemove, Collection<Order> toAdd) {
+        requireAllNonNull(toRemove, toAdd);
+
+        OrderHistory copy = new OrderHistory(this);
+        copy.orders.removeIf(toRemove);
+        toAdd.forEach(copy::put);
+        return copy;
+    }
+
+    private void put(Order order) {
+        requireNonNull(order);
+
+        if (order.getId().isEmpty()) {
+            orders.add(order.withId(orderIds.allocate()));
+            return;
+        }
+
+        orderIds.reserve(order.getId().get());
+        orders.add(order);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Order && orders.contains(o);
+    }
+
+    @Override
+    public Iterator<Order> iterator() {
+        return Collections.unmodifiableSet(orders).iterator();
+    }
+
+    @Override
+    public int size() {
+        return orders.size();
+    }
+
+    /**
+     * Returns up to {@code count} of the latest orders, from the latest to the earliest.
+     */
+    public List<Order> getLatest(int count) {
+        checkArgument(count >= 0, "Count should not be negative");
+
+        List<Order> latest = new ArrayList<>(Math.min(count, orders.size()));
+        Iterator<Order> iterator = orders.descendingIterator();
+        while (latest.size() < count && iterator.hasNext()) {
+            latest.add(iterator.next());
+        }
+
+        return latest;
+    }
+
+    /**
+     * Returns an unmodifiable view of the orders made from {@code from} to {@code to}, both inclusive, from the
+     * earliest to the latest.
+     */
+    public NavigableSet<Order> getBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return Collections.emptyNavigableSet();
+        }
+
+        // Orders in the history all have IDs, so no order is before the first bound on its day, and none is after
+        // the second bound on its day.
+        Order first = new Order(null, ANY_PRODUCT_ID, Quantity.QUANTITY_ZERO, from);
+        Order last = new Order(LAST_ID, LAST_PRODUCT_ID, LARGEST_QUANTITY, to, HIGHEST_UNIT_PRICE);
+        return Collections.unmodifiableNavigableSet(orders.subSet(first, true, last, true));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.order;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the orders of the most recently used {@link LazyOrderSet}s in memory, up to a total number of orders.
+ * The orders of the least recently used sets are dropped first. The most recently used set is always kept, even if
+ * it alone holds more orders than the cache.
+ */
+public class OrderHistoryCache {
+    private final long capacity;
+
+    // Sets whose orders are in memory, from the least to the most recently used.
+    private final Map<Object, LazyOrderSet> loadedSets = new LinkedHashMap<>(16, 0.75f, true);
+    private long loadedOrderCount;
+
+    /**
+     * Creates an {@code OrderHistoryCache} that holds at most {@code capacity} orders.
+     */
+    public OrderHistoryCache(long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of an order history cache must be positive");
+        }
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of orders currently held.
+     */
+    public synchronized long getLoadedOrderCount() {
+        return loadedOrderCount;
+    }
+
+    /**
+     * Marks {@code set}, identified by {@code key}, as the most recently used set, and drops the orders of the least
+     * recently used sets while there are too many orders in memory.
+     */
+    synchronized void recordAccess(Object key, LazyOrderSet set) {
+        if (loadedSets.put(key, set) == null) {
+            loadedOrderCount += set.size();
+        }
+
+        Iterator<LazyOrderSet> leastRecentlyUsed = loadedSets.values().iterator();
+        while (loadedOrderCount > capacity && loadedSets.size() > 1) {
+            LazyOrderSet evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            loadedOrderCount -= evicted.size();
+            evicted.unload();
+        }
+    }
+}
@@ -22,11 +22,11 @@ public class Product implements Category {
     private final UnitPrice unitPrice;
     private final Quantity quantity;
 
-    public Product(Name name, UnitPrice unitPrice, Quantity quantity) {
-        this(ID.getNewProductID(), name, unitPrice, quantity);
-    }
-
-    private Product(ID id, Name name, UnitPrice unitPrice, Quantity quantity) {
+    /**
+     * Every field but {@code quantity} must be present and not null.
+     * New products are given an ID by the {@link seedu.address.model.commons.IdAllocator} of their address book.
+     */
+    public Product(ID id, Name name, UnitPrice unitPrice, Quantity quantity) {
         requireAllNonNull(id, name, unitPrice);
 
         this.id = id;
@@ -35,7 +35,7 @@ public class Product implements Category {
         this.quantity = quantity;
 
         Logger logger = Logger.getLogger("create product object");
-        logger.info("new product created");
+        logger.fine("new product created");
     }
 
     public ID getId() {
@@ -55,8 +55,7 @@ public class Product implements Category {
     }
 
     /**
-     * Returns a new copy of the {@code Product} with the same ID but the supplied data fields. <br>
-     * The only way to copy the ID of a {@code Product} over to another {@code Product}.
+     * Returns a new copy of the {@code Product} with the same ID but the supplied data fields.
      *
      * @param product ID of the original product.
      * @param name New name for the product.
@@ -85,7 +84,7 @@ public class Product implements Category {
             return false;
         }
 
-        return quantity.lessThan(this.quantity) || quantity.equals(this.quantity);
+        return quantity.compareTo(this.quantity) <= 0;
     }
 
     /**
@@ -15,6 +15,10 @@ public class ProductContainsKeywordsPredicate implements Predicate<Product> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Product product) {
         return keywords.stream()
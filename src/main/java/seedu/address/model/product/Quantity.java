@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Product's quantity in Sellah.
+ * Guarantees: immutable; is not negative; is parsed once, so comparisons and arithmetic never parse text.
  */
 public class Quantity implements Comparable<Quantity> {
     public static final String MESSAGE_CONSTRAINTS = "Quantity should only contain numbers and it should not be blank";
@@ -14,9 +15,9 @@ public class Quantity implements Comparable<Quantity> {
      */
     public static final String VALIDATION_REGEX = "[0-9]+";
 
-    public static final Quantity QUANTITY_ZERO = new Quantity("0");
+    public static final Quantity QUANTITY_ZERO = new Quantity(0);
 
-    public final String value;
+    public final long value;
 
     /**
      * Constructs a {@code Quantity}.
@@ -26,16 +27,36 @@ public class Quantity implements Comparable<Quantity> {
     public Quantity(String quantity) {
         requireNonNull(quantity);
         checkArgument(isValidQuantity(quantity), MESSAGE_CONSTRAINTS);
+        value = Long.parseLong(quantity);
+    }
+
+    /**
+     * Constructs a {@code Quantity} of {@code quantity} units.
+     *
+     * @param quantity A quantity that is not negative.
+     */
+    public Quantity(long quantity) {
+        checkArgument(quantity >= 0, MESSAGE_CONSTRAINTS);
         value = quantity;
     }
 
     /**
      * Returns true if a given string is a valid quantity.
+     * Quantities too large to be counted in a {@code long} are not valid.
      *
      * @param quantity Quantity to be tested.
      */
     public static boolean isValidQuantity(String quantity) {
-        return quantity.matches(VALIDATION_REGEX);
+        if (!quantity.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+
+        try {
+            Long.parseLong(quantity);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 
     public boolean lessThan(Quantity quantity) {
@@ -46,21 +67,50 @@ public class Quantity implements Comparable<Quantity> {
         return this.compareTo(quantity) > 0;
     }
 
+    /**
+     * Returns the sum of this quantity and {@code quantity}.
+     *
+     * @throws ArithmeticException if the sum is too large to be counted in a {@code long}.
+     */
+    public Quantity add(Quantity quantity) {
+        requireNonNull(quantity);
+        return new Quantity(Math.addExact(value, quantity.value));
+    }
+
+    /**
+     * Returns this quantity less {@code quantity}.
+     *
+     * @throws IllegalArgumentException if {@code quantity} is more than this quantity.
+     */
+    public Quantity subtract(Quantity quantity) {
+        requireNonNull(quantity);
+        return new Quantity(value - quantity.value);
+    }
+
+    /**
+     * Returns this quantity multiplied by {@code factor}.
+     *
+     * @throws ArithmeticException if the product is too large to be counted in a {@code long}.
+     */
+    public long multiply(long factor) {
+        return Math.multiplyExact(value, factor);
+    }
+
     @Override
     public String toString() {
-        return value;
+        return Long.toString(value);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Quantity // instanceof handles nulls
-                && value.equals(((Quantity) other).value)); // state check
+                && value == ((Quantity) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 
     @Override
@@ -69,8 +119,6 @@ public class Quantity implements Comparable<Quantity> {
             return 1;
         }
 
-        int thisVal = Integer.parseInt(value);
-        int otherVal = Integer.parseInt(quantity.value);
-        return thisVal - otherVal;
+        return Long.compare(value, quantity.value);
     }
 }
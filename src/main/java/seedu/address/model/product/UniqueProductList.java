@@ -3,11 +3,16 @@ package seedu.address.model.product;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.Name;
 import seedu.address.model.product.exceptions.DuplicateProductException;
 import seedu.address.model.product.exceptions.ProductNotFoundException;
 
@@ -18,6 +23,8 @@ import seedu.address.model.product.exceptions.ProductNotFoundException;
  * or updated is unique in terms of identity in the UniqueProductList. However, the removal of a product uses
  * Product#equals(Object) so as to ensure that the product with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
+ * Products are also indexed by their IDs, so that finding, replacing and checking for a product does not search the
+ * list, and counted by their names, so that checking for a product with the same name does not either.
  *
  * @see Product#isSameProduct(Product)
  */
@@ -25,13 +32,28 @@ public class UniqueProductList implements Iterable<Product> {
     private final ObservableList<Product> internalList = FXCollections.observableArrayList();
     private final ObservableList<Product> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount;
+
+    // The products in internalList and their positions in it, by their IDs
+    private final Map<ID, Product> productsById = new HashMap<>();
+    private final Map<ID, Integer> positionsById = new HashMap<>();
+    // The number of products in internalList with each name
+    private final Map<Name, Integer> countsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent product as the given argument.
      */
     public boolean contains(Product toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProduct);
+        return productsById.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Returns the product with the given {@code id}, if any.
+     */
+    public Optional<Product> find(ID id) {
+        requireNonNull(id);
+        return Optional.ofNullable(productsById.get(id));
     }
 
     /**
@@ -45,6 +67,10 @@ public class UniqueProductList implements Iterable<Product> {
         }
 
         internalList.add(toAdd);
+        productsById.put(toAdd.getId(), toAdd);
+        positionsById.put(toAdd.getId(), internalList.size() - 1);
+        countName(toAdd.getName());
+        modificationCount++;
     }
 
     /**
@@ -55,7 +81,7 @@ public class UniqueProductList implements Iterable<Product> {
     public void setProduct(Product target, Product editedProduct) {
         requireAllNonNull(target, editedProduct);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ProductNotFoundException();
         }
@@ -65,6 +91,13 @@ public class UniqueProductList implements Iterable<Product> {
         }
 
         internalList.set(index, editedProduct);
+        productsById.remove(target.getId());
+        positionsById.remove(target.getId());
+        productsById.put(editedProduct.getId(), editedProduct);
+        positionsById.put(editedProduct.getId(), index);
+        uncountName(target.getName());
+        countName(editedProduct.getName());
+        modificationCount++;
     }
 
     /**
@@ -73,14 +106,29 @@ public class UniqueProductList implements Iterable<Product> {
      */
     public void remove(Product toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ProductNotFoundException();
         }
+
+        internalList.remove(index);
+        productsById.remove(toRemove.getId());
+        positionsById.remove(toRemove.getId());
+        updatePositionsFrom(index);
+        uncountName(toRemove.getName());
+        modificationCount++;
     }
 
     public void setProducts(UniqueProductList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        productsById.clear();
+        productsById.putAll(replacement.productsById);
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        countsByName.clear();
+        countsByName.putAll(replacement.countsByName);
+        modificationCount++;
     }
 
     /**
@@ -89,11 +137,29 @@ public class UniqueProductList implements Iterable<Product> {
      */
     public void setProducts(List<Product> products) {
         requireAllNonNull(products);
-        if (!productsAreUnique(products)) {
-            throw new DuplicateProductException();
+        Map<ID, Product> replacementsById = new HashMap<>();
+        for (Product product : products) {
+            if (replacementsById.putIfAbsent(product.getId(), product) != null) {
+                throw new DuplicateProductException();
+            }
         }
 
         internalList.setAll(products);
+        productsById.clear();
+        productsById.putAll(replacementsById);
+        positionsById.clear();
+        updatePositionsFrom(0);
+        countsByName.clear();
+        products.forEach(product -> countName(product.getName()));
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     * Every operation that replaces, adds or removes products counts, even if the contents end up unchanged.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -121,24 +187,43 @@ public class UniqueProductList implements Iterable<Product> {
     }
 
     /**
-     * Returns true if {@code products} contains only unique products.
+     * Returns the position of {@code product} in the list, or -1 if the list does not contain an equal product.
      */
-    private boolean productsAreUnique(List<Product> products) {
-        for (int i = 0; i < products.size() - 1; i++) {
-            for (int j = i + 1; j < products.size(); j++) {
-                if (products.get(i).isSameProduct(products.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Product product) {
+        Integer index = positionsById.get(product.getId());
+        return index != null && internalList.get(index).equals(product) ? index : -1;
+    }
+
+    /**
+     * Records the positions of the products from {@code from} to the end of the list.
+     */
+    private void updatePositionsFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
         }
+    }
 
-        return true;
+    private void countName(Name name) {
+        countsByName.merge(name, 1, Integer::sum);
+    }
+
+    private void uncountName(Name name) {
+        countsByName.computeIfPresent(name, (unused, count) -> count == 1 ? null : count - 1);
     }
 
     /**
-     * Returns true if {@code products} contains a product with the same name as {@code product}.
+     * Returns true if the list contains a product with the same name as {@code product}.
      */
     public boolean hasProductWithSameName(Product product) {
-        return internalList.stream().anyMatch(p -> p.getName().equals(product.getName()));
+        requireNonNull(product);
+        return hasProductWithName(product.getName());
+    }
+
+    /**
+     * Returns true if the list contains a product named {@code name}.
+     */
+    public boolean hasProductWithName(Name name) {
+        requireNonNull(name);
+        return countsByName.containsKey(name);
     }
 }
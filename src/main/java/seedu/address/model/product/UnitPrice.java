@@ -5,8 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Product's unit price in Sellah.
+ * Guarantees: immutable; is kept as an exact number of cents, so prices can be compared and summed without rounding.
  */
-public class UnitPrice {
+public class UnitPrice implements Comparable<UnitPrice> {
     public static final String MESSAGE_CONSTRAINTS =
             "Unit price should only contain numbers and it should not be blank.\n"
                     + "Optionally, '.' can be used for cents, which must be followed by exactly 2 numbers "
@@ -17,7 +18,12 @@ public class UnitPrice {
      */
     public static final String VALIDATION_REGEX = "[0-9]+(\\.[0-9]{2})?";
 
-    public final String value;
+    private static final int CENTS_PER_DOLLAR = 100;
+
+    public final long cents;
+
+    /** Whether the price was given with cents, so that it is shown the way it was given. */
+    private final boolean hasCents;
 
     /**
      * Constructs a {@code UnitPrice}.
@@ -27,32 +33,104 @@ public class UnitPrice {
     public UnitPrice(String unitPrice) {
         requireNonNull(unitPrice);
         checkArgument(isValidUnitPrice(unitPrice), MESSAGE_CONSTRAINTS);
-        value = unitPrice;
+        cents = toCents(unitPrice);
+        hasCents = unitPrice.contains(".");
+    }
+
+    /**
+     * Constructs a {@code UnitPrice} of {@code cents} cents, shown with cents only if it is not a whole number of
+     * dollars.
+     *
+     * @param cents A number of cents that is not negative.
+     */
+    public UnitPrice(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        this.cents = cents;
+        hasCents = cents % CENTS_PER_DOLLAR != 0;
     }
 
     /**
      * Returns true if a given string is a valid unit price.
+     * Prices too large to be counted in cents in a {@code long} are not valid.
      *
      * @param unitPrice Unit price to be tested.
      */
     public static boolean isValidUnitPrice(String unitPrice) {
-        return unitPrice.matches(VALIDATION_REGEX);
+        if (!unitPrice.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+
+        try {
+            toCents(unitPrice);
+            return true;
+        } catch (ArithmeticException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static long toCents(String unitPrice) {
+        int point = unitPrice.indexOf('.');
+        if (point < 0) {
+            return Math.multiplyExact(Long.parseLong(unitPrice), CENTS_PER_DOLLAR);
+        }
+
+        long dollars = Long.parseLong(unitPrice.substring(0, point));
+        return Math.addExact(Math.multiplyExact(dollars, CENTS_PER_DOLLAR),
+                Long.parseLong(unitPrice.substring(point + 1)));
+    }
+
+    /**
+     * Returns the price in cents of {@code quantity} units at this unit price.
+     *
+     * @throws ArithmeticException if the price is too large to be counted in cents in a {@code long}.
+     */
+    public long multiply(Quantity quantity) {
+        requireNonNull(quantity);
+        return quantity.multiply(cents);
+    }
+
+    /**
+     * Returns the sum of this unit price and {@code unitPrice}.
+     *
+     * @throws ArithmeticException if the sum is too large to be counted in cents in a {@code long}.
+     */
+    public UnitPrice add(UnitPrice unitPrice) {
+        requireNonNull(unitPrice);
+        return new UnitPrice(Math.addExact(cents, unitPrice.cents));
+    }
+
+    /**
+     * Returns {@code cents} as dollars with exactly 2 decimal places, e.g. 123456 as "1234.56".
+     */
+    public static String formatCents(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s%d.%02d", sign, absoluteCents / CENTS_PER_DOLLAR, absoluteCents % CENTS_PER_DOLLAR);
+    }
+
+    @Override
+    public int compareTo(UnitPrice unitPrice) {
+        if (unitPrice == null) {
+            return 1;
+        }
+
+        return Long.compare(cents, unitPrice.cents);
     }
 
     @Override
     public String toString() {
-        return value;
+        return hasCents ? formatCents(cents) : Long.toString(cents / CENTS_PER_DOLLAR);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UnitPrice // instanceof handles nulls
-                && value.equals(((UnitPrice) other).value)); // state check
+                && cents == ((UnitPrice) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 }
@@ -0,0 +1,94 @@
+package seedu.address.model.sales;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.order.Order;
+
+/**
+ * The sales to a client: the number of orders of the client and their revenue in cents.
+ * Guarantees: immutable.
+ */
+public class ClientSales {
+    private final ID clientId;
+    private final int orderCount;
+    private final long revenueCents;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ClientSales(ID clientId, int orderCount, long revenueCents) {
+        requireNonNull(clientId);
+
+        this.clientId = clientId;
+        this.orderCount = orderCount;
+        this.revenueCents = revenueCents;
+    }
+
+    /**
+     * Returns the sales of only {@code order} of the client with {@code clientId}, at the unit price when it was made.
+     */
+    public static ClientSales of(ID clientId, Order order) {
+        requireNonNull(order);
+        return new ClientSales(clientId, 1, order.getRevenueCents());
+    }
+
+    /**
+     * Returns these sales together with {@code sales}, which must be to the same client.
+     *
+     * @throws ArithmeticException if the revenue is too large for a {@code long}.
+     */
+    public ClientSales plus(ClientSales sales) {
+        requireNonNull(sales);
+        checkArgument(clientId.equals(sales.clientId), "Sales should be to the same client");
+
+        return new ClientSales(clientId, Math.addExact(orderCount, sales.orderCount),
+                Math.addExact(revenueCents, sales.revenueCents));
+    }
+
+    /**
+     * Returns these sales without {@code sales}, which must be to the same client and counted in these sales.
+     */
+    public ClientSales minus(ClientSales sales) {
+        requireNonNull(sales);
+        checkArgument(clientId.equals(sales.clientId), "Sales should be to the same client");
+        checkArgument(orderCount >= sales.orderCount && revenueCents >= sales.revenueCents,
+                "Sales were not counted: " + sales);
+
+        return new ClientSales(clientId, orderCount - sales.orderCount, revenueCents - sales.revenueCents);
+    }
+
+    public ID getClientId() {
+        return clientId;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientSales // instanceof handles nulls
+                && clientId.equals(((ClientSales) other).clientId)
+                && orderCount == ((ClientSales) other).orderCount
+                && revenueCents == ((ClientSales) other).revenueCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clientId, orderCount, revenueCents);
+    }
+
+    @Override
+    public String toString() {
+        return "[ Client ID: " + clientId + ", Orders: " + orderCount + ", Revenue: " + revenueCents + " cents ]";
+    }
+}
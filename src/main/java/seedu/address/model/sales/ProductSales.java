@@ -0,0 +1,103 @@
+package seedu.address.model.sales;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.order.Order;
+
+/**
+ * The sales of a product: the number of orders of it, the units ordered and the revenue in cents.
+ * Guarantees: immutable.
+ */
+public class ProductSales {
+    private final ID productId;
+    private final int orderCount;
+    private final long units;
+    private final long revenueCents;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ProductSales(ID productId, int orderCount, long units, long revenueCents) {
+        requireNonNull(productId);
+
+        this.productId = productId;
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenueCents = revenueCents;
+    }
+
+    /**
+     * Returns the sales of only {@code order}, at the unit price when it was made.
+     */
+    public static ProductSales of(Order order) {
+        requireNonNull(order);
+        return new ProductSales(order.getProductId(), 1, order.getQuantity().value, order.getRevenueCents());
+    }
+
+    /**
+     * Returns these sales together with {@code sales}, which must be of the same product.
+     *
+     * @throws ArithmeticException if the units or revenue are too large for a {@code long}.
+     */
+    public ProductSales plus(ProductSales sales) {
+        requireNonNull(sales);
+        checkArgument(productId.equals(sales.productId), "Sales should be of the same product");
+
+        return new ProductSales(productId, Math.addExact(orderCount, sales.orderCount),
+                Math.addExact(units, sales.units), Math.addExact(revenueCents, sales.revenueCents));
+    }
+
+    /**
+     * Returns these sales without {@code sales}, which must be of the same product and counted in these sales.
+     */
+    public ProductSales minus(ProductSales sales) {
+        requireNonNull(sales);
+        checkArgument(productId.equals(sales.productId), "Sales should be of the same product");
+        checkArgument(orderCount >= sales.orderCount && units >= sales.units && revenueCents >= sales.revenueCents,
+                "Sales were not counted: " + sales);
+
+        return new ProductSales(productId, orderCount - sales.orderCount, units - sales.units,
+                revenueCents - sales.revenueCents);
+    }
+
+    public ID getProductId() {
+        return productId;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProductSales // instanceof handles nulls
+                && productId.equals(((ProductSales) other).productId)
+                && orderCount == ((ProductSales) other).orderCount
+                && units == ((ProductSales) other).units
+                && revenueCents == ((ProductSales) other).revenueCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, orderCount, units, revenueCents);
+    }
+
+    @Override
+    public String toString() {
+        return "[ Product ID: " + productId + ", Orders: " + orderCount + ", Units: " + units + ", Revenue: "
+                + revenueCents + " cents ]";
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.sales;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * The revenue from one date to another, in total, by period and of the products and clients with the highest revenue.
+ * Every amount is in exact cents.
+ * Guarantees: immutable.
+ */
+public class RevenueReport {
+    private final LocalDate from;
+    private final LocalDate to;
+    // Null if the revenue is only totalled over the whole range
+    private final SalesPeriod period;
+    private final long revenueCents;
+    private final NavigableMap<LocalDate, Long> revenueCentsByPeriod;
+    private final List<ProductSales> topProducts;
+    private final List<ClientSales> topClients;
+
+    /**
+     * Creates a report of {@code revenueCents} from {@code from} to {@code to}, of {@code revenueCentsByPeriod} by
+     * the first day of each {@code period}, and of the {@code topProducts} and {@code topClients} from the highest
+     * revenue. {@code period} is null, and {@code revenueCentsByPeriod} empty, if the revenue is only totalled.
+     */
+    public RevenueReport(LocalDate from, LocalDate to, SalesPeriod period, long revenueCents,
+            Map<LocalDate, Long> revenueCentsByPeriod, List<ProductSales> topProducts, List<ClientSales> topClients) {
+        requireAllNonNull(from, to, revenueCentsByPeriod, topProducts, topClients);
+
+        this.from = from;
+        this.to = to;
+        this.period = period;
+        this.revenueCents = revenueCents;
+        this.revenueCentsByPeriod = Collections.unmodifiableNavigableMap(new TreeMap<>(revenueCentsByPeriod));
+        this.topProducts = List.copyOf(topProducts);
+        this.topClients = List.copyOf(topClients);
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the period the revenue is given by, or nothing if it is only totalled.
+     */
+    public Optional<SalesPeriod> getPeriod() {
+        return Optional.ofNullable(period);
+    }
+
+    /**
+     * Returns the revenue over the whole range, in cents.
+     */
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    /**
+     * Returns the revenue in cents of each period with sales by its first day, from the earliest.
+     */
+    public NavigableMap<LocalDate, Long> getRevenueCentsByPeriod() {
+        return revenueCentsByPeriod;
+    }
+
+    /**
+     * Returns the sales of the products with the highest revenue, from the highest.
+     */
+    public List<ProductSales> getTopProducts() {
+        return topProducts;
+    }
+
+    /**
+     * Returns the sales to the clients with the highest revenue, from the highest.
+     */
+    public List<ClientSales> getTopClients() {
+        return topClients;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RevenueReport // instanceof handles nulls
+                && from.equals(((RevenueReport) other).from)
+                && to.equals(((RevenueReport) other).to)
+                && period == ((RevenueReport) other).period
+                && revenueCents == ((RevenueReport) other).revenueCents
+                && revenueCentsByPeriod.equals(((RevenueReport) other).revenueCentsByPeriod)
+                && topProducts.equals(((RevenueReport) other).topProducts)
+                && topClients.equals(((RevenueReport) other).topClients));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, period, revenueCents, revenueCentsByPeriod, topProducts, topClients);
+    }
+
+    @Override
+    public String toString() {
+        return "[ From: " + from + ", To: " + to + ", By: " + (period == null ? "total" : period) + ", Revenue: "
+                + revenueCents + ", Top products: " + topProducts + ", Top clients: " + topClients + " ]";
+    }
+}
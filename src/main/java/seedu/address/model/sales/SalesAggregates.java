@@ -0,0 +1,194 @@
+package seedu.address.model.sales;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.order.Order;
+
+/**
+ * The sales of every product and to every client with orders, kept up to date one order at a time as orders are added
+ * and removed, so that the sales of a product or client, or the best-selling products, are found without going
+ * through the orders.
+ * The products are also kept sorted from the most to the fewest units sold and from the highest to the lowest revenue,
+ * and the clients from the highest to the lowest revenue, so that the top {@code k} of each are found in time
+ * proportional to {@code k}. Adding or removing an order takes time proportional to the logarithm of the number of
+ * products and clients.
+ * Revenue is counted at the unit price of each order when it was made, in exact cents.
+ * Not thread-safe.
+ */
+public class SalesAggregates {
+    /** Orders sales from the most to the fewest units, and sales of as many units by product ID. */
+    public static final Comparator<ProductSales> BEST_SELLING_FIRST = Comparator
+            .comparingLong(ProductSales::getUnits).reversed()
+            .thenComparingInt(sales -> sales.getProductId().getId());
+
+    /** Orders sales from the highest to the lowest revenue, and sales of as much revenue by product ID. */
+    public static final Comparator<ProductSales> HIGHEST_REVENUE_FIRST = Comparator
+            .comparingLong(ProductSales::getRevenueCents).reversed()
+            .thenComparingInt(sales -> sales.getProductId().getId());
+
+    /** Orders sales from the highest to the lowest revenue, and sales of as much revenue by client ID. */
+    public static final Comparator<ClientSales> HIGHEST_CLIENT_REVENUE_FIRST = Comparator
+            .comparingLong(ClientSales::getRevenueCents).reversed()
+            .thenComparingInt(sales -> sales.getClientId().getId());
+
+    private final Map<ID, ProductSales> salesByProductId = new HashMap<>();
+    private final NavigableSet<ProductSales> salesByUnits = new TreeSet<>(BEST_SELLING_FIRST);
+    private final NavigableSet<ProductSales> salesByRevenue = new TreeSet<>(HIGHEST_REVENUE_FIRST);
+    private final Map<ID, ClientSales> salesByClientId = new HashMap<>();
+    private final NavigableSet<ClientSales> clientSalesByRevenue = new TreeSet<>(HIGHEST_CLIENT_REVENUE_FIRST);
+    private long revenueCents;
+
+    /**
+     * Counts {@code order} of the client with {@code clientId} in the sales of its product and client.
+     *
+     * @throws ArithmeticException if the units or revenue are too large for a {@code long}.
+     */
+    public void addOrder(ID clientId, Order order) {
+        requireAllNonNull(clientId, order);
+
+        // everything is counted before anything is kept, so that an overflow leaves the sales as they were
+        ProductSales orderSales = ProductSales.of(order);
+        Optional<ProductSales> oldSales = getSales(order.getProductId());
+        ProductSales newSales = oldSales.map(sales -> sales.plus(orderSales)).orElse(orderSales);
+        ClientSales oldClientSales = salesByClientId.get(clientId);
+        ClientSales newClientSales = oldClientSales == null
+                ? new ClientSales(clientId, 1, orderSales.getRevenueCents())
+                : new ClientSales(clientId, oldClientSales.getOrderCount() + 1,
+                        Math.addExact(oldClientSales.getRevenueCents(), orderSales.getRevenueCents()));
+        long newRevenueCents = Math.addExact(revenueCents, orderSales.getRevenueCents());
+
+        putProductSales(oldSales.orElse(null), newSales);
+        putClientSales(oldClientSales, newClientSales);
+        revenueCents = newRevenueCents;
+    }
+
+    /**
+     * Stops counting {@code order} of the client with {@code clientId}, which must have been counted.
+     */
+    public void removeOrder(ID clientId, Order order) {
+        requireAllNonNull(clientId, order);
+
+        ProductSales orderSales = ProductSales.of(order);
+        ProductSales oldSales = getSales(order.getProductId()).orElseThrow(() ->
+                new IllegalArgumentException("Order was not counted in the sales: " + order));
+        ClientSales oldClientSales = salesByClientId.get(clientId);
+        checkArgument(oldClientSales != null && oldClientSales.getRevenueCents() >= orderSales.getRevenueCents(),
+                "Order was not counted in the sales: " + order);
+
+        ProductSales newSales = oldSales.minus(orderSales);
+        putProductSales(oldSales, newSales.getOrderCount() == 0 ? null : newSales);
+        putClientSales(oldClientSales, oldClientSales.getOrderCount() == 1
+                ? null
+                : new ClientSales(clientId, oldClientSales.getOrderCount() - 1,
+                        oldClientSales.getRevenueCents() - orderSales.getRevenueCents()));
+        revenueCents -= orderSales.getRevenueCents();
+    }
+
+    /**
+     * Returns the sales of the product with {@code productId}, if it has any orders.
+     */
+    public Optional<ProductSales> getSales(ID productId) {
+        requireNonNull(productId);
+        return Optional.ofNullable(salesByProductId.get(productId));
+    }
+
+    /**
+     * Returns the sales to the client with {@code clientId}, if the client has any orders.
+     */
+    public Optional<ClientSales> getClientSales(ID clientId) {
+        requireNonNull(clientId);
+        return Optional.ofNullable(salesByClientId.get(clientId));
+    }
+
+    /**
+     * Returns the sales of up to {@code count} best-selling products, from the most to the fewest units sold.
+     */
+    public List<ProductSales> getBestSelling(int count) {
+        return getFirst(salesByUnits, count);
+    }
+
+    /**
+     * Returns the sales of up to {@code count} products with the highest revenue, from the highest.
+     */
+    public List<ProductSales> getHighestRevenue(int count) {
+        return getFirst(salesByRevenue, count);
+    }
+
+    /**
+     * Returns the sales to up to {@code count} clients with the highest revenue, from the highest.
+     */
+    public List<ClientSales> getHighestRevenueClients(int count) {
+        return getFirst(clientSalesByRevenue, count);
+    }
+
+    /**
+     * Returns the revenue of every order counted, in cents.
+     */
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    /**
+     * Returns true if no order is counted.
+     */
+    public boolean isEmpty() {
+        return salesByProductId.isEmpty();
+    }
+
+    private static <T> List<T> getFirst(NavigableSet<T> sortedSales, int count) {
+        checkArgument(count >= 0, "Count should not be negative");
+
+        List<T> first = new ArrayList<>(Math.min(count, sortedSales.size()));
+        Iterator<T> iterator = sortedSales.iterator();
+        while (first.size() < count && iterator.hasNext()) {
+            first.add(iterator.next());
+        }
+
+        return first;
+    }
+
+    /**
+     * Replaces {@code oldSales} with {@code newSales}. Either may be null for sales not kept before or after.
+     */
+    private void putProductSales(ProductSales oldSales, ProductSales newSales) {
+        if (oldSales != null) {
+            salesByUnits.remove(oldSales);
+            salesByRevenue.remove(oldSales);
+            salesByProductId.remove(oldSales.getProductId());
+        }
+
+        if (newSales != null) {
+            salesByProductId.put(newSales.getProductId(), newSales);
+            salesByUnits.add(newSales);
+            salesByRevenue.add(newSales);
+        }
+    }
+
+    /**
+     * Replaces {@code oldSales} with {@code newSales}. Either may be null for sales not kept before or after.
+     */
+    private void putClientSales(ClientSales oldSales, ClientSales newSales) {
+        if (oldSales != null) {
+            clientSalesByRevenue.remove(oldSales);
+            salesByClientId.remove(oldSales.getClientId());
+        }
+
+        if (newSales != null) {
+            salesByClientId.put(newSales.getClientId(), newSales);
+            clientSalesByRevenue.add(newSales);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.sales;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * A length of time that sales are rolled up by. Each period starts on its first day: weeks on Mondays, months on the
+ * first day of the month and years on the first day of the year.
+ */
+public enum SalesPeriod {
+    DAY, WEEK, MONTH, YEAR;
+
+    public static final String MESSAGE_CONSTRAINTS = "Sales can only be shown by day, week, month or year";
+
+    /**
+     * Returns the first day of the period that {@code date} is in.
+     */
+    public LocalDate getStart(LocalDate date) {
+        requireNonNull(date);
+
+        switch (this) {
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        case MONTH:
+            return date.withDayOfMonth(1);
+
+        case YEAR:
+            return date.withDayOfYear(1);
+
+        default:
+            return date;
+        }
+    }
+
+    /**
+     * Returns the first day of the period after the one starting on {@code start}.
+     */
+    public LocalDate getNextStart(LocalDate start) {
+        requireNonNull(start);
+
+        switch (this) {
+        case WEEK:
+            return start.plusWeeks(1);
+
+        case MONTH:
+            return start.plusMonths(1);
+
+        case YEAR:
+            return start.plusYears(1);
+
+        default:
+            return start.plusDays(1);
+        }
+    }
+
+    /**
+     * Returns true if {@code date} is the last day of its period.
+     */
+    public boolean isLastDay(LocalDate date) {
+        requireNonNull(date);
+        return date.equals(LocalDate.MAX) || !getStart(date.plusDays(1)).equals(getStart(date));
+    }
+
+    /**
+     * Returns the period named {@code name}, ignoring case.
+     *
+     * @throws IllegalArgumentException if no period has that name.
+     */
+    public static SalesPeriod fromName(String name) {
+        requireNonNull(name);
+
+        for (SalesPeriod period : values()) {
+            if (period.name().equalsIgnoreCase(name.trim())) {
+                return period;
+            }
+        }
+
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+}
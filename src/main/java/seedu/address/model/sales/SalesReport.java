@@ -0,0 +1,129 @@
+package seedu.address.model.sales;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.commons.ID;
+
+/**
+ * The sales of each product from one date to another, either in total or by period.
+ * Guarantees: immutable.
+ */
+public class SalesReport {
+    private final LocalDate from;
+    private final LocalDate to;
+    // Null if the sales are only totalled over the whole range
+    private final SalesPeriod period;
+    private final NavigableMap<LocalDate, Map<ID, ProductSales>> salesByPeriod;
+
+    /**
+     * Creates a report of the sales of each product from {@code from} to {@code to} in each {@code period}, by the
+     * first day of the period.
+     */
+    public SalesReport(LocalDate from, LocalDate to, SalesPeriod period,
+            NavigableMap<LocalDate, Map<ID, ProductSales>> salesByPeriod) {
+        requireAllNonNull(from, to, period, salesByPeriod);
+
+        this.from = from;
+        this.to = to;
+        this.period = period;
+        this.salesByPeriod = copyOf(salesByPeriod);
+    }
+
+    /**
+     * Creates a report of the sales of each product from {@code from} to {@code to} in total.
+     */
+    public SalesReport(LocalDate from, LocalDate to, Map<ID, ProductSales> sales) {
+        requireAllNonNull(from, to, sales);
+
+        this.from = from;
+        this.to = to;
+        this.period = null;
+        this.salesByPeriod = sales.isEmpty() ? Collections.emptyNavigableMap() : copyOf(Map.of(from, sales));
+    }
+
+    private static NavigableMap<LocalDate, Map<ID, ProductSales>> copyOf(
+            Map<LocalDate, Map<ID, ProductSales>> salesByPeriod) {
+        NavigableMap<LocalDate, Map<ID, ProductSales>> copy = new TreeMap<>();
+        salesByPeriod.forEach((start, sales) -> copy.put(start, Collections.unmodifiableMap(new HashMap<>(sales))));
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the period the sales are given by, or nothing if they are only totalled.
+     */
+    public Optional<SalesPeriod> getPeriod() {
+        return Optional.ofNullable(period);
+    }
+
+    /**
+     * Returns the sales of each product by the first day of each period with sales, from the earliest.
+     * If the sales are only totalled, the total is given by {@code from}.
+     */
+    public NavigableMap<LocalDate, Map<ID, ProductSales>> getSalesByPeriod() {
+        return salesByPeriod;
+    }
+
+    /**
+     * Returns the sales of each product over the whole range.
+     */
+    public Map<ID, ProductSales> getTotalSales() {
+        return SalesRollups.sum(salesByPeriod.values());
+    }
+
+    /**
+     * Returns the revenue in cents of each period by its first day, from the earliest.
+     * The revenue of a period is at most that of every order, which the address book keeps within a {@code long} (see
+     * {@link SalesTotals}), so it cannot overflow.
+     */
+    public NavigableMap<LocalDate, Long> getRevenueCentsByPeriod() {
+        NavigableMap<LocalDate, Long> revenueCentsByPeriod = new TreeMap<>();
+        salesByPeriod.forEach((start, sales) -> revenueCentsByPeriod.put(start, sales.values().stream()
+                .mapToLong(ProductSales::getRevenueCents).sum()));
+        return revenueCentsByPeriod;
+    }
+
+    /**
+     * Returns true if nothing was sold in the range.
+     */
+    public boolean isEmpty() {
+        return salesByPeriod.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SalesReport // instanceof handles nulls
+                && from.equals(((SalesReport) other).from)
+                && to.equals(((SalesReport) other).to)
+                && period == ((SalesReport) other).period
+                && salesByPeriod.equals(((SalesReport) other).salesByPeriod));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, period, salesByPeriod);
+    }
+
+    @Override
+    public String toString() {
+        return "[ From: " + from + ", To: " + to + ", By: " + (period == null ? "total" : period) + ", Sales: "
+                + salesByPeriod + " ]";
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.model.sales;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.order.Order;
+
+/**
+ * The sales of each product, and to each client, in each day, week, month and year with orders, kept up to date one
+ * order at a time as orders are added and removed, so that the sales within a range of dates are found without going
+ * through the orders.
+ * Adding or removing an order updates one table for each {@link SalesPeriod}, in time proportional to the logarithm of
+ * the number of periods with orders. A range of dates is answered from the table of the period asked for, with only
+ * the periods cut by the ends of the range added up from the table of days.
+ * Not thread-safe.
+ */
+public class SalesRollups {
+    // The sales of each product, and to each client, by the first day of each period, for every period
+    private final Map<SalesPeriod, NavigableMap<LocalDate, Map<ID, ProductSales>>> rollups =
+            new EnumMap<>(SalesPeriod.class);
+    private final Map<SalesPeriod, NavigableMap<LocalDate, Map<ID, ClientSales>>> clientRollups =
+            new EnumMap<>(SalesPeriod.class);
+
+    /**
+     * Creates {@code SalesRollups} with no orders counted.
+     */
+    public SalesRollups() {
+        for (SalesPeriod period : SalesPeriod.values()) {
+            rollups.put(period, new TreeMap<>());
+            clientRollups.put(period, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Counts {@code order} of the client with {@code clientId} in the sales of its product and client in each period
+     * it was made in.
+     */
+    public void addOrder(ID clientId, Order order) {
+        requireAllNonNull(clientId, order);
+
+        // orders of no units are not counted, so that no product is shown as sold, or client as buying, in a period
+        // with none sold
+        if (order.getQuantity().value == 0) {
+            return;
+        }
+
+        ProductSales orderSales = ProductSales.of(order);
+        ClientSales clientSales = ClientSales.of(clientId, order);
+        for (SalesPeriod period : SalesPeriod.values()) {
+            LocalDate start = period.getStart(order.getTime());
+            rollups.get(period).computeIfAbsent(start, unused -> new HashMap<>())
+                    .merge(order.getProductId(), orderSales, ProductSales::plus);
+            clientRollups.get(period).computeIfAbsent(start, unused -> new HashMap<>())
+                    .merge(clientId, clientSales, ClientSales::plus);
+        }
+    }
+
+    /**
+     * Stops counting {@code order} of the client with {@code clientId}, which must have been counted, in the sales
+     * of its product and client.
+     */
+    public void removeOrder(ID clientId, Order order) {
+        requireAllNonNull(clientId, order);
+        if (order.getQuantity().value == 0) {
+            return;
+        }
+
+        ProductSales orderSales = ProductSales.of(order);
+        ClientSales clientSales = ClientSales.of(clientId, order);
+        ProductSales salesCounted = rollups.get(SalesPeriod.DAY).getOrDefault(order.getTime(), Map.of())
+                .get(order.getProductId());
+        ClientSales clientSalesCounted = clientRollups.get(SalesPeriod.DAY).getOrDefault(order.getTime(), Map.of())
+                .get(clientId);
+        if (salesCounted == null || clientSalesCounted == null) {
+            throw new IllegalArgumentException("Order was not counted in the sales: " + order);
+        }
+
+        // the sales of the day are checked first, as they are counted in the sales of every longer period
+        salesCounted.minus(orderSales);
+        clientSalesCounted.minus(clientSales);
+        for (SalesPeriod period : SalesPeriod.values()) {
+            LocalDate start = period.getStart(order.getTime());
+            uncount(rollups.get(period), start, order.getProductId(), sales -> sales.minus(orderSales),
+                    sales -> sales.getOrderCount() == 0);
+            uncount(clientRollups.get(period), start, clientId, sales -> sales.minus(clientSales),
+                    sales -> sales.getOrderCount() == 0);
+        }
+    }
+
+    private static <T> void uncount(NavigableMap<LocalDate, Map<ID, T>> rollup, LocalDate start, ID id,
+            UnaryOperator<T> minus, Predicate<T> isNone) {
+        Map<ID, T> salesById = rollup.get(start);
+        T newSales = minus.apply(salesById.get(id));
+        if (isNone.test(newSales)) {
+            salesById.remove(id);
+        } else {
+            salesById.put(id, newSales);
+        }
+
+        if (salesById.isEmpty()) {
+            rollup.remove(start);
+        }
+    }
+
+    /**
+     * Returns the sales of each product from {@code from} to {@code to}, both inclusive, by the first day of each
+     * {@code period} with sales in the range. Periods cut by the ends of the range only count the days in the range.
+     */
+    public NavigableMap<LocalDate, Map<ID, ProductSales>> getSalesByPeriod(LocalDate from, LocalDate to,
+            SalesPeriod period) {
+        requireAllNonNull(from, to, period);
+        return getByPeriod(rollups, from, to, period, ProductSales::plus);
+    }
+
+    /**
+     * Returns the sales of each product from {@code from} to {@code to}, both inclusive.
+     */
+    public Map<ID, ProductSales> getSalesBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+
+        // years are the longest periods, so the fewest are added up
+        return sum(getSalesByPeriod(from, to, SalesPeriod.YEAR).values());
+    }
+
+    /**
+     * Returns the sales to each client from {@code from} to {@code to}, both inclusive.
+     */
+    public Map<ID, ClientSales> getClientSalesBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return sum(getByPeriod(clientRollups, from, to, SalesPeriod.YEAR, ClientSales::plus).values(),
+                ClientSales::plus);
+    }
+
+    private static <T> NavigableMap<LocalDate, Map<ID, T>> getByPeriod(
+            Map<SalesPeriod, NavigableMap<LocalDate, Map<ID, T>>> rollups, LocalDate from, LocalDate to,
+            SalesPeriod period, BinaryOperator<T> plus) {
+        NavigableMap<LocalDate, Map<ID, T>> salesByPeriod = new TreeMap<>();
+        if (from.isAfter(to)) {
+            return salesByPeriod;
+        }
+
+        LocalDate lastStart = period.getStart(to);
+        boolean isLastPeriodWhole = period.isLastDay(to);
+        for (Map.Entry<LocalDate, Map<ID, T>> entry
+                : rollups.get(period).subMap(period.getStart(from), true, lastStart, true).entrySet()) {
+            LocalDate start = entry.getKey();
+            boolean isWhole = !start.isBefore(from) && (start.isBefore(lastStart) || isLastPeriodWhole);
+            if (isWhole) {
+                salesByPeriod.put(start, new HashMap<>(entry.getValue()));
+                continue;
+            }
+
+            // the next start is not after that of the last period, so it is a valid date
+            LocalDate firstDay = start.isBefore(from) ? from : start;
+            LocalDate lastDay = start.equals(lastStart) ? to : period.getNextStart(start).minusDays(1);
+            Map<ID, T> sales = sum(rollups.get(SalesPeriod.DAY).subMap(firstDay, true, lastDay, true).values(), plus);
+            if (!sales.isEmpty()) {
+                salesByPeriod.put(start, sales);
+            }
+        }
+
+        return salesByPeriod;
+    }
+
+    /**
+     * Returns the sales of each product in all of {@code salesByProductIds} together.
+     */
+    public static Map<ID, ProductSales> sum(Collection<Map<ID, ProductSales>> salesByProductIds) {
+        requireNonNull(salesByProductIds);
+        return sum(salesByProductIds, ProductSales::plus);
+    }
+
+    private static <T> Map<ID, T> sum(Collection<Map<ID, T>> salesByIds, BinaryOperator<T> plus) {
+        Map<ID, T> total = new HashMap<>();
+        for (Map<ID, T> salesById : salesByIds) {
+            salesById.forEach((id, sales) -> total.merge(id, sales, plus));
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the earliest day with sales, if any order is counted.
+     */
+    public Optional<LocalDate> getFirstDay() {
+        NavigableMap<LocalDate, Map<ID, ProductSales>> days = rollups.get(SalesPeriod.DAY);
+        return days.isEmpty() ? Optional.empty() : Optional.of(days.firstKey());
+    }
+
+    /**
+     * Returns the latest day with sales, if any order is counted.
+     */
+    public Optional<LocalDate> getLastDay() {
+        NavigableMap<LocalDate, Map<ID, ProductSales>> days = rollups.get(SalesPeriod.DAY);
+        return days.isEmpty() ? Optional.empty() : Optional.of(days.lastKey());
+    }
+
+    /**
+     * Returns true if no order with any units is counted.
+     */
+    public boolean isEmpty() {
+        return rollups.get(SalesPeriod.DAY).isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.sales;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import seedu.address.model.order.LazyOrderSet;
+import seedu.address.model.order.Order;
+import seedu.address.model.sales.exceptions.SalesOverflowException;
+
+/**
+ * The units and revenue in cents of a number of orders together.
+ * Every sum of the units or revenue of some of the orders, such as of a product, a client or a period, is at most
+ * these totals, so none of them is too large for a {@code long} either.
+ * Guarantees: immutable, and neither total is too large for a {@code long}.
+ */
+public class SalesTotals {
+    public static final SalesTotals NONE = new SalesTotals(0, 0);
+
+    private final long units;
+    private final long revenueCents;
+
+    private SalesTotals(long units, long revenueCents) {
+        this.units = units;
+        this.revenueCents = revenueCents;
+    }
+
+    /**
+     * Returns the totals of {@code units} and {@code revenueCents}, neither of which can be negative.
+     */
+    public static SalesTotals of(long units, long revenueCents) {
+        checkArgument(units >= 0 && revenueCents >= 0, "Totals cannot be negative");
+        return new SalesTotals(units, revenueCents);
+    }
+
+    /**
+     * Returns the totals of {@code orders}.
+     * The totals of a {@link LazyOrderSet} that knows them are returned without reading its orders.
+     *
+     * @throws SalesOverflowException if the units or revenue are too large for a {@code long}.
+     */
+    public static SalesTotals of(Collection<Order> orders) {
+        requireNonNull(orders);
+
+        if (orders instanceof LazyOrderSet && ((LazyOrderSet) orders).getTotals().isPresent()) {
+            return ((LazyOrderSet) orders).getTotals().get();
+        }
+
+        long units = 0;
+        long revenueCents = 0;
+        try {
+            for (Order order : orders) {
+                units = Math.addExact(units, order.getQuantity().value);
+                revenueCents = Math.addExact(revenueCents, order.getRevenueCents());
+            }
+        } catch (ArithmeticException ae) {
+            throw new SalesOverflowException();
+        }
+
+        return new SalesTotals(units, revenueCents);
+    }
+
+    /**
+     * Returns these totals with {@code orders} counted as well.
+     *
+     * @throws SalesOverflowException if the units or revenue are too large for a {@code long}.
+     */
+    public SalesTotals plus(Collection<Order> orders) {
+        return plus(of(orders));
+    }
+
+    /**
+     * Returns these totals with {@code other} added to them.
+     *
+     * @throws SalesOverflowException if the units or revenue are too large for a {@code long}.
+     */
+    public SalesTotals plus(SalesTotals other) {
+        requireNonNull(other);
+
+        try {
+            return new SalesTotals(Math.addExact(units, other.units),
+                    Math.addExact(revenueCents, other.revenueCents));
+        } catch (ArithmeticException ae) {
+            throw new SalesOverflowException();
+        }
+    }
+
+    /**
+     * Returns these totals without {@code orders}, which must have been counted in them.
+     */
+    public SalesTotals minus(Collection<Order> orders) {
+        // orders counted in the totals have units and a revenue that fit in them
+        SalesTotals removed = of(orders);
+        checkArgument(removed.units <= units && removed.revenueCents <= revenueCents,
+                "Orders were not counted: " + orders);
+        return new SalesTotals(units - removed.units, revenueCents - removed.revenueCents);
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SalesTotals // instanceof handles nulls
+                && units == ((SalesTotals) other).units
+                && revenueCents == ((SalesTotals) other).revenueCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(units, revenueCents);
+    }
+
+    @Override
+    public String toString() {
+        return "[ Units: " + units + ", Revenue: " + revenueCents + " cents ]";
+    }
+}
@@ -0,0 +1,10 @@
+package seedu.address.model.sales.exceptions;
+
+/**
+ * Signals that the operation would make the units or revenue of the orders too large to be counted.
+ */
+public class SalesOverflowException extends RuntimeException {
+    public SalesOverflowException() {
+        super("Operation would make the units or revenue of the orders too large to be counted");
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PRODUCT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
+import seedu.address.model.commons.Name;
+import seedu.address.model.commons.exceptions.IdsExhaustedException;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
+
+/**
+ * Converts the clients and products read from a file into an {@code AddressBook}.
+ * <p>
+ * Clients and products saved without an ID are first given new IDs from the allocators of the address book, in one
+ * block each and in file order, past the saved high-water marks and every saved ID. The model objects can then be
+ * created in batches on the common fork-join pool, after which they are checked for duplicates in a single pass and
+ * put into the address book with one replacement of each list. The products are created first, so that the orders of
+ * the clients can be checked against them, and orders that refer to their product by name can be given its ID.
+ */
+final class AddressBookMaterializer {
+    /** The number of adapted clients or products converted by one fork-join task. */
+    static final int BATCH_SIZE = 512;
+
+    private AddressBookMaterializer() {} // prevents instantiation
+
+    /**
+     * Returns an address book with {@code clients} and {@code products}, in the order given.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or an order refers to a product
+     *     that is not in {@code products}. If several adapted products or clients are invalid, the error is always
+     *     that of the first one, and invalid products are reported before invalid clients.
+     */
+    static AddressBook materialize(List<JsonAdaptedClient> clients, List<JsonAdaptedProduct> products)
+            throws IllegalValueException {
+        return materialize(clients, products, null, null);
+    }
+
+    /**
+     * Similar to {@link #materialize(List, List)}, but the address book does not hand out client or product IDs below
+     * the saved high-water marks {@code nextClientId} and {@code nextProductId}, which are null if they were not saved.
+     */
+    static AddressBook materialize(List<JsonAdaptedClient> clients, List<JsonAdaptedProduct> products,
+                                   Integer nextClientId, Integer nextProductId) throws IllegalValueException {
+        return materialize(clients, products, nextClientId, nextProductId, unused -> null);
+    }
+
+    /**
+     * Similar to {@link #materialize(List, List, Integer, Integer)}, but gives the client at each index {@code i} the
+     * orders {@code ordersOf.apply(i)} in place of its adapted orders, if they are not null. These orders are not
+     * checked against the products, so that they need not be read.
+     */
+    static AddressBook materialize(List<JsonAdaptedClient> clients, List<JsonAdaptedProduct> products,
+                                   Integer nextClientId, Integer nextProductId, IntFunction<Set<Order>> ordersOf)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+
+        List<ID> newProductIds = assignIds(products, JsonAdaptedProduct::getId, nextProductId,
+                addressBook.getProductIdAllocator());
+        List<Product> modelProducts = convertAll(products, (product, i) -> product.toModelType(newProductIds.get(i)));
+
+        Map<Name, ID> productIdsByName = new HashMap<>();
+        Set<ID> productIds = new HashSet<>();
+        for (Product product : modelProducts) {
+            if (productIdsByName.put(product.getName(), product.getId()) != null
+                    || !productIds.add(product.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PRODUCT);
+            }
+        }
+
+        List<ID> newClientIds = assignIds(clients, JsonAdaptedClient::getId, nextClientId,
+                addressBook.getClientIdAllocator());
+        List<Client> modelClients = convertAll(clients, (client, i) ->
+                client.withProductIds(productIdsByName).toModelType(newClientIds.get(i)));
+
+        Set<ID> clientIds = new HashSet<>();
+        for (int i = 0; i < modelClients.size(); i++) {
+            Client client = modelClients.get(i);
+            Set<Order> orders = ordersOf.apply(i);
+            if (orders != null) {
+                client = Client.updateClient(client, client.getName(), client.getPhoneNumber(), client.getEmail(),
+                        client.getAddress(), orders);
+                modelClients.set(i, client);
+            } else {
+                for (Order order : client.getOrders()) {
+                    if (!productIds.contains(order.getProductId())) {
+                        throw new IllegalValueException(JsonAdaptedOrder.MESSAGE_UNKNOWN_PRODUCT);
+                    }
+                }
+            }
+
+            if (!clientIds.add(client.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+            }
+        }
+
+        addressBook.setClients(modelClients);
+        addressBook.setProducts(modelProducts);
+        return addressBook;
+    }
+
+    /**
+     * Advances {@code allocator} past {@code nextId}, if it is not null, and past the saved ID of every element of
+     * {@code adapted}. Then hands out one block of new IDs for the elements saved without one, in order.
+     *
+     * @return the new ID of each element at its index, or null for the elements saved with an ID.
+     */
+    private static <T> List<ID> assignIds(List<T> adapted, Function<T, Integer> savedIdOf, Integer nextId,
+                                          IdAllocator allocator) throws IllegalValueException {
+        if (nextId != null) {
+            allocator.advanceTo(nextId);
+        }
+
+        int missingCount = 0;
+        for (T element : adapted) {
+            Integer savedId = savedIdOf.apply(element);
+            if (savedId == null) {
+                missingCount++;
+            } else if (ID.isValidId(savedId)) {
+                allocator.advanceTo(savedId + 1);
+            }
+        }
+
+        List<ID> newIds = new ArrayList<>(Collections.nCopies(adapted.size(), null));
+        int newId;
+        try {
+            newId = allocator.allocateBlock(missingCount);
+        } catch (IdsExhaustedException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+
+        for (int i = 0; i < adapted.size(); i++) {
+            if (savedIdOf.apply(adapted.get(i)) == null) {
+                newIds.set(i, new ID(newId++));
+            }
+        }
+
+        return newIds;
+    }
+
+    /**
+     * Converts every element of {@code adapted} with {@code converter} on the common fork-join pool, and returns
+     * their model objects in the same order.
+     *
+     * @throws IllegalValueException the failure of the first invalid element, if any.
+     */
+    private static <T, R> List<R> convertAll(List<T> adapted, Converter<T, R> converter)
+            throws IllegalValueException {
+        List<R> results = new ArrayList<>(Collections.nCopies(adapted.size(), null));
+        IllegalValueException[] failures = new IllegalValueException[adapted.size()];
+
+        ForkJoinPool.commonPool().invoke(
+                new ConversionTask<>(adapted, converter, results, failures, 0, adapted.size()));
+
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Converts the adapted client or product at an index into its model object.
+     */
+    @FunctionalInterface
+    private interface Converter<T, R> {
+        R convert(T adapted, int index) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the elements in a range of a list, splitting it into batches of at most {@link #BATCH_SIZE} elements.
+     * Each element's model object or failure is stored at its index. A batch stops at its first invalid element, as
+     * the elements after it do not affect the outcome.
+     */
+    private static class ConversionTask<T, R> extends RecursiveAction {
+        private final List<T> adapted;
+        private final Converter<T, R> converter;
+        private final List<R> results;
+        private final IllegalValueException[] failures;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<T> adapted, Converter<T, R> converter, List<R> results,
+                IllegalValueException[] failures, int from, int to) {
+            this.adapted = adapted;
+            this.converter = converter;
+            this.results = results;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask<>(adapted, converter, results, failures, from, middle),
+                        new ConversionTask<>(adapted, converter, results, failures, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    results.set(i, converter.convert(adapted.get(i), i));
+                } catch (IllegalValueException ive) {
+                    failures[i] = ive;
+                    return;
+                }
+            }
+        }
+    }
+}
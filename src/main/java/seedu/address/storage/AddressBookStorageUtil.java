@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Helper functions for choosing the {@code AddressBookStorage} of each {@code AddressBookFormat}.
+ */
+public class AddressBookStorageUtil {
+    public static final String CORRUPTED_FILE_SUFFIX = ".corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageUtil.class);
+
+    /**
+     * Returns the format of the address book file at {@code filePath}, going by its header.
+     * Returns null if the file does not exist.
+     */
+    public static AddressBookFormat detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return null;
+        }
+
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return AddressBookFormat.BINARY;
+        }
+
+        return ShardedAddressBookStorage.isManifestFile(filePath) ? AddressBookFormat.SHARDED : AddressBookFormat.JSON;
+    }
+
+    /**
+     * Returns the storage used for the address book file at {@code filePath} when it is in {@code format}.
+     * Json files are kept with a journal of changes.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        return createAddressBookStorage(format, filePath, 0);
+    }
+
+    /**
+     * Similar to {@link #createAddressBookStorage(AddressBookFormat, Path)}, but a sharded address book keeps at most
+     * {@code orderCacheSize} orders in memory, reading the orders of each client when they are needed, unless
+     * {@code orderCacheSize} is 0.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath,
+                                                              long orderCacheSize) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath, orderCacheSize);
+
+        case JSON:
+        default:
+            return new JournalAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the newest valid version of the address book file at {@code filePath}, as read by {@code reader}.
+     * The file itself is read first, which succeeds unless the last save was interrupted or the file was damaged.
+     * Otherwise the previous version kept at {@link FileUtil#getBackupFilePath(Path)} is read instead, and a damaged
+     * file is moved aside to {@link #CORRUPTED_FILE_SUFFIX} so that the next save does not replace the backup with it.
+     *
+     * @throws DataConversionException if neither version can be read.
+     */
+    static Optional<ReadOnlyAddressBook> readNewestValidVersion(Path filePath, VersionReader reader)
+            throws DataConversionException {
+        DataConversionException failure;
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = reader.read(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+
+            failure = null;
+        } catch (DataConversionException e) {
+            failure = e;
+        }
+
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        if (!FileUtil.isFileExists(backupFilePath)) {
+            if (failure != null) {
+                throw failure;
+            }
+
+            return Optional.empty();
+        }
+
+        Optional<ReadOnlyAddressBook> backup;
+        try {
+            backup = reader.read(backupFilePath);
+        } catch (DataConversionException e) {
+            logger.warning("Backup file " + backupFilePath + " cannot be read either");
+            throw failure != null ? failure : e;
+        }
+
+        logger.warning("Recovered the previous version of " + filePath + " from " + backupFilePath);
+        if (failure != null) {
+            Path corruptedFilePath = Paths.get(filePath.toString() + CORRUPTED_FILE_SUFFIX);
+            try {
+                FileUtil.moveFile(filePath, corruptedFilePath);
+            } catch (IOException ioe) {
+                throw new DataConversionException(ioe);
+            }
+
+            logger.warning("Moved unreadable file " + filePath + " to " + corruptedFilePath);
+        }
+
+        return backup;
+    }
+
+    /**
+     * Reads one version of an address book file.
+     */
+    @FunctionalInterface
+    interface VersionReader {
+        Optional<ReadOnlyAddressBook> read(Path filePath) throws DataConversionException;
+    }
+}
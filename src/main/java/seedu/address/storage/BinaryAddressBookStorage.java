@@ -0,0 +1,493 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
+import seedu.address.model.commons.Name;
+import seedu.address.model.commons.exceptions.IdsExhaustedException;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
+import seedu.address.model.sales.exceptions.SalesOverflowException;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC_HEADER}, a format version and the ID high-water marks of the clients and the
+ * products. It is followed by the products and then by the clients, each with its ID. The orders of the clients refer
+ * to their product by its ID. Every client and product is a record prefixed with its length in bytes. Dates are
+ * stored as epoch days, and quantities and unit prices as numbers, falling back to text for values that cannot be
+ * restored exactly from a number.
+ * <p>
+ * Files of version 1 are still read. They store a table of the product names used in orders before the clients and
+ * the products, and their orders refer to an entry of that table, which is looked up by name once the products have
+ * been read. Files of version 2 store the IDs of the products, but not those of the clients or the high-water marks.
+ * Clients and products read without an ID are given a new one. Files of version 3 and before do not store the IDs of
+ * the orders, which are given IDs by their client instead. Files of version 4 and before do not store the unit price
+ * of the orders, which are read without one.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %1$d is not supported";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Order refers to a product name that does not exist";
+    public static final String MESSAGE_UNKNOWN_PRODUCT = "Order refers to a product that does not exist";
+
+    private static final byte[] MAGIC_HEADER = {'S', 'E', 'L', 'L', 'A', 'H', 'B', 'N'};
+    private static final short FORMAT_VERSION = 5;
+    private static final short UNPRICED_ORDER_VERSION = 4;
+    private static final short ORDERLESS_ID_VERSION = 3;
+    private static final short CLIENTLESS_ID_VERSION = 2;
+    private static final int NO_ORDER_ID = -1;
+    private static final short NAME_TABLE_VERSION = 1;
+    private static final long TEXT_VALUE = -1;
+
+    private static final String CANONICAL_UNIT_PRICE_REGEX = "(0|[1-9][0-9]{0,15})(\\.[0-9]{2})?";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the header of a binary address book.
+     * Assumes file exists
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC_HEADER, in.readNBytes(MAGIC_HEADER.length));
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Falls back to the version of the file before the last save if the file cannot be read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return AddressBookStorageUtil.readNewestValidVersion(filePath, BinaryAddressBookStorage::readFile);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataConversionException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(FileUtil.newMappedInputStream(filePath))) {
+            return Optional.of(read(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and its previous version is kept as a backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            write(addressBook, dataOut);
+            dataOut.flush();
+        }, true);
+    }
+
+    //// writing
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.write(MAGIC_HEADER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(addressBook.getNextClientId());
+        out.writeInt(addressBook.getNextProductId());
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+
+        out.writeInt(addressBook.getProductList().size());
+        for (Product product : addressBook.getProductList()) {
+            recordBytes.reset();
+            writeProduct(product, record);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+
+        out.writeInt(addressBook.getClientList().size());
+        for (Client client : addressBook.getClientList()) {
+            recordBytes.reset();
+            writeClient(client, record);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static void writeClient(Client client, DataOutputStream out) throws IOException {
+        out.writeInt(client.getId().getId());
+        out.writeUTF(client.getName().fullName);
+        out.writeUTF(client.getPhoneNumber().value);
+        writeOptionalText(client.getEmail() == null ? null : client.getEmail().value, out);
+        writeOptionalText(client.getAddress() == null ? null : client.getAddress().value, out);
+
+        out.writeInt(client.getOrders().size());
+        for (Order order : client.getOrders()) {
+            out.writeInt(order.getId().map(ID::getId).orElse(NO_ORDER_ID));
+            out.writeInt(order.getProductId().getId());
+            writeQuantity(order.getQuantity(), out);
+            out.writeLong(order.getTime().toEpochDay());
+            writeOptionalUnitPrice(order.getUnitPrice().orElse(null), out);
+        }
+    }
+
+    private static void writeProduct(Product product, DataOutputStream out) throws IOException {
+        out.writeInt(product.getId().getId());
+        out.writeUTF(product.getName().fullName);
+        writeUnitPrice(product.getUnitPrice().toString(), out);
+
+        out.writeBoolean(product.getQuantity() != null);
+        if (product.getQuantity() != null) {
+            writeQuantity(product.getQuantity(), out);
+        }
+    }
+
+    private static void writeOptionalText(String text, DataOutputStream out) throws IOException {
+        out.writeBoolean(text != null);
+        if (text != null) {
+            out.writeUTF(text);
+        }
+    }
+
+    private static void writeQuantity(Quantity quantity, DataOutputStream out) throws IOException {
+        // Quantities are never negative, so they are never mistaken for TEXT_VALUE
+        out.writeLong(quantity.value);
+    }
+
+    private static void writeUnitPrice(String unitPrice, DataOutputStream out) throws IOException {
+        if (!unitPrice.matches(CANONICAL_UNIT_PRICE_REGEX)) {
+            out.writeLong(TEXT_VALUE);
+            out.writeUTF(unitPrice);
+            return;
+        }
+
+        boolean hasCents = unitPrice.contains(".");
+        out.writeLong(hasCents ? Long.parseLong(unitPrice.replace(".", "")) : Long.parseLong(unitPrice) * 100);
+        out.writeBoolean(hasCents);
+    }
+
+    private static void writeOptionalUnitPrice(UnitPrice unitPrice, DataOutputStream out) throws IOException {
+        out.writeBoolean(unitPrice != null);
+        if (unitPrice != null) {
+            writeUnitPrice(unitPrice.toString(), out);
+        }
+    }
+
+    //// reading
+
+    private static AddressBook read(DataInputStream in) throws IOException, IllegalValueException {
+        byte[] header = in.readNBytes(MAGIC_HEADER.length);
+        if (!Arrays.equals(MAGIC_HEADER, header)) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+
+        short version = in.readShort();
+        if (version == NAME_TABLE_VERSION) {
+            return readWithNameTable(in);
+        } else if (version != FORMAT_VERSION && version != UNPRICED_ORDER_VERSION && version != ORDERLESS_ID_VERSION
+                && version != CLIENTLESS_ID_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        boolean hasClientIds = version != CLIENTLESS_ID_VERSION;
+        boolean hasOrderIds = version == FORMAT_VERSION || version == UNPRICED_ORDER_VERSION;
+        boolean hasOrderPrices = version == FORMAT_VERSION;
+        AddressBook addressBook = new AddressBook();
+        if (hasClientIds) {
+            addressBook.getClientIdAllocator().advanceTo(in.readInt());
+            addressBook.getProductIdAllocator().advanceTo(in.readInt());
+        }
+
+        readProducts(in, true, addressBook);
+
+        ProductResolver productResolver = productId -> {
+            if (productId < 0 || addressBook.findProduct(new ID(productId)).isEmpty()) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_PRODUCT);
+            }
+
+            return new ID(productId);
+        };
+
+        int clientCount = readCount(in);
+        for (int i = 0; i < clientCount; i++) {
+            addClient(readClient(readRecord(in), hasClientIds, hasOrderIds, hasOrderPrices,
+                    addressBook.getClientIdAllocator(), productResolver), addressBook);
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Reads the rest of a version 1 file, whose clients come before the products that their orders refer to by name.
+     */
+    private static AddressBook readWithNameTable(DataInputStream in) throws IOException, IllegalValueException {
+        String[] productNames = new String[readCount(in)];
+        for (int i = 0; i < productNames.length; i++) {
+            productNames[i] = in.readUTF();
+        }
+
+        DataInputStream[] clientRecords = new DataInputStream[readCount(in)];
+        for (int i = 0; i < clientRecords.length; i++) {
+            clientRecords[i] = readRecord(in);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        Map<Name, ID> productIdsByName = readProducts(in, false, addressBook);
+
+        ProductResolver productResolver = productNameIndex -> {
+            if (productNameIndex < 0 || productNameIndex >= productNames.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRING_INDEX);
+            }
+
+            Name productName = parse(productNames[productNameIndex], Name::isValidName,
+                    Name.MESSAGE_CONSTRAINTS, Name::new);
+            ID productId = productIdsByName.get(productName);
+            if (productId == null) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_PRODUCT);
+            }
+
+            return productId;
+        };
+
+        for (DataInputStream clientRecord : clientRecords) {
+            addClient(readClient(clientRecord, false, false, false, addressBook.getClientIdAllocator(),
+                    productResolver), addressBook);
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Reads the products into {@code addressBook}, and returns the ID of each product by name.
+     *
+     * @param hasIds whether each product is stored with its ID. Products without one are given a new ID.
+     */
+    private static Map<Name, ID> readProducts(DataInputStream in, boolean hasIds, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        // duplicates are checked over the whole batch by name and ID, and the products then set in one change
+        Map<Name, ID> productIdsByName = new HashMap<>();
+        Set<ID> productIds = new HashSet<>();
+        int productCount = readCount(in);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Product product = readProduct(readRecord(in), hasIds, addressBook.getProductIdAllocator());
+            if (productIdsByName.putIfAbsent(product.getName(), product.getId()) != null
+                    || !productIds.add(product.getId())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PRODUCT);
+            }
+
+            products.add(product);
+        }
+
+        addressBook.setProducts(products);
+        return productIdsByName;
+    }
+
+    private static void addClient(Client client, AddressBook addressBook) throws IllegalValueException {
+        if (addressBook.hasClient(client)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT);
+        }
+
+        try {
+            addressBook.addClient(client);
+        } catch (SalesOverflowException soe) {
+            throw new IllegalValueException(soe.getMessage());
+        }
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative count of " + count + " found");
+        }
+
+        return count;
+    }
+
+    private static DataInputStream readRecord(DataInputStream in) throws IOException {
+        byte[] record = new byte[readCount(in)];
+        in.readFully(record);
+        return new DataInputStream(new ByteArrayInputStream(record));
+    }
+
+    /**
+     * Reads the ID of a client or product if it is stored with one, or hands out a new ID from {@code ids} if not.
+     */
+    private static ID readId(DataInputStream in, boolean hasId, IdAllocator ids)
+            throws IOException, IllegalValueException {
+        if (!hasId) {
+            try {
+                return ids.allocate();
+            } catch (IdsExhaustedException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+
+        int storedId = in.readInt();
+        if (!ID.isValidId(storedId)) {
+            throw new IllegalValueException(ID.MESSAGE_CONSTRAINTS);
+        }
+
+        return new ID(storedId);
+    }
+
+    private static ID readOrderId(DataInputStream in) throws IOException, IllegalValueException {
+        int storedId = in.readInt();
+        if (storedId == NO_ORDER_ID) {
+            return null;
+        } else if (!ID.isValidId(storedId)) {
+            throw new IllegalValueException(ID.MESSAGE_CONSTRAINTS);
+        }
+
+        return new ID(storedId);
+    }
+
+    private static Client readClient(DataInputStream in, boolean hasId, boolean hasOrderIds, boolean hasOrderPrices,
+                                     IdAllocator ids, ProductResolver productResolver)
+            throws IOException, IllegalValueException {
+        ID id = readId(in, hasId, ids);
+        Name name = parse(in.readUTF(), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+        PhoneNumber phoneNumber = parse(in.readUTF(), PhoneNumber::isValidPhoneNumber,
+                PhoneNumber.MESSAGE_CONSTRAINTS, PhoneNumber::new);
+        Email email = in.readBoolean()
+                ? parse(in.readUTF(), Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, Email::new)
+                : null;
+        Address address = in.readBoolean()
+                ? parse(in.readUTF(), Address::isValidAddress, Address.MESSAGE_CONSTRAINTS, Address::new)
+                : null;
+
+        int orderCount = readCount(in);
+        Set<Order> orders = new HashSet<>();
+        for (int i = 0; i < orderCount; i++) {
+            ID orderId = hasOrderIds ? readOrderId(in) : null;
+            ID productId = productResolver.resolve(in.readInt());
+            Quantity quantity = parse(readQuantity(in), Quantity::isValidQuantity, Quantity.MESSAGE_CONSTRAINTS,
+                    Quantity::new);
+            LocalDate time = LocalDate.ofEpochDay(in.readLong());
+            UnitPrice unitPrice = hasOrderPrices && in.readBoolean()
+                    ? parse(readUnitPrice(in), UnitPrice::isValidUnitPrice, UnitPrice.MESSAGE_CONSTRAINTS,
+                            UnitPrice::new)
+                    : null;
+            orders.add(new Order(orderId, productId, quantity, time, unitPrice));
+        }
+
+        return new Client(id, name, phoneNumber, email, address, orders);
+    }
+
+    private static Product readProduct(DataInputStream in, boolean hasId, IdAllocator ids)
+            throws IOException, IllegalValueException {
+        ID id = readId(in, hasId, ids);
+
+        Name name = parse(in.readUTF(), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+        UnitPrice unitPrice = parse(readUnitPrice(in), UnitPrice::isValidUnitPrice, UnitPrice.MESSAGE_CONSTRAINTS,
+                UnitPrice::new);
+        Quantity quantity = in.readBoolean()
+                ? parse(readQuantity(in), Quantity::isValidQuantity, Quantity.MESSAGE_CONSTRAINTS, Quantity::new)
+                : null;
+
+        return new Product(id, name, unitPrice, quantity);
+    }
+
+    private static String readQuantity(DataInputStream in) throws IOException {
+        long quantity = in.readLong();
+        return quantity == TEXT_VALUE ? in.readUTF() : Long.toString(quantity);
+    }
+
+    private static String readUnitPrice(DataInputStream in) throws IOException {
+        long cents = in.readLong();
+        if (cents == TEXT_VALUE) {
+            return in.readUTF();
+        }
+
+        boolean hasCents = in.readBoolean();
+        return hasCents
+                ? String.format("%d.%02d", cents / 100, cents % 100)
+                : Long.toString(cents / 100);
+    }
+
+    private static <T> T parse(String value, Predicate<String> isValid, String messageConstraints,
+                               Function<String, T> constructor) throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(messageConstraints);
+        }
+
+        return constructor.apply(value);
+    }
+
+    /**
+     * Finds the ID of the product that an order refers to by the number stored in the file.
+     */
+    @FunctionalInterface
+    private interface ProductResolver {
+        ID resolve(int productReference) throws IllegalValueException;
+    }
+}
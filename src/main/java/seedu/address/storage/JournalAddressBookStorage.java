@@ -0,0 +1,590 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
+import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot plus an append-only journal.
+ * <p>
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. Every save appends one
+ * compact line to the journal for each client or product that was added, edited or deleted since the previous save,
+ * so the cost of a save is proportional to the change instead of to the whole address book. Orders are part of their
+ * client, so adding or removing an order is journaled as a change to that client. A save that hands out new IDs also
+ * journals the new ID high-water marks, so that IDs are not handed out again after the clients or products with them
+ * are deleted. Reading replays the journal on top
+ * of the snapshot, and the journal is folded back into a fresh snapshot once it grows larger than the address book.
+ * Saves after a read keep appending to the journal read, unless it came from the backup or ended in an incomplete
+ * entry.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_CORRUPTED_JOURNAL = "Journal entry %1$d is not a valid %2$s entry.";
+
+    private static final int MIN_COMPACTION_THRESHOLD = 100;
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // The clients and products as last written to filePath, in the order that replaying the journal produces.
+    private final LinkedHashMap<ID, PersistedClient> persistedClients = new LinkedHashMap<>();
+    private final LinkedHashMap<ID, Product> persistedProducts = new LinkedHashMap<>();
+
+    // Whether the persisted state above, and the keys it is stored under, describe the files at filePath.
+    private boolean isTracking;
+    private int journalSize;
+    private int persistedNextClientId;
+    private int persistedNextProductId;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return Paths.get(snapshotFilePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Falls back to the snapshot and journal from before the last compaction if the snapshot cannot be read.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Map<Path, Integer> appendableJournalSizes = new HashMap<>();
+        Optional<ReadOnlyAddressBook> addressBook = AddressBookStorageUtil.readNewestValidVersion(filePath,
+                version -> readFile(version, appendableJournalSizes));
+
+        if (filePath.equals(this.filePath)) {
+            track(addressBook, appendableJournalSizes.get(filePath));
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Keeps track of {@code addressBook}, which has just been replayed from the snapshot at the file path of this
+     * storage and the {@code journalSize} entries of its journal, so that the next save appends to that journal.
+     * Nothing is tracked, and the next save starts a new snapshot, if {@code journalSize} is null.
+     */
+    private void track(Optional<ReadOnlyAddressBook> addressBook, Integer journalSize) {
+        isTracking = false;
+        if (addressBook.isEmpty() || journalSize == null) {
+            return;
+        }
+
+        persistedClients.clear();
+        addressBook.get().getClientList().forEach(client ->
+                persistedClients.put(client.getId(), new PersistedClient(client)));
+        persistedProducts.clear();
+        addressBook.get().getProductList().forEach(product -> persistedProducts.put(product.getId(), product));
+        persistedNextClientId = addressBook.get().getNextClientId();
+        persistedNextProductId = addressBook.get().getNextProductId();
+
+        isTracking = true;
+        this.journalSize = journalSize;
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     * If later entries can be appended to the journal, the number of entries replayed is put in
+     * {@code appendableJournalSizes}.
+     */
+    private static Optional<ReadOnlyAddressBook> readFile(Path filePath, Map<Path, Integer> appendableJournalSizes)
+            throws DataConversionException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBook base;
+        long baseChecksum;
+        try (CheckedInputStream in = new CheckedInputStream(FileUtil.newMappedInputStream(filePath), new CRC32())) {
+            base = JsonAddressBookStreamer.read(in);
+            // The checksum covers the whole file, including anything after the address book itself
+            in.transferTo(OutputStream.nullOutputStream());
+            baseChecksum = in.getChecksum().getValue();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        String journalText = readJournalText(journalFilePath);
+        List<JsonAdaptedJournalEntry> journal = readJournal(journalText, journalFilePath);
+
+        AddressBook addressBook;
+        try {
+            addressBook = replay(base, baseChecksum, journal);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (isComplete(journalText, journal) && belongsToBase(journal.get(0), base, baseChecksum)
+                && isKeyedById(journal, base)) {
+            appendableJournalSizes.put(filePath, journal.size() - 1);
+        }
+
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the previous save are written when {@code filePath} is the file path of this storage.
+     * Any other {@code filePath} receives a complete snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        if (!isTracking || !isReachableByJournal(addressBook)) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<Client> changedClients = getChangedClients(addressBook);
+        List<ID> removedClients = getRemovedKeys(addressBook.getClientList(), Client::getId, persistedClients);
+        List<Product> changedProducts = getChangedProducts(addressBook);
+        List<ID> removedProducts = getRemovedKeys(addressBook.getProductList(), Product::getId, persistedProducts);
+
+        changedClients.forEach(client ->
+                entries.add(JsonAdaptedJournalEntry.putClient(client.getId().getId(), client)));
+        removedClients.forEach(key -> entries.add(JsonAdaptedJournalEntry.removeClient(key.getId())));
+        changedProducts.forEach(product ->
+                entries.add(JsonAdaptedJournalEntry.putProduct(product.getId().getId(), product)));
+        removedProducts.forEach(key -> entries.add(JsonAdaptedJournalEntry.removeProduct(key.getId())));
+        if (addressBook.getNextClientId() > persistedNextClientId
+                || addressBook.getNextProductId() > persistedNextProductId) {
+            entries.add(JsonAdaptedJournalEntry.advanceIds(addressBook.getNextClientId(),
+                    addressBook.getNextProductId()));
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        int liveSize = addressBook.getClientList().size() + addressBook.getProductList().size();
+        if (journalSize + entries.size() > Math.max(MIN_COMPACTION_THRESHOLD, liveSize)) {
+            compact(addressBook);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(LINE_SEPARATOR);
+        }
+
+        FileUtil.appendToFile(getJournalFilePath(filePath), lines.toString());
+        journalSize += entries.size();
+
+        removedClients.forEach(persistedClients::remove);
+        changedClients.forEach(client -> persistedClients.put(client.getId(), new PersistedClient(client)));
+        removedProducts.forEach(persistedProducts::remove);
+        changedProducts.forEach(product -> persistedProducts.put(product.getId(), product));
+        persistedNextClientId = Math.max(persistedNextClientId, addressBook.getNextClientId());
+        persistedNextProductId = Math.max(persistedNextProductId, addressBook.getNextProductId());
+    }
+
+    /**
+     * Replaces the snapshot and the journal at the file path of this storage with the contents of {@code addressBook}.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal of " + filePath);
+        writeSnapshot(addressBook, filePath);
+
+        persistedClients.clear();
+        addressBook.getClientList().forEach(client ->
+                persistedClients.put(client.getId(), new PersistedClient(client)));
+        persistedProducts.clear();
+        addressBook.getProductList().forEach(product -> persistedProducts.put(product.getId(), product));
+        persistedNextClientId = addressBook.getNextClientId();
+        persistedNextProductId = addressBook.getNextProductId();
+
+        isTracking = true;
+        journalSize = 0;
+    }
+
+    /**
+     * Writes {@code addressBook} as a snapshot at {@code filePath}, followed by an empty journal for that snapshot.
+     * The previous snapshot and its journal are kept as a backup.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomically(filePath, out ->
+                JsonAddressBookStreamer.write(addressBook, new CheckedOutputStream(out, checksum)), true);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (FileUtil.isFileExists(journalFilePath)) {
+            FileUtil.moveFile(journalFilePath, getJournalFilePath(FileUtil.getBackupFilePath(filePath)));
+        }
+
+        List<Integer> clientKeys = addressBook.getClientList().stream()
+                .map(client -> client.getId().getId())
+                .collect(Collectors.toList());
+        List<Integer> productKeys = addressBook.getProductList().stream()
+                .map(product -> product.getId().getId())
+                .collect(Collectors.toList());
+        JsonAdaptedJournalEntry base = JsonAdaptedJournalEntry.base(checksum.getValue(), clientKeys, productKeys);
+
+        // A crash before the journal is replaced leaves an outdated journal behind, which is recognised by its checksum
+        FileUtil.writeToFile(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(base) + LINE_SEPARATOR);
+    }
+
+    /**
+     * Returns the contents of the journal at {@code journalFilePath}, or an empty string if there is no journal.
+     *
+     * @throws DataConversionException if the journal cannot be read.
+     */
+    private static String readJournalText(Path journalFilePath) throws DataConversionException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return "";
+        }
+
+        try {
+            return FileUtil.readFromFile(journalFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the entries in {@code journalText}, read from the journal at {@code journalFilePath}.
+     * An incomplete last line, as left behind by an interrupted save, is discarded.
+     *
+     * @throws DataConversionException if any other line is not a valid entry.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(String journalText, Path journalFilePath)
+            throws DataConversionException {
+        List<JsonAdaptedJournalEntry> journal = new ArrayList<>();
+        String[] lines = journalText.split(LINE_SEPARATOR);
+
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+
+            try {
+                journal.add(JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class));
+            } catch (IOException ioe) {
+                if (i < lines.length - 1) {
+                    throw new DataConversionException(ioe);
+                }
+
+                logger.warning("Discarding incomplete last entry of journal " + journalFilePath);
+            }
+        }
+
+        return journal;
+    }
+
+    /**
+     * Returns the address book obtained by applying {@code journal} to {@code base}.
+     * The journal is ignored if it was written for a snapshot other than the one with {@code baseChecksum}.
+     *
+     * @throws IllegalValueException if an entry of the journal is missing its key or its data, or its data is invalid.
+     */
+    private static AddressBook replay(AddressBook base, long baseChecksum, List<JsonAdaptedJournalEntry> journal)
+            throws IllegalValueException {
+        if (journal.isEmpty()) {
+            return base;
+        }
+
+        JsonAdaptedJournalEntry header = journal.get(0);
+        if (!belongsToBase(header, base, baseChecksum)) {
+            logger.warning("Journal does not belong to the current snapshot and will be ignored");
+            return base;
+        }
+
+        // Clients and products journaled without an ID are given new IDs from the allocators of the base, which are
+        // advanced past the journaled high-water marks, and whose final marks are kept by the address book replayed.
+        IdAllocator clientIds = base.getClientIdAllocator();
+        IdAllocator productIds = base.getProductIdAllocator();
+
+        // Journaled clients are only converted once all products are known, as their orders may refer to a product
+        // by name. Their keys keep a null placeholder in clients, so that the order of the clients is kept.
+        Map<Integer, Client> clients = new LinkedHashMap<>();
+        Map<Integer, JsonAdaptedClient> journaledClients = new HashMap<>();
+        for (int i = 0; i < base.getClientList().size(); i++) {
+            clients.put(header.getClientKeys().get(i), base.getClientList().get(i));
+        }
+
+        Map<Integer, Product> products = new LinkedHashMap<>();
+        for (int i = 0; i < base.getProductList().size(); i++) {
+            products.put(header.getProductKeys().get(i), base.getProductList().get(i));
+        }
+
+        for (int i = 1; i < journal.size(); i++) {
+            JsonAdaptedJournalEntry entry = journal.get(i);
+            if (entry.getType() == null
+                    || (entry.getKey() == null && entry.getType() != JsonAdaptedJournalEntry.Type.ADVANCE_IDS)) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, i, entry.getType()));
+            }
+
+            switch (entry.getType()) {
+            case PUT_CLIENT:
+                if (entry.getClient() == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, i, entry.getType()));
+                }
+
+                clients.put(entry.getKey(), null);
+                journaledClients.put(entry.getKey(), entry.getClient());
+                break;
+
+            case REMOVE_CLIENT:
+                clients.remove(entry.getKey());
+                journaledClients.remove(entry.getKey());
+                break;
+
+            case PUT_PRODUCT:
+                if (entry.getProduct() == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, i, entry.getType()));
+                }
+
+                JsonAdaptedProduct adaptedProduct = entry.getProduct();
+                products.put(entry.getKey(),
+                        adaptedProduct.toModelType(adaptedProduct.getId() == null ? productIds.allocate() : null));
+                break;
+
+            case REMOVE_PRODUCT:
+                products.remove(entry.getKey());
+                break;
+
+            case ADVANCE_IDS:
+                if (entry.getNextClientId() == null || entry.getNextProductId() == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, i, entry.getType()));
+                }
+
+                clientIds.advanceTo(entry.getNextClientId());
+                productIds.advanceTo(entry.getNextProductId());
+                break;
+
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, i, entry.getType()));
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        // the products are keyed by ID, so only their names are checked over the whole batch before they are set
+        Map<Name, ID> productIdsByName = new HashMap<>();
+        for (Product product : products.values()) {
+            if (productIdsByName.putIfAbsent(product.getName(), product.getId()) != null) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PRODUCT);
+            }
+        }
+
+        addressBook.setProducts(new ArrayList<>(products.values()));
+
+        for (Map.Entry<Integer, JsonAdaptedClient> journaledClient : journaledClients.entrySet()) {
+            JsonAdaptedClient adaptedClient = journaledClient.getValue();
+            Client client = adaptedClient.withProductIds(productIdsByName)
+                    .toModelType(adaptedClient.getId() == null ? clientIds.allocate() : null);
+            for (Order order : client.getOrders()) {
+                if (addressBook.findProduct(order.getProductId()).isEmpty()) {
+                    throw new IllegalValueException(JsonAdaptedOrder.MESSAGE_UNKNOWN_PRODUCT);
+                }
+            }
+
+            clients.put(journaledClient.getKey(), client);
+        }
+
+        addressBook.setClients(new ArrayList<>(clients.values()));
+        addressBook.getClientIdAllocator().advanceTo(clientIds.getNextId());
+        addressBook.getProductIdAllocator().advanceTo(productIds.getNextId());
+        return addressBook;
+    }
+
+    /**
+     * Returns true if {@code journal} holds every line of {@code journalText}, and the last line is complete.
+     * An entry appended after an incomplete one would be lost with it.
+     */
+    private static boolean isComplete(String journalText, List<JsonAdaptedJournalEntry> journal) {
+        long lineCount = Arrays.stream(journalText.split(LINE_SEPARATOR)).filter(line -> !line.isBlank()).count();
+        return !journal.isEmpty() && journal.size() == lineCount && journalText.endsWith(LINE_SEPARATOR);
+    }
+
+    /**
+     * Returns true if {@code header} starts the journal of the snapshot {@code base} with {@code baseChecksum}.
+     */
+    private static boolean belongsToBase(JsonAdaptedJournalEntry header, AddressBook base, long baseChecksum) {
+        return header.getType() == JsonAdaptedJournalEntry.Type.BASE
+                && header.getChecksum() != null
+                && header.getChecksum() == baseChecksum
+                && header.getClientKeys().size() == base.getClientList().size()
+                && header.getProductKeys().size() == base.getProductList().size();
+    }
+
+    /**
+     * Returns true if every client and product in {@code base} and {@code journal} is keyed by its own ID, as later
+     * entries would be. Clients and products saved before they had IDs are keyed otherwise.
+     */
+    private static boolean isKeyedById(List<JsonAdaptedJournalEntry> journal, AddressBook base) {
+        JsonAdaptedJournalEntry header = journal.get(0);
+        for (int i = 0; i < base.getClientList().size(); i++) {
+            if (!Integer.valueOf(base.getClientList().get(i).getId().getId()).equals(header.getClientKeys().get(i))) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < base.getProductList().size(); i++) {
+            if (!Integer.valueOf(base.getProductList().get(i).getId().getId())
+                    .equals(header.getProductKeys().get(i))) {
+                return false;
+            }
+        }
+
+        for (JsonAdaptedJournalEntry entry : journal) {
+            if ((entry.getClient() != null && !entry.getKey().equals(entry.getClient().getId()))
+                    || (entry.getProduct() != null && !entry.getKey().equals(entry.getProduct().getId()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if replaying journal entries on top of the persisted state reproduces the order of the clients
+     * and products in {@code addressBook}. Replaying can only remove entries, or append new ones at the end.
+     */
+    private boolean isReachableByJournal(ReadOnlyAddressBook addressBook) {
+        List<ID> clientKeys = addressBook.getClientList().stream().map(Client::getId).collect(Collectors.toList());
+        List<ID> productKeys = addressBook.getProductList().stream().map(Product::getId).collect(Collectors.toList());
+        return isReachableByJournal(clientKeys, persistedClients)
+                && isReachableByJournal(productKeys, persistedProducts);
+    }
+
+    private static boolean isReachableByJournal(List<ID> currentKeys, LinkedHashMap<ID, ?> persisted) {
+        Set<ID> retainedKeys = new HashSet<>(currentKeys);
+        Iterator<ID> persistedKeys = persisted.keySet().iterator();
+        boolean hasNewKey = false;
+
+        for (ID key : currentKeys) {
+            if (!persisted.containsKey(key)) {
+                hasNewKey = true;
+                continue;
+            }
+
+            if (hasNewKey || !key.equals(nextRetainedKey(persistedKeys, retainedKeys))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static ID nextRetainedKey(Iterator<ID> persistedKeys, Set<ID> retainedKeys) {
+        while (persistedKeys.hasNext()) {
+            ID key = persistedKeys.next();
+            if (retainedKeys.contains(key)) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+
+    private List<Client> getChangedClients(ReadOnlyAddressBook addressBook) {
+        return addressBook.getClientList().stream()
+                .filter(client -> !persistedClients.containsKey(client.getId())
+                        || persistedClients.get(client.getId()).isOutdatedBy(client))
+                .collect(Collectors.toList());
+    }
+
+    private List<Product> getChangedProducts(ReadOnlyAddressBook addressBook) {
+        return addressBook.getProductList().stream()
+                .filter(product -> !product.equals(persistedProducts.get(product.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> List<ID> getRemovedKeys(List<T> current, Function<T, ID> toKey, Map<ID, ?> persisted) {
+        Set<ID> currentKeys = current.stream().map(toKey).collect(Collectors.toSet());
+        return persisted.keySet().stream()
+                .filter(key -> !currentKeys.contains(key))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A client as it was when last written. Clients and their orders are immutable, and any change to a client,
+     * including to its orders, replaces it in the address book with a new copy, so a client is outdated exactly when
+     * it is no longer the same object. The orders need not be copied or compared, and are not read to tell.
+     */
+    private static class PersistedClient {
+        private final Client client;
+
+        PersistedClient(Client client) {
+            this.client = client;
+        }
+
+        boolean isOutdatedBy(Client current) {
+            return client != current;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -14,6 +15,7 @@ import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
 
@@ -23,6 +25,7 @@ import seedu.address.model.order.Order;
 class JsonAdaptedClient {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Client's %s field is missing!";
 
+    private final Integer id;
     private final String name;
     private final String phoneNumber;
     private final String email;
@@ -31,13 +34,16 @@ class JsonAdaptedClient {
 
     /**
      * Constructs a {@code JsonAdaptedClient} with the given client details.
+     * Clients saved before their IDs were saved have no {@code id}, and are given a new one when read.
      */
     @JsonCreator
-    public JsonAdaptedClient(@JsonProperty("name") String name,
+    public JsonAdaptedClient(@JsonProperty("id") Integer id,
+                             @JsonProperty("name") String name,
                              @JsonProperty("phoneNumber") String phoneNumber,
                              @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("orders") List<JsonAdaptedOrder> orders) {
+        this.id = id;
         this.name = name;
         this.phoneNumber = phoneNumber;
         this.email = email;
@@ -47,10 +53,19 @@ class JsonAdaptedClient {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedClient} without an ID with the given client details.
+     */
+    public JsonAdaptedClient(String name, String phoneNumber, String email, String address,
+                             List<JsonAdaptedOrder> orders) {
+        this(null, name, phoneNumber, email, address, orders);
+    }
+
     /**
      * Converts a given {@code Client} into this class for Jackson use.
      */
     public JsonAdaptedClient(Client source) {
+        id = source.getId().getId();
         name = source.getName().fullName;
         phoneNumber = source.getPhoneNumber().value;
 
@@ -61,16 +76,60 @@ class JsonAdaptedClient {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns a copy of this adapted client with {@code orders} in place of its orders.
+     */
+    JsonAdaptedClient withOrders(List<JsonAdaptedOrder> orders) {
+        return new JsonAdaptedClient(id, name, phoneNumber, email, address, orders);
+    }
+
+    /**
+     * Returns this adapted client with the product of each order given by ID, looking up the IDs of the orders that
+     * refer to their product by name in {@code productIdsByName}.
+     *
+     * @throws IllegalValueException if an order refers to a product name that is not in {@code productIdsByName}.
+     * @see JsonAdaptedOrder#withProductId(Map)
+     */
+    JsonAdaptedClient withProductIds(Map<Name, ID> productIdsByName) throws IllegalValueException {
+        List<JsonAdaptedOrder> ordersWithProductIds = new ArrayList<>(ordered.size());
+        boolean isChanged = false;
+        for (JsonAdaptedOrder order : ordered) {
+            JsonAdaptedOrder orderWithProductId = order.withProductId(productIdsByName);
+            isChanged |= orderWithProductId != order;
+            ordersWithProductIds.add(orderWithProductId);
+        }
+
+        return isChanged ? withOrders(ordersWithProductIds) : this;
+    }
+
     private <T> boolean isNull(T obj) {
         return obj == null;
     }
 
+    /**
+     * Returns the saved ID of this adapted client, or null if it was saved without one.
+     */
+    Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted client object into the model's {@code Client} object.
+     * The adapted client must have been saved with its ID.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted client.
      */
     public Client toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted client object into the model's {@code Client} object.
+     *
+     * @param newId the ID of the client if it was saved without one, which may be null if it was not.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted client.
+     */
+    public Client toModelType(ID newId) throws IllegalValueException {
         final Name modelName;
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -113,6 +172,17 @@ class JsonAdaptedClient {
             modelOrders.add(order.toModelType());
         }
 
-        return new Client(modelName, modelPhoneNumber, modelEmail, modelAddress, modelOrders);
+        final ID modelId;
+        if (id == null && newId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName()));
+        } else if (id == null) {
+            modelId = newId;
+        } else if (!ID.isValidId(id)) {
+            throw new IllegalValueException(ID.MESSAGE_CONSTRAINTS);
+        } else {
+            modelId = new ID(id);
+        }
+
+        return new Client(modelId, modelName, modelPhoneNumber, modelEmail, modelAddress, modelOrders);
     }
 }
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.product.Product;
+
+/**
+ * Jackson-friendly version of a single line in the address book journal.
+ * Every entry after the leading {@code BASE} entry describes one mutation to a client or product, or raises the ID
+ * high-water marks of the address book.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedJournalEntry {
+    /**
+     * Kinds of entries that can appear in a journal.
+     */
+    enum Type {
+        BASE, PUT_CLIENT, REMOVE_CLIENT, PUT_PRODUCT, REMOVE_PRODUCT, ADVANCE_IDS
+    }
+
+    private final Type type;
+    private final Integer key;
+    private final Long checksum;
+    private final JsonAdaptedClient client;
+    private final JsonAdaptedProduct product;
+    private final Integer nextClientId;
+    private final Integer nextProductId;
+    private final List<Integer> clientKeys = new ArrayList<>();
+    private final List<Integer> productKeys = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type,
+                                   @JsonProperty("key") Integer key,
+                                   @JsonProperty("checksum") Long checksum,
+                                   @JsonProperty("client") JsonAdaptedClient client,
+                                   @JsonProperty("product") JsonAdaptedProduct product,
+                                   @JsonProperty("clientKeys") List<Integer> clientKeys,
+                                   @JsonProperty("productKeys") List<Integer> productKeys,
+                                   @JsonProperty("nextClientId") Integer nextClientId,
+                                   @JsonProperty("nextProductId") Integer nextProductId) {
+        this.type = type;
+        this.key = key;
+        this.checksum = checksum;
+        this.client = client;
+        this.product = product;
+        this.nextClientId = nextClientId;
+        this.nextProductId = nextProductId;
+        if (clientKeys != null) {
+            this.clientKeys.addAll(clientKeys);
+        }
+
+        if (productKeys != null) {
+            this.productKeys.addAll(productKeys);
+        }
+    }
+
+    /**
+     * Returns the entry that starts a journal for a snapshot with the given {@code checksum}, whose clients and
+     * products are identified by {@code clientKeys} and {@code productKeys} in the order they appear in the snapshot.
+     */
+    public static JsonAdaptedJournalEntry base(long checksum, List<Integer> clientKeys, List<Integer> productKeys) {
+        return new JsonAdaptedJournalEntry(Type.BASE, null, checksum, null, null, clientKeys, productKeys, null,
+                null);
+    }
+
+    /**
+     * Returns the entry that adds or replaces the client identified by {@code key}.
+     */
+    public static JsonAdaptedJournalEntry putClient(int key, Client client) {
+        return new JsonAdaptedJournalEntry(Type.PUT_CLIENT, key, null, new JsonAdaptedClient(client), null,
+                null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that removes the client identified by {@code key}.
+     */
+    public static JsonAdaptedJournalEntry removeClient(int key) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_CLIENT, key, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that adds or replaces the product identified by {@code key}.
+     */
+    public static JsonAdaptedJournalEntry putProduct(int key, Product product) {
+        return new JsonAdaptedJournalEntry(Type.PUT_PRODUCT, key, null, null, new JsonAdaptedProduct(product),
+                null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that removes the product identified by {@code key}.
+     */
+    public static JsonAdaptedJournalEntry removeProduct(int key) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_PRODUCT, key, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that raises the ID high-water marks of the address book to {@code nextClientId} and
+     * {@code nextProductId}.
+     */
+    public static JsonAdaptedJournalEntry advanceIds(int nextClientId, int nextProductId) {
+        return new JsonAdaptedJournalEntry(Type.ADVANCE_IDS, null, null, null, null, null, null, nextClientId,
+                nextProductId);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Integer getKey() {
+        return key;
+    }
+
+    public Long getChecksum() {
+        return checksum;
+    }
+
+    public JsonAdaptedClient getClient() {
+        return client;
+    }
+
+    public JsonAdaptedProduct getProduct() {
+        return product;
+    }
+
+    public List<Integer> getClientKeys() {
+        return clientKeys;
+    }
+
+    public List<Integer> getProductKeys() {
+        return productKeys;
+    }
+
+    public Integer getNextClientId() {
+        return nextClientId;
+    }
+
+    public Integer getNextProductId() {
+        return nextProductId;
+    }
+}
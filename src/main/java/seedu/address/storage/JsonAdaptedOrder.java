@@ -1,34 +1,53 @@
 package seedu.address.storage;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
 import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
 
 /**
  * Jackson-friendly version of {@link Order}.
+ * Orders saved before they referred to their product by ID have a product name instead, and orders saved before they
+ * had an ID of their own are given one when their client is read. Orders saved before their unit price was kept have
+ * none.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedOrder {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PRODUCT = "Order refers to a product that does not exist";
 
+    private final Integer orderId;
+    private final Integer productId;
     private final String productName;
     private final String quantity;
+    private final String unitPrice;
     private final LocalDate time;
 
     /**
-     * Constructs a {@code JsonAdaptedOrder} with the given {@code id} and {@code quantity}, {@code time}.
+     * Constructs a {@code JsonAdaptedOrder} with the given {@code orderId}, {@code productId} or {@code productName},
+     * {@code quantity}, {@code unitPrice} and {@code time}.
      */
     @JsonCreator
-    private JsonAdaptedOrder(@JsonProperty("productName") String productName,
-                             @JsonProperty("quantity") String quantity,
-                             @JsonProperty("time") LocalDate time) {
+    JsonAdaptedOrder(@JsonProperty("orderId") Integer orderId,
+                     @JsonProperty("productId") Integer productId,
+                     @JsonProperty("productName") String productName,
+                     @JsonProperty("quantity") String quantity,
+                     @JsonProperty("unitPrice") String unitPrice,
+                     @JsonProperty("time") LocalDate time) {
+        this.orderId = orderId;
+        this.productId = productId;
         this.productName = productName;
         this.quantity = quantity;
+        this.unitPrice = unitPrice;
         this.time = time;
     }
 
@@ -36,20 +55,50 @@ public class JsonAdaptedOrder {
      * Converts a given {@code Order} into this class for Jackson use.
      */
     public JsonAdaptedOrder(Order source) {
-        this(source.getProductName().fullName, source.getQuantity().value, source.getTime());
+        this(source.getId().map(ID::getId).orElse(null), source.getProductId().getId(), null,
+                source.getQuantity().toString(), source.getUnitPrice().map(UnitPrice::toString).orElse(null),
+                source.getTime());
+    }
+
+    /**
+     * Returns this adapted order with its product given by ID. If the order refers to its product by name, the ID is
+     * looked up in {@code productIdsByName}.
+     *
+     * @throws IllegalValueException if the product name is not valid, or not in {@code productIdsByName}.
+     */
+    JsonAdaptedOrder withProductId(Map<Name, ID> productIdsByName) throws IllegalValueException {
+        if (productId != null || productName == null) {
+            return this;
+        }
+
+        if (!Name.isValidName(productName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        ID id = productIdsByName.get(new Name(productName));
+        if (id == null) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_PRODUCT);
+        }
+
+        return new JsonAdaptedOrder(orderId, id.getId(), null, quantity, unitPrice, time);
     }
 
     /**
      * Converts this Jackson-friendly adapted order object into the model's {@code Order} object.
+     * An order that refers to its product by name must be given its product ID with {@link #withProductId} first.
      */
     public Order toModelType() throws IllegalValueException {
-        final Name modelProductName;
-        if (productName == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        } else if (!Name.isValidName(productName)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        if (orderId != null && !ID.isValidId(orderId)) {
+            throw new IllegalValueException(ID.MESSAGE_CONSTRAINTS);
+        }
+
+        final ID modelProductId;
+        if (productId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName()));
+        } else if (!ID.isValidId(productId)) {
+            throw new IllegalValueException(ID.MESSAGE_CONSTRAINTS);
         } else {
-            modelProductName = new Name(productName);
+            modelProductId = new ID(productId);
         }
 
         final Quantity modelQuantity;
@@ -62,11 +111,21 @@ public class JsonAdaptedOrder {
             modelQuantity = new Quantity(quantity);
         }
 
+        final UnitPrice modelUnitPrice;
+        if (unitPrice == null) {
+            modelUnitPrice = null;
+        } else if (!UnitPrice.isValidUnitPrice(unitPrice)) {
+            throw new IllegalValueException(UnitPrice.MESSAGE_CONSTRAINTS);
+        } else {
+            modelUnitPrice = new UnitPrice(unitPrice);
+        }
+
         if (time == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     LocalDate.class.getSimpleName()));
         }
 
-        return new Order(modelProductName, modelQuantity, time);
+        return new Order(orderId == null ? null : new ID(orderId), modelProductId, modelQuantity, time,
+                modelUnitPrice);
     }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.Quantity;
@@ -15,41 +16,71 @@ import seedu.address.model.product.UnitPrice;
 public class JsonAdaptedProduct {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Product's %s field is missing!";
 
+    private final Integer id;
     private final String name;
     private final String unitPrice;
     private final String quantity;
 
     /**
      * Constructs a {@code JsonAdaptedProduct} with the given product details.
+     * Products saved before their IDs were saved have no {@code id}, and are given a new one when read.
      */
     @JsonCreator
-    public JsonAdaptedProduct(@JsonProperty("name") String name,
+    public JsonAdaptedProduct(@JsonProperty("id") Integer id,
+                              @JsonProperty("name") String name,
                               @JsonProperty("unitPrice") String unitPrice,
                               @JsonProperty("quantity") String quantity) {
+        this.id = id;
         this.name = name;
         this.unitPrice = unitPrice;
         this.quantity = quantity;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedProduct} without an ID with the given product details.
+     */
+    public JsonAdaptedProduct(String name, String unitPrice, String quantity) {
+        this(null, name, unitPrice, quantity);
+    }
+
     /**
      * Converts a given {@code Product} into this class for Jackson use.
      */
     public JsonAdaptedProduct(Product source) {
+        id = source.getId().getId();
         name = source.getName().fullName;
-        unitPrice = source.getUnitPrice().value;
-        quantity = isNull(source.getQuantity()) ? null : source.getQuantity().value;
+        unitPrice = source.getUnitPrice().toString();
+        quantity = isNull(source.getQuantity()) ? null : source.getQuantity().toString();
     }
 
     private <T> boolean isNull(T obj) {
         return obj == null;
     }
 
+    /**
+     * Returns the saved ID of this adapted product, or null if it was saved without one.
+     */
+    Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted product object into the model's {@code Product} object.
+     * The adapted product must have been saved with its ID.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted product.
      */
     public Product toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted product object into the model's {@code Product} object.
+     *
+     * @param newId the ID of the product if it was saved without one, which may be null if it was not.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted product.
+     */
+    public Product toModelType(ID newId) throws IllegalValueException {
         final Name modelName;
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -78,6 +109,17 @@ public class JsonAdaptedProduct {
             modelQuantity = new Quantity(quantity);
         }
 
-        return new Product(modelName, modelUnitPrice, modelQuantity);
+        final ID modelId;
+        if (id == null && newId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName()));
+        } else if (id == null) {
+            modelId = newId;
+        } else if (!ID.isValidId(id)) {
+            throw new IllegalValueException(ID.MESSAGE_CONSTRAINTS);
+        } else {
+            modelId = new ID(id);
+        }
+
+        return new Product(modelId, modelName, modelUnitPrice, modelQuantity);
     }
 }
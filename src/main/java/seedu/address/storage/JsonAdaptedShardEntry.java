@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.sales.SalesTotals;
+
+/**
+ * Jackson-friendly version of a client, or of the orders of a client, in a segment of a sharded address book.
+ * The client and its orders are kept in different segments, and are matched up by their {@code key}.
+ * An entry in the index of an order segment instead holds the number of orders of the client, their units and
+ * revenue in cents, and the position in bytes of the entry with those orders in the order segment.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedShardEntry {
+    private final Integer key;
+    private final JsonAdaptedClient client;
+    private final List<JsonAdaptedOrder> orders;
+    private final Integer orderCount;
+    private final Long units;
+    private final Long revenueCents;
+    private final Long offset;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedShardEntry(@JsonProperty("key") Integer key,
+                                 @JsonProperty("client") JsonAdaptedClient client,
+                                 @JsonProperty("orders") List<JsonAdaptedOrder> orders,
+                                 @JsonProperty("orderCount") Integer orderCount,
+                                 @JsonProperty("units") Long units,
+                                 @JsonProperty("revenueCents") Long revenueCents,
+                                 @JsonProperty("offset") Long offset) {
+        this.key = key;
+        this.client = client;
+        this.orders = orders == null ? null : new ArrayList<>(orders);
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenueCents = revenueCents;
+        this.offset = offset;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedShardEntry} of a client or of its orders.
+     */
+    public JsonAdaptedShardEntry(Integer key, JsonAdaptedClient client, List<JsonAdaptedOrder> orders) {
+        this(key, client, orders, null, null, null, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedShardEntry} in the index of an order segment.
+     * The {@code totals} of the orders may be null if they are too large to be counted.
+     */
+    public JsonAdaptedShardEntry(Integer key, Integer orderCount, SalesTotals totals, Long offset) {
+        this(key, null, null, orderCount, totals == null ? null : totals.getUnits(),
+                totals == null ? null : totals.getRevenueCents(), offset);
+    }
+
+    public Integer getKey() {
+        return key;
+    }
+
+    public JsonAdaptedClient getClient() {
+        return client;
+    }
+
+    public List<JsonAdaptedOrder> getOrders() {
+        return orders;
+    }
+
+    public Integer getOrderCount() {
+        return orderCount;
+    }
+
+    public Long getUnits() {
+        return units;
+    }
+
+    public Long getRevenueCents() {
+        return revenueCents;
+    }
+
+    public Long getOffset() {
+        return offset;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the file that lists the segments of a sharded address book.
+ * {@code shardedAddressBookVersion} is always written first, which is how the file is told apart from other formats.
+ */
+class JsonAdaptedShardManifest {
+    static final String VERSION_FIELD = "shardedAddressBookVersion";
+
+    private final Integer shardedAddressBookVersion;
+    private final Integer nextClientId;
+    private final Integer nextProductId;
+    private final String products;
+    private final String clients;
+    private final Map<Integer, String> orders = new TreeMap<>();
+    private final Map<Integer, String> orderIndexes = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given ID high-water marks and segment file names.
+     * {@code orders} holds the order segment file names by the index of the segment, and {@code orderIndexes} the
+     * file names of their indexes. Manifests written before order segments had indexes have no {@code orderIndexes},
+     * and those written before the high-water marks were saved have no {@code nextClientId} or {@code nextProductId}.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty(VERSION_FIELD) Integer shardedAddressBookVersion,
+                                    @JsonProperty("nextClientId") Integer nextClientId,
+                                    @JsonProperty("nextProductId") Integer nextProductId,
+                                    @JsonProperty("products") String products,
+                                    @JsonProperty("clients") String clients,
+                                    @JsonProperty("orders") Map<Integer, String> orders,
+                                    @JsonProperty("orderIndexes") Map<Integer, String> orderIndexes) {
+        this.shardedAddressBookVersion = shardedAddressBookVersion;
+        this.nextClientId = nextClientId;
+        this.nextProductId = nextProductId;
+        this.products = products;
+        this.clients = clients;
+        if (orders != null) {
+            this.orders.putAll(orders);
+        }
+
+        if (orderIndexes != null) {
+            this.orderIndexes.putAll(orderIndexes);
+        }
+    }
+
+    public Integer getShardedAddressBookVersion() {
+        return shardedAddressBookVersion;
+    }
+
+    public Integer getNextClientId() {
+        return nextClientId;
+    }
+
+    public Integer getNextProductId() {
+        return nextProductId;
+    }
+
+    public String getProducts() {
+        return products;
+    }
+
+    public String getClients() {
+        return clients;
+    }
+
+    public Map<Integer, String> getOrders() {
+        return orders;
+    }
+
+    public Map<Integer, String> getOrderIndexes() {
+        return orderIndexes;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.product.Product;
+
+/**
+ * Reads and writes address books in the format of {@link JsonSerializableAddressBook} one client or product at a time,
+ * so that the json text of the whole address book is never held in memory.
+ */
+final class JsonAddressBookStreamer {
+    private static final String NEXT_CLIENT_ID_FIELD = "nextClientId";
+    private static final String NEXT_PRODUCT_ID_FIELD = "nextProductId";
+    private static final String CLIENTS_FIELD = "clients";
+    private static final String PRODUCTS_FIELD = "products";
+
+    private JsonAddressBookStreamer() {} // prevents instantiation
+
+    /**
+     * Reads the address book in {@code in}. {@code in} is left open, and may not have been read to the end.
+     * The clients and products are created by {@link AddressBookMaterializer} once all of them have been read.
+     *
+     * @throws IOException if {@code in} cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        List<JsonAdaptedClient> clients = new ArrayList<>();
+        List<JsonAdaptedProduct> products = new ArrayList<>();
+        Integer nextClientId = null;
+        Integer nextProductId = null;
+
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Address book data is not a json object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                boolean isArray = valueToken == JsonToken.START_ARRAY;
+                boolean isInt = valueToken == JsonToken.VALUE_NUMBER_INT;
+
+                if (isInt && fieldName.equals(NEXT_CLIENT_ID_FIELD)) {
+                    nextClientId = parser.getIntValue();
+                } else if (isInt && fieldName.equals(NEXT_PRODUCT_ID_FIELD)) {
+                    nextProductId = parser.getIntValue();
+                } else if (isArray && fieldName.equals(CLIENTS_FIELD)) {
+                    readElements(parser, JsonAdaptedClient.class, clients);
+                } else if (isArray && fieldName.equals(PRODUCTS_FIELD)) {
+                    readElements(parser, JsonAdaptedProduct.class, products);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return AddressBookMaterializer.materialize(clients, products, nextClientId, nextProductId);
+    }
+
+    private static <T> void readElements(JsonParser parser, Class<T> type, List<T> elements) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(parser.readValueAs(type));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}. {@code out} is left open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField(NEXT_CLIENT_ID_FIELD, addressBook.getNextClientId());
+            generator.writeNumberField(NEXT_PRODUCT_ID_FIELD, addressBook.getNextProductId());
+
+            generator.writeArrayFieldStart(CLIENTS_FIELD);
+            for (Client client : addressBook.getClientList()) {
+                generator.writeObject(new JsonAdaptedClient(client));
+            }
+
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(PRODUCTS_FIELD);
+            for (Product product : addressBook.getProductList()) {
+                generator.writeObject(new JsonAdaptedProduct(product));
+            }
+
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -11,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.client.Client;
-import seedu.address.model.product.Product;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -22,15 +20,23 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_CLIENT = "Clients list contains duplicate client(s).";
     public static final String MESSAGE_DUPLICATE_PRODUCT = "Products list contains duplicate product(s).";
 
+    private final Integer nextClientId;
+    private final Integer nextProductId;
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
     private final List<JsonAdaptedProduct> products = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given clients and products.
+     * Constructs a {@code JsonSerializableAddressBook} with the given ID high-water marks, clients and products.
+     * Address books saved before their high-water marks were saved have no {@code nextClientId} or
+     * {@code nextProductId}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("clients") List<JsonAdaptedClient> clients,
+    public JsonSerializableAddressBook(@JsonProperty("nextClientId") Integer nextClientId,
+                                       @JsonProperty("nextProductId") Integer nextProductId,
+                                       @JsonProperty("clients") List<JsonAdaptedClient> clients,
                                        @JsonProperty("products") List<JsonAdaptedProduct> products) {
+        this.nextClientId = nextClientId;
+        this.nextProductId = nextProductId;
         if (clients != null) {
             this.clients.addAll(clients);
         }
@@ -46,6 +52,8 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        nextClientId = source.getNextClientId();
+        nextProductId = source.getNextProductId();
         clients.addAll(source.getClientList().stream().map(JsonAdaptedClient::new).collect(Collectors.toList()));
         products.addAll(source.getProductList().stream().map(JsonAdaptedProduct::new).collect(Collectors.toList()));
     }
@@ -56,26 +64,6 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        for (JsonAdaptedClient jsonAdaptedClient : clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (addressBook.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-
-            addressBook.addClient(client);
-        }
-
-        for (JsonAdaptedProduct jsonAdaptedProduct : products) {
-            Product product = jsonAdaptedProduct.toModelType();
-            if (addressBook.hasProduct(product)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PRODUCT);
-            }
-
-            addressBook.addProduct(product);
-        }
-
-        return addressBook;
+        return AddressBookMaterializer.materialize(clients, products, nextClientId, nextProductId);
     }
 }
@@ -0,0 +1,851 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.LazyOrderSet;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderHistoryCache;
+import seedu.address.model.product.Product;
+import seedu.address.model.sales.SalesTotals;
+import seedu.address.model.sales.exceptions.SalesOverflowException;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as separate json segments.
+ * <p>
+ * The products, the details of the clients, and the orders of the clients are kept in separate segment files. The
+ * orders are further split into segments by ranges of client IDs. A manifest at the file path of this storage lists
+ * the current segment files. A save only writes the segments that changed since the previous save to new files, and
+ * then replaces the manifest, so that a crash leaves either the old or the new address book in place. The segments
+ * are read in parallel.
+ * <p>
+ * Each order segment has an index holding the number of orders of each client in it, their sales totals, and where
+ * its entry starts.
+ * Given an order cache size, the orders of the clients in the address book read from the file path of this storage
+ * are read from their entries only when they are first needed, and at most that many orders are kept in memory.
+ * When a segment holding such orders is written again, their entries are copied as they are, without reading them.
+ * Segments written before orders referred to their product by ID are always read at once, and the sales totals of
+ * orders in segments written before the index held them are only known once the orders are read.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final int CLIENTS_PER_ORDER_SEGMENT = 1024;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Sharded address book version %1$d is not supported";
+    public static final String MESSAGE_MISSING_SEGMENT = "Manifest does not list a %1$s segment";
+    public static final String MESSAGE_INVALID_ENTRY = "Segment %1$s contains an entry without its key or data";
+    public static final String MESSAGE_DUPLICATE_KEY = "Segment %1$s contains duplicate key %2$d";
+
+    private static final int FORMAT_VERSION = 4;
+    private static final int PRODUCT_ID_VERSION = 2;
+    private static final int MAX_LOAD_THREADS = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final OrderHistoryCache orderCache;
+
+    // The segments listed by the manifest at filePath, and what they contain, if isTracking is true. The orders of each
+    // client are the set the client held, which cannot be changed, so that they are compared by identity.
+    private JsonAdaptedShardManifest persistedManifest;
+    private List<Product> persistedProducts;
+    private List<Client> persistedClients;
+    private Map<Integer, Map<Integer, Set<Order>>> persistedOrders;
+    private boolean isTracking;
+    private long nextSegmentNumber;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that keeps at most {@code orderCacheSize} orders of the address book
+     * read from {@code filePath} in memory, or that reads all orders at once if {@code orderCacheSize} is 0.
+     */
+    public ShardedAddressBookStorage(Path filePath, long orderCacheSize) {
+        this.filePath = filePath;
+        this.orderCache = orderCacheSize > 0 ? new OrderHistoryCache(orderCacheSize) : null;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory holding the segments listed by the manifest at {@code manifestFilePath}.
+     */
+    public static Path getShardDirectory(Path manifestFilePath) {
+        return Paths.get(manifestFilePath.toString() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is the manifest of a sharded address book.
+     * Assumes file exists
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (InputStream in = FileUtil.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && parser.getCurrentName().equals(JsonAdaptedShardManifest.VERSION_FIELD);
+        } catch (JsonProcessingException jpe) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Falls back to the manifest before the last save if the current one or any of its segments cannot be read.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or any segment is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        // Only the segments of this storage are kept until the orders read from them have been written elsewhere.
+        OrderHistoryCache cache = filePath.equals(this.filePath) ? orderCache : null;
+        Map<Path, JsonAdaptedShardManifest> manifestsRead = new HashMap<>();
+        Optional<ReadOnlyAddressBook> addressBook = AddressBookStorageUtil.readNewestValidVersion(filePath,
+                version -> readFile(version, cache, manifestsRead));
+
+        if (filePath.equals(this.filePath)) {
+            track(addressBook, manifestsRead.get(filePath));
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Keeps track of the segments listed by {@code manifest}, from which {@code addressBook} has just been read, so
+     * that the next save only writes the segments that change. The orders that have not been read stay unread.
+     * Nothing is tracked, and the next save writes every segment, if the address book was read from the backup or
+     * from segments in an earlier format.
+     */
+    private void track(Optional<ReadOnlyAddressBook> addressBook, JsonAdaptedShardManifest manifest) {
+        isTracking = false;
+        if (addressBook.isEmpty() || manifest == null || manifest.getShardedAddressBookVersion() != FORMAT_VERSION) {
+            return;
+        }
+
+        try {
+            nextSegmentNumber = Math.max(nextSegmentNumber, findNextSegmentNumber(getShardDirectory(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Cannot list the segments of " + filePath + ", so the next save writes all of them: "
+                    + ioe);
+            return;
+        }
+
+        persistedManifest = manifest;
+        persistedProducts = new ArrayList<>(addressBook.get().getProductList());
+        persistedClients = new ArrayList<>(addressBook.get().getClientList());
+        persistedOrders = splitOrders(persistedClients);
+        isTracking = true;
+    }
+
+    /**
+     * Reads the address book whose manifest is at {@code filePath}, and puts the manifest in {@code manifestsRead}.
+     */
+    private Optional<ReadOnlyAddressBook> readFile(Path filePath, OrderHistoryCache cache,
+                                                   Map<Path, JsonAdaptedShardManifest> manifestsRead)
+            throws DataConversionException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Manifest file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            JsonAdaptedShardManifest manifest = readManifest(filePath);
+            // Orders saved before version 2 refer to their product by name, and are resolved when all are read
+            boolean canReadLazily = manifest.getShardedAddressBookVersion() >= PRODUCT_ID_VERSION;
+            AddressBook addressBook = readSegments(manifest, filePath, canReadLazily ? cache : null);
+            manifestsRead.put(filePath, manifest);
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from sharded address book " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static JsonAdaptedShardManifest readManifest(Path filePath) throws IOException, IllegalValueException {
+        JsonAdaptedShardManifest manifest =
+                JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonAdaptedShardManifest.class);
+
+        if (manifest.getShardedAddressBookVersion() == null
+                || manifest.getShardedAddressBookVersion() < 1
+                || manifest.getShardedAddressBookVersion() > FORMAT_VERSION) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_UNSUPPORTED_VERSION, manifest.getShardedAddressBookVersion()));
+        }
+
+        if (manifest.getProducts() == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT, "products"));
+        }
+
+        if (manifest.getClients() == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT, "clients"));
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Reads the segments listed by {@code manifest} on a small pool of threads, and puts them together.
+     * The clients and products are then created by {@link AddressBookMaterializer}. If {@code cache} is not null,
+     * only the indexes of the order segments that have one are read, and the orders in them are read when needed.
+     */
+    private AddressBook readSegments(JsonAdaptedShardManifest manifest, Path manifestFilePath,
+                                     OrderHistoryCache cache) throws IOException, IllegalValueException {
+        Path productsFile = manifestFilePath.resolveSibling(manifest.getProducts());
+        Path clientsFile = manifestFilePath.resolveSibling(manifest.getClients());
+
+        ExecutorService loaders = Executors.newFixedThreadPool(
+                Math.min(MAX_LOAD_THREADS, manifest.getOrders().size() + 2));
+        try {
+            Future<List<JsonAdaptedProduct>> products = loaders.submit(() ->
+                    readSegment(productsFile, new TypeReference<List<JsonAdaptedProduct>>() {}));
+            Future<List<JsonAdaptedShardEntry>> clients = loaders.submit(() ->
+                    readSegment(clientsFile, new TypeReference<List<JsonAdaptedShardEntry>>() {}));
+            List<Future<Map<Integer, List<JsonAdaptedOrder>>>> orderSegments = new ArrayList<>();
+            List<Future<Map<Integer, LazyOrderSet>>> orderIndexes = new ArrayList<>();
+            for (Map.Entry<Integer, String> segment : manifest.getOrders().entrySet()) {
+                Path orderFile = manifestFilePath.resolveSibling(segment.getValue());
+                String orderIndex = manifest.getOrderIndexes().get(segment.getKey());
+                if (cache != null && orderIndex != null) {
+                    Path orderIndexFile = manifestFilePath.resolveSibling(orderIndex);
+                    orderIndexes.add(loaders.submit(() -> readOrderIndex(orderIndexFile, orderFile, cache)));
+                } else {
+                    orderSegments.add(loaders.submit(() -> readOrderSegment(orderFile)));
+                }
+            }
+
+            Map<Integer, List<JsonAdaptedOrder>> orders = new HashMap<>();
+            for (Future<Map<Integer, List<JsonAdaptedOrder>>> orderSegment : orderSegments) {
+                orders.putAll(getResult(orderSegment));
+            }
+
+            Map<Integer, LazyOrderSet> lazyOrders = new HashMap<>();
+            for (Future<Map<Integer, LazyOrderSet>> orderIndex : orderIndexes) {
+                lazyOrders.putAll(getResult(orderIndex));
+            }
+
+            List<JsonAdaptedClient> clientsWithOrders = new ArrayList<>();
+            List<Integer> clientKeys = new ArrayList<>();
+            Set<Integer> uniqueClientKeys = new HashSet<>();
+            for (JsonAdaptedShardEntry entry : getResult(clients)) {
+                if (entry.getKey() == null || entry.getClient() == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, clientsFile.getFileName()));
+                }
+
+                if (!uniqueClientKeys.add(entry.getKey())) {
+                    throw new IllegalValueException(
+                            String.format(MESSAGE_DUPLICATE_KEY, clientsFile.getFileName(), entry.getKey()));
+                }
+
+                clientsWithOrders.add(entry.getClient().withOrders(orders.get(entry.getKey())));
+                clientKeys.add(entry.getKey());
+            }
+
+            return AddressBookMaterializer.materialize(clientsWithOrders, getResult(products),
+                    manifest.getNextClientId(), manifest.getNextProductId(), i -> lazyOrders.get(clientKeys.get(i)));
+        } finally {
+            loaders.shutdownNow();
+        }
+    }
+
+    private static <T> T readSegment(Path segmentFile, TypeReference<T> type) throws IOException {
+        try (InputStream in = FileUtil.newMappedInputStream(segmentFile);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            parser.nextToken();
+            return parser.readValueAs(type);
+        }
+    }
+
+    private static Map<Integer, List<JsonAdaptedOrder>> readOrderSegment(Path segmentFile)
+            throws IOException, IllegalValueException {
+        Map<Integer, List<JsonAdaptedOrder>> orders = new HashMap<>();
+        for (JsonAdaptedShardEntry entry : readSegment(segmentFile,
+                new TypeReference<List<JsonAdaptedShardEntry>>() {})) {
+            if (entry.getKey() == null || entry.getOrders() == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, segmentFile.getFileName()));
+            }
+
+            if (orders.put(entry.getKey(), entry.getOrders()) != null) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_DUPLICATE_KEY, segmentFile.getFileName(), entry.getKey()));
+            }
+        }
+
+        return orders;
+    }
+
+    /**
+     * Returns the orders of the clients in the order segment indexed by {@code orderIndexFile}, by the key of their
+     * client, as sets that read the orders from {@code orderFile} when needed.
+     */
+    private Map<Integer, LazyOrderSet> readOrderIndex(Path orderIndexFile, Path orderFile, OrderHistoryCache cache)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedShardEntry> entries =
+                readSegment(orderIndexFile, new TypeReference<List<JsonAdaptedShardEntry>>() {});
+        long segmentSize = Files.size(orderFile);
+        TreeSet<Long> offsets = new TreeSet<>();
+        for (JsonAdaptedShardEntry entry : entries) {
+            if (entry.getKey() == null || entry.getOrderCount() == null || entry.getOrderCount() < 0
+                    || entry.getOffset() == null || entry.getOffset() < 0 || entry.getOffset() > segmentSize
+                    || (entry.getUnits() == null) != (entry.getRevenueCents() == null)
+                    || (entry.getUnits() != null && (entry.getUnits() < 0 || entry.getRevenueCents() < 0))) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, orderIndexFile.getFileName()));
+            }
+
+            offsets.add(entry.getOffset());
+        }
+
+        Map<Integer, LazyOrderSet> orders = new HashMap<>();
+        for (JsonAdaptedShardEntry entry : entries) {
+            // Each entry ends where the next one starts, and the last one at the end of the segment
+            Long nextOffset = offsets.higher(entry.getOffset());
+            OrderEntryLoader loader = new OrderEntryLoader(new OrderEntryLocation(orderFile, entry.getKey(),
+                    entry.getOffset(), nextOffset == null ? segmentSize : nextOffset));
+            SalesTotals totals = entry.getUnits() == null
+                    ? null
+                    : SalesTotals.of(entry.getUnits(), entry.getRevenueCents());
+            if (orders.put(entry.getKey(), new LazyOrderSet(entry.getOrderCount(), totals, loader, cache)) != null) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_DUPLICATE_KEY, orderIndexFile.getFileName(), entry.getKey()));
+            }
+        }
+
+        return orders;
+    }
+
+    /**
+     * Reads the orders in the entry at {@code location}.
+     */
+    private static Set<Order> readOrderEntry(OrderEntryLocation location) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(location.segmentFile, StandardOpenOption.READ)) {
+            channel.position(location.offset);
+            PushbackInputStream in = new PushbackInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+
+            // The entry may be preceded by the separator after the previous entry
+            int next;
+            do {
+                next = in.read();
+            } while (next == ',' || Character.isWhitespace(next));
+
+            if (next != -1) {
+                in.unread(next);
+            }
+
+            JsonAdaptedShardEntry entry;
+            try (JsonParser parser = JsonUtil.createParser(in)) {
+                parser.nextToken();
+                entry = parser.readValueAs(JsonAdaptedShardEntry.class);
+            }
+
+            if (entry == null || !Integer.valueOf(location.key).equals(entry.getKey()) || entry.getOrders() == null) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_ENTRY, location.segmentFile.getFileName()));
+            }
+
+            Set<Order> orders = new HashSet<>();
+            for (JsonAdaptedOrder order : entry.getOrders()) {
+                orders.add(order.toModelType());
+            }
+
+            return orders;
+        }
+    }
+
+    private static <T> T getResult(Future<T> future) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the address book", e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments that changed since the previous save are written when {@code filePath} is the file path of
+     * this storage. Any other {@code filePath} receives every segment.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isIncremental = isTracking && filePath.equals(this.filePath);
+        Path shardDirectory = getShardDirectory(filePath);
+        Files.createDirectories(shardDirectory);
+        if (!isIncremental) {
+            nextSegmentNumber = Math.max(nextSegmentNumber, findNextSegmentNumber(shardDirectory));
+        }
+
+        List<Product> products = new ArrayList<>(addressBook.getProductList());
+        List<Client> clients = new ArrayList<>(addressBook.getClientList());
+        Map<Integer, Map<Integer, Set<Order>>> orders = splitOrders(clients);
+
+        String productsFile = isIncremental && products.equals(persistedProducts)
+                ? persistedManifest.getProducts()
+                : writeSegment(shardDirectory, "products", products, JsonAdaptedProduct::new, null);
+        String clientsFile = isIncremental && hasSameDetails(clients, persistedClients)
+                ? persistedManifest.getClients()
+                : writeSegment(shardDirectory, "clients", clients, client -> new JsonAdaptedShardEntry(
+                        client.getId().getId(), withoutOrders(client), null), null);
+
+        Map<Integer, String> orderFiles = new TreeMap<>();
+        Map<Integer, String> orderIndexFiles = new TreeMap<>();
+        Map<OrderEntryLoader, OrderEntryLocation> movedEntries = new HashMap<>();
+        Map<Path, byte[]> segmentsRead = new HashMap<>();
+        for (Map.Entry<Integer, Map<Integer, Set<Order>>> segment : orders.entrySet()) {
+            int segmentKey = segment.getKey();
+            if (isIncremental && isSameOrders(segment.getValue(), persistedOrders.get(segmentKey))
+                    && persistedManifest.getOrderIndexes().containsKey(segmentKey)) {
+                orderFiles.put(segmentKey, persistedManifest.getOrders().get(segmentKey));
+                orderIndexFiles.put(segmentKey, persistedManifest.getOrderIndexes().get(segmentKey));
+                continue;
+            }
+
+            List<Map.Entry<Integer, Set<Order>>> clientOrders = new ArrayList<>(segment.getValue().entrySet());
+            long[] offsets = new long[clientOrders.size() + 1];
+            String orderFile = writeSegment(shardDirectory, "orders-" + segmentKey, clientOrders, entry -> {
+                OrderEntryLoader loader = getOwnLoader(entry.getValue());
+                return loader != null && loader.getLocation().key == entry.getKey()
+                        ? new RawValue(readRawEntry(loader.getLocation(), segmentsRead))
+                        : new JsonAdaptedShardEntry(entry.getKey(), null, toJsonAdaptedOrders(entry.getValue()));
+            }, offsets);
+
+            List<JsonAdaptedShardEntry> orderIndex = new ArrayList<>();
+            for (int i = 0; i < clientOrders.size(); i++) {
+                int key = clientOrders.get(i).getKey();
+                Set<Order> entryOrders = clientOrders.get(i).getValue();
+                orderIndex.add(
+                        new JsonAdaptedShardEntry(key, entryOrders.size(), countTotals(entryOrders), offsets[i]));
+
+                OrderEntryLoader loader = getOwnLoader(entryOrders);
+                if (loader != null) {
+                    movedEntries.put(loader, new OrderEntryLocation(filePath.resolveSibling(orderFile), key,
+                            offsets[i], offsets[i + 1]));
+                }
+            }
+
+            orderFiles.put(segmentKey, orderFile);
+            orderIndexFiles.put(segmentKey, writeSegment(shardDirectory, "order-index-" + segmentKey, orderIndex,
+                    entry -> entry, null));
+        }
+
+        JsonAdaptedShardManifest manifest = new JsonAdaptedShardManifest(FORMAT_VERSION,
+                addressBook.getNextClientId(), addressBook.getNextProductId(), productsFile, clientsFile, orderFiles,
+                orderIndexFiles);
+        JsonAdaptedShardManifest previousManifest = readPreviousManifest(filePath, isIncremental);
+        byte[] manifestBytes = JsonUtil.toJsonString(manifest).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(filePath, out -> out.write(manifestBytes), true);
+
+        if (filePath.equals(this.filePath)) {
+            // The segments that orders not read yet were in may be deleted from now on
+            movedEntries.forEach(OrderEntryLoader::moveTo);
+        }
+
+        deleteUnlistedSegments(shardDirectory, manifest, previousManifest);
+
+        if (filePath.equals(this.filePath)) {
+            persistedManifest = manifest;
+            persistedProducts = products;
+            persistedClients = clients;
+            persistedOrders = orders;
+            isTracking = true;
+        }
+    }
+
+    /**
+     * Returns the orders of {@code clients} by the key of their client, split into segments by ranges of keys.
+     * Clients without orders are left out. The sets of orders are not copied, as they cannot be changed.
+     */
+    private static Map<Integer, Map<Integer, Set<Order>>> splitOrders(List<Client> clients) {
+        Map<Integer, Map<Integer, Set<Order>>> segments = new TreeMap<>();
+        for (Client client : clients) {
+            if (client.getOrders().isEmpty()) {
+                continue;
+            }
+
+            int key = client.getId().getId();
+            segments.computeIfAbsent(key / CLIENTS_PER_ORDER_SEGMENT, unused -> new LinkedHashMap<>())
+                    .put(key, client.getOrders());
+        }
+
+        return segments;
+    }
+
+    /**
+     * Returns true if {@code orders} holds the very same sets of orders by the same keys as {@code otherOrders}.
+     */
+    private static boolean isSameOrders(Map<Integer, Set<Order>> orders, Map<Integer, Set<Order>> otherOrders) {
+        if (otherOrders == null || orders.size() != otherOrders.size()) {
+            return false;
+        }
+
+        for (Map.Entry<Integer, Set<Order>> entry : orders.entrySet()) {
+            if (entry.getValue() != otherOrders.get(entry.getKey())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean hasSameDetails(List<Client> clients, List<Client> otherClients) {
+        if (clients.size() != otherClients.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < clients.size(); i++) {
+            Client client = clients.get(i);
+            Client otherClient = otherClients.get(i);
+            if (!client.isSameClient(otherClient)
+                    || !client.getName().equals(otherClient.getName())
+                    || !client.getPhoneNumber().equals(otherClient.getPhoneNumber())
+                    || !Objects.equals(client.getEmail(), otherClient.getEmail())
+                    || !Objects.equals(client.getAddress(), otherClient.getAddress())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the loader of {@code orders} if they are read from a segment of this storage, or null otherwise.
+     */
+    private OrderEntryLoader getOwnLoader(Set<Order> orders) {
+        if (!(orders instanceof LazyOrderSet) || !(((LazyOrderSet) orders).getLoader() instanceof OrderEntryLoader)) {
+            return null;
+        }
+
+        OrderEntryLoader loader = (OrderEntryLoader) ((LazyOrderSet) orders).getLoader();
+        return loader.getOwner() == this ? loader : null;
+    }
+
+    private static JsonAdaptedClient withoutOrders(Client client) {
+        return new JsonAdaptedClient(client.getId().getId(), client.getName().fullName, client.getPhoneNumber().value,
+                client.getEmail() == null ? null : client.getEmail().value,
+                client.getAddress() == null ? null : client.getAddress().value, null);
+    }
+
+    /**
+     * Returns the sales totals of {@code orders}, which are known without reading them if they have not been read
+     * yet, or null if they are too large to be counted, as in a data file edited by hand.
+     */
+    private static SalesTotals countTotals(Set<Order> orders) {
+        try {
+            return SalesTotals.of(orders);
+        } catch (SalesOverflowException soe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the json of the entry at {@code location} as it is in its segment, without reading the orders in it.
+     * The segments read are kept in {@code segmentsRead}, so that each is read at most once per save.
+     */
+    private static String readRawEntry(OrderEntryLocation location, Map<Path, byte[]> segmentsRead)
+            throws IOException {
+        byte[] segment = segmentsRead.get(location.segmentFile);
+        if (segment == null) {
+            segment = Files.readAllBytes(location.segmentFile);
+            segmentsRead.put(location.segmentFile, segment);
+        }
+
+        if (location.end > segment.length || location.offset > location.end) {
+            throw new IOException(String.format(MESSAGE_INVALID_ENTRY, location.segmentFile.getFileName()));
+        }
+
+        // The entry may be preceded by the separator after the previous entry, and followed by the end of the array
+        String entry = new String(segment, (int) location.offset, (int) (location.end - location.offset),
+                StandardCharsets.UTF_8).strip();
+        if (entry.startsWith(",")) {
+            entry = entry.substring(1).strip();
+        }
+
+        if (entry.endsWith("]")) {
+            entry = entry.substring(0, entry.length() - 1).strip();
+        }
+
+        if (!entry.startsWith("{") || !entry.endsWith("}")) {
+            throw new IOException(String.format(MESSAGE_INVALID_ENTRY, location.segmentFile.getFileName()));
+        }
+
+        return entry;
+    }
+
+    private static List<JsonAdaptedOrder> toJsonAdaptedOrders(Set<Order> orders) {
+        List<JsonAdaptedOrder> jsonAdaptedOrders = new ArrayList<>();
+        orders.forEach(order -> jsonAdaptedOrders.add(new JsonAdaptedOrder(order)));
+        return jsonAdaptedOrders;
+    }
+
+    /**
+     * Writes {@code elements} as a json array to a new segment file in {@code shardDirectory}.
+     * If {@code offsets} is not null, the position in bytes in the file before each element is stored in it, followed
+     * by the position after the last element if there is room for it.
+     *
+     * @return the location of the segment file, relative to the directory of the manifest.
+     */
+    private <T> String writeSegment(Path shardDirectory, String segmentName, List<T> elements,
+                                    ElementAdapter<T> adapter, long[] offsets) throws IOException {
+        String fileName = segmentName + "-" + nextSegmentNumber++ + ".json";
+        FileUtil.writeAtomically(shardDirectory.resolve(fileName), out -> {
+            CountingOutputStream countingOut = new CountingOutputStream(out);
+            try (JsonGenerator generator = JsonUtil.createGenerator(countingOut)) {
+                generator.writeStartArray();
+                for (int i = 0; i < elements.size(); i++) {
+                    if (offsets != null) {
+                        generator.flush();
+                        offsets[i] = countingOut.getCount();
+                    }
+
+                    generator.writeObject(adapter.adapt(elements.get(i)));
+                }
+
+                if (offsets != null && offsets.length > elements.size()) {
+                    generator.flush();
+                    offsets[elements.size()] = countingOut.getCount();
+                }
+
+                generator.writeEndArray();
+            }
+        }, false);
+
+        return shardDirectory.getFileName() + "/" + fileName;
+    }
+
+    /**
+     * Returns the manifest that the save about to happen turns into the backup, or null if there is none.
+     */
+    private JsonAdaptedShardManifest readPreviousManifest(Path filePath, boolean isIncremental) {
+        if (isIncremental) {
+            return persistedManifest;
+        }
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return null;
+        }
+
+        try {
+            return readManifest(filePath);
+        } catch (IOException | IllegalValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the segment files in {@code shardDirectory} that are listed by neither {@code manifest} nor
+     * {@code previousManifest}, which is kept as a backup.
+     */
+    private static void deleteUnlistedSegments(Path shardDirectory, JsonAdaptedShardManifest manifest,
+                                               JsonAdaptedShardManifest previousManifest) throws IOException {
+        Set<String> listedFiles = getSegmentFiles(manifest);
+        if (previousManifest != null) {
+            listedFiles.addAll(getSegmentFiles(previousManifest));
+        }
+
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(shardDirectory)) {
+            for (Path segmentFile : segmentFiles) {
+                if (!listedFiles.contains(segmentFile.getFileName().toString())) {
+                    Files.deleteIfExists(segmentFile);
+                }
+            }
+        }
+    }
+
+    private static Set<String> getSegmentFiles(JsonAdaptedShardManifest manifest) {
+        List<String> segments = new ArrayList<>(manifest.getOrders().values());
+        segments.addAll(manifest.getOrderIndexes().values());
+        segments.add(manifest.getProducts());
+        segments.add(manifest.getClients());
+
+        Set<String> segmentFiles = new HashSet<>();
+        segments.forEach(segment -> segmentFiles.add(Paths.get(segment).getFileName().toString()));
+        return segmentFiles;
+    }
+
+    /**
+     * Returns a segment number higher than that of any segment file in {@code shardDirectory}, so that no segment
+     * listed by an existing manifest is overwritten.
+     */
+    private static long findNextSegmentNumber(Path shardDirectory) throws IOException {
+        long nextSegmentNumber = 0;
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(shardDirectory, "*.json")) {
+            for (Path segmentFile : segmentFiles) {
+                String fileName = segmentFile.getFileName().toString();
+                String number = fileName.substring(fileName.lastIndexOf('-') + 1, fileName.length() - 5);
+                try {
+                    nextSegmentNumber = Math.max(nextSegmentNumber, Long.parseLong(number) + 1);
+                } catch (NumberFormatException nfe) {
+                    // Not a segment file
+                }
+            }
+        }
+
+        return nextSegmentNumber;
+    }
+
+    /**
+     * Converts an element of a segment into what is written for it.
+     */
+    @FunctionalInterface
+    private interface ElementAdapter<T> {
+        Object adapt(T element) throws IOException;
+    }
+
+    /**
+     * Where the orders of a client are in an order segment. The entry takes up the bytes from {@code offset} up to
+     * {@code end}, which may include the separators around it.
+     */
+    private static class OrderEntryLocation {
+        private final Path segmentFile;
+        private final int key;
+        private final long offset;
+        private final long end;
+
+        OrderEntryLocation(Path segmentFile, int key, long offset, long end) {
+            this.segmentFile = segmentFile;
+            this.key = key;
+            this.offset = offset;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Reads the orders of a client from its entry in an order segment of a storage. When that storage writes the
+     * orders to another segment, the loader is moved to the new entry before the old segment can be deleted.
+     */
+    private class OrderEntryLoader implements LazyOrderSet.Loader {
+        private volatile OrderEntryLocation location;
+
+        OrderEntryLoader(OrderEntryLocation location) {
+            this.location = location;
+        }
+
+        ShardedAddressBookStorage getOwner() {
+            return ShardedAddressBookStorage.this;
+        }
+
+        OrderEntryLocation getLocation() {
+            return location;
+        }
+
+        void moveTo(OrderEntryLocation newLocation) {
+            location = newLocation;
+        }
+
+        @Override
+        public Set<Order> load() {
+            OrderEntryLocation currentLocation = location;
+            try {
+                return readOrderEntry(currentLocation);
+            } catch (IOException ioe) {
+                logger.warning("Error reading orders from " + currentLocation.segmentFile + ": " + ioe);
+                throw new UncheckedIOException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.warning("Illegal values found in " + currentLocation.segmentFile + ": " + ive.getMessage());
+                throw new IllegalStateException(ive.getMessage(), ive);
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
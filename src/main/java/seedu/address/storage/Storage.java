@@ -3,7 +3,9 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -27,4 +29,35 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
 
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns the address book in the file at {@code filePath}, which may be in any {@code AddressBookFormat}.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the data in the file is not in the expected format.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    Optional<ReadOnlyAddressBook> importAddressBook(Path filePath) throws DataConversionException, IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the file at {@code filePath} in {@code format}, the same way
+     * address books are saved to the data file.
+     * Json is exported as a single plain file, without the journal that the data file is kept with.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook, AddressBookFormat format, Path filePath)
+            throws IOException;
+
+    /**
+     * Sets the handler to be notified, on the thread that does the writing, when a save made in the background fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Waits until every address book save requested so far has been written to the hard disk.
+     *
+     * @throws IOException if any of the pending saves fails.
+     */
+    void flush() throws IOException;
 }
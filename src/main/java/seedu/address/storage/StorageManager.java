@@ -1,18 +1,37 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.product.Product;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * Address books are saved synchronously by default. Once {@link #startAsyncSaving(long)} is called, saving only takes
+ * a snapshot of the address book and hands it to a single background writer, which writes all the snapshots
+ * requested within one debounce window together, keeping only the latest one for each file.
  */
 public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
@@ -20,6 +39,13 @@ public class StorageManager implements Storage {
     private final AddressBookStorage addressBookStorage;
     private final UserPrefsStorage userPrefsStorage;
 
+    // Snapshots waiting to be written by the writer, by the file they are to be written to.
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+    private ScheduledExecutorService writer;
+    private long debounceMillis;
+    private boolean isWriteScheduled;
+    private volatile Consumer<IOException> saveFailureHandler = unused -> {};
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -29,6 +55,23 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Makes all further address book saves asynchronous.
+     * Saves requested within {@code debounceMillis} of the first unwritten save are written together.
+     */
+    public synchronized void startAsyncSaving(long debounceMillis) {
+        if (writer != null) {
+            return;
+        }
+
+        this.debounceMillis = Math.max(0, debounceMillis);
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -69,9 +112,183 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * {@inheritDoc}
+     * When saving asynchronously, this returns as soon as the save is queued, and failures are reported to the
+     * handler set with {@link #setSaveFailureHandler(Consumer)} instead of being thrown.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        save(addressBookStorage, addressBook, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Saves requested so far are written first, so that a file exported just before is read as it was exported.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> importAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        try {
+            flush();
+        } catch (IOException ioe) {
+            saveFailureHandler.accept(ioe);
+        }
+
+        AddressBookFormat format = AddressBookStorageUtil.detectFormat(filePath);
+        if (format == null) {
+            return Optional.empty();
+        }
+
+        logger.fine("Attempting to import data from file: " + filePath);
+        return AddressBookStorageUtil.createAddressBookStorage(format, filePath).readAddressBook();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Like {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, this only queues the export when saving asynchronously.
+     */
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, AddressBookFormat format, Path filePath)
+            throws IOException {
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        AddressBookStorage exportStorage = format == AddressBookFormat.JSON
+                ? new JsonAddressBookStorage(filePath)
+                : AddressBookStorageUtil.createAddressBookStorage(format, filePath);
+        save(exportStorage, addressBook, filePath);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} with {@code storage}, or queues it for the writer.
+     */
+    private synchronized void save(AddressBookStorage storage, ReadOnlyAddressBook addressBook, Path filePath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        pendingSaves.put(filePath, new PendingSave(storage, new AddressBookSnapshot(addressBook)));
+        if (!isWriteScheduled) {
+            writer.schedule(this::writePendingSavesAndReportFailure, debounceMillis, TimeUnit.MILLISECONDS);
+            isWriteScheduled = true;
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ScheduledExecutorService currentWriter;
+        synchronized (this) {
+            currentWriter = writer;
+        }
+
+        if (currentWriter == null) {
+            return;
+        }
+
+        try {
+            currentWriter.submit(() -> {
+                writePendingSaves();
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        }
+    }
+
+    private void writePendingSavesAndReportFailure() {
+        try {
+            writePendingSaves();
+        } catch (IOException ioe) {
+            saveFailureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Writes every pending snapshot. Runs on the writer thread only.
+     *
+     * @throws IOException the last failure, if any of the snapshots could not be written.
+     */
+    private void writePendingSaves() throws IOException {
+        Map<Path, PendingSave> saves;
+        synchronized (this) {
+            saves = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        IOException failure = null;
+        for (Map.Entry<Path, PendingSave> save : saves.entrySet()) {
+            try {
+                logger.fine("Attempting to write to data file: " + save.getKey());
+                save.getValue().storage.saveAddressBook(save.getValue().addressBook, save.getKey());
+            } catch (IOException ioe) {
+                logger.warning("Failed to write to data file " + save.getKey() + ": " + StringUtil.getDetails(ioe));
+                failure = ioe;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * A snapshot waiting to be written, and the storage to write it with.
+     */
+    private static class PendingSave {
+        private final AddressBookStorage storage;
+        private final ReadOnlyAddressBook addressBook;
+
+        PendingSave(AddressBookStorage storage, ReadOnlyAddressBook addressBook) {
+            this.storage = storage;
+            this.addressBook = addressBook;
+        }
+    }
+
+    /**
+     * An address book frozen at the time it was saved.
+     * Clients and products are immutable, so copying the lists that hold them is enough.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Client> clients;
+        private final ObservableList<Product> products;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            clients = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getClientList()));
+            products = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getProductList()));
+        }
+
+        @Override
+        public ObservableList<Client> getClientList() {
+            return clients;
+        }
+
+        @Override
+        public ObservableList<Product> getProductList() {
+            return products;
+        }
     }
 }
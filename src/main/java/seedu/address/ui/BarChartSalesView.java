@@ -0,0 +1,106 @@
+package seedu.address.ui;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.fxml.FXML;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.StackedBarChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.layout.Region;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.commons.ID;
+import seedu.address.model.sales.ProductSales;
+import seedu.address.model.sales.SalesAggregates;
+import seedu.address.model.sales.SalesPeriod;
+import seedu.address.model.sales.SalesReport;
+
+/**
+ * Shows the units sold of the best-selling products in each period of a {@code SalesReport}, stacked in one bar for
+ * each period. The other products are stacked together.
+ */
+public class BarChartSalesView extends UiPart<Region> implements SecondPanel {
+    private static final String fxml = "BarChartSales.fxml";
+    private static final int TOP_PRODUCT_COUNT = 5;
+    private static final String OTHER_PRODUCTS = "Others";
+
+    @FXML
+    private StackedBarChart<String, Number> barChart;
+
+    /**
+     * Constructor for the {@code BarChartSalesView} of {@code report}, which must have a period.
+     */
+    public BarChartSalesView(SalesReport report, ReadOnlyAddressBook addressBook) {
+        super(fxml);
+
+        SalesPeriod period = report.getPeriod().get();
+        Map<ID, ProductSales> totalSales = report.getTotalSales();
+        List<ID> topProductIds = totalSales.values().stream()
+                .sorted(SalesAggregates.BEST_SELLING_FIRST)
+                .limit(TOP_PRODUCT_COUNT)
+                .map(ProductSales::getProductId)
+                .collect(Collectors.toList());
+
+        List<String> periodLabels = new ArrayList<>();
+        report.getSalesByPeriod().keySet().forEach(start -> periodLabels.add(getLabel(start, period)));
+        ((CategoryAxis) barChart.getXAxis()).getCategories().setAll(periodLabels);
+
+        for (ID productId : topProductIds) {
+            XYChart.Series<String, Number> series = new XYChart.Series<>();
+            series.setName(PieChartSalesView.getProductName(productId, addressBook));
+            report.getSalesByPeriod().forEach((start, sales) -> series.getData().add(new XYChart.Data<>(
+                    getLabel(start, period), sales.containsKey(productId) ? sales.get(productId).getUnits() : 0)));
+            barChart.getData().add(series);
+        }
+
+        if (totalSales.size() > topProductIds.size()) {
+            XYChart.Series<String, Number> others = new XYChart.Series<>();
+            others.setName(OTHER_PRODUCTS);
+            report.getSalesByPeriod().forEach((start, sales) -> {
+                long otherUnits = sales.values().stream()
+                        .filter(productSales -> !topProductIds.contains(productSales.getProductId()))
+                        .mapToLong(ProductSales::getUnits)
+                        .sum();
+                others.getData().add(new XYChart.Data<>(getLabel(start, period), otherUnits));
+            });
+            barChart.getData().add(others);
+        }
+    }
+
+    /**
+     * Returns the label of the period starting on {@code start}.
+     */
+    static String getLabel(LocalDate start, SalesPeriod period) {
+        switch (period) {
+        case WEEK:
+            return "Week of " + start.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+
+        case MONTH:
+            return start.format(DateTimeFormatter.ofPattern("MMM yyyy"));
+
+        case YEAR:
+            return String.valueOf(start.getYear());
+
+        default:
+            return start.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof BarChartSalesView)) {
+            return false;
+        }
+
+        BarChartSalesView view = (BarChartSalesView) other;
+        return barChart.equals(view.barChart);
+    }
+}
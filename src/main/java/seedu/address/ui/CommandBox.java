@@ -1,15 +1,23 @@
 package seedu.address.ui;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.autocomplete.Suggestions;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,23 +31,37 @@ public class CommandBox extends UiPart<Region> {
     private static final Logger logger = LogsCenter.getLogger("CommandBoxLogger");
 
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
     private final ArrayList<String> commandHistory;
+    private final ContextMenu suggestionMenu = new ContextMenu();
     private Index index;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code SuggestionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider) {
         super(FXML);
 
         this.commandExecutor = commandExecutor;
+        this.suggestionProvider = suggestionProvider;
         commandHistory = new ArrayList<>();
 
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #setStyleToDefault() and looks up suggestions whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestSuggestions(newText, false);
+        });
+
+        // TAB would otherwise move the focus out of the command box, so it is caught before the text field sees it
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, keyEvent -> {
+            if (keyEvent.getCode() == KeyCode.TAB) {
+                requestSuggestions(commandTextField.getText(), true);
+                keyEvent.consume();
+            }
+        });
 
         commandTextField.setOnKeyPressed(keyEvent -> {
             switch (keyEvent.getCode()) {
@@ -94,6 +116,58 @@ public class CommandBox extends UiPart<Region> {
         updateCommandTextField(text);
     }
 
+    /**
+     * Looks up the suggestions for completing {@code text} in the background, then shows them, and completes the
+     * command as far as they allow if {@code shouldComplete} is true.
+     * Suggestions arriving after the text has changed again are dropped.
+     */
+    private void requestSuggestions(String text, boolean shouldComplete) {
+        suggestionProvider.suggest(text).whenComplete((suggestions, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                logger.log(Level.WARNING, "Could not look up suggestions", error);
+                return;
+            }
+
+            if (!commandTextField.getText().equals(suggestions.getInput())) {
+                return;
+            }
+
+            if (shouldComplete && !suggestions.getCompletion().equals(text)) {
+                setTextAndMoveCaretToEnd(suggestions.getCompletion());
+                return;
+            }
+
+            showSuggestions(suggestions);
+        }));
+    }
+
+    /**
+     * Lists the candidates of {@code suggestions} below the command box, or hides the list if there are none.
+     */
+    private void showSuggestions(Suggestions suggestions) {
+        if (suggestions.getInput().isBlank() || suggestions.getCandidates().isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        ArrayList<MenuItem> items = new ArrayList<>();
+        for (String candidate : suggestions.getCandidates()) {
+            MenuItem item = new MenuItem(candidate);
+            item.setOnAction(unused -> setTextAndMoveCaretToEnd(suggestions.complete(candidate)));
+            items.add(item);
+        }
+
+        suggestionMenu.getItems().setAll(items);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void setTextAndMoveCaretToEnd(String text) {
+        commandTextField.setText(text);
+        commandTextField.positionCaret(text.length());
+    }
+
     /**
      * Displays the input text in commandTextField and set cursor to the end.
      *
@@ -102,8 +176,7 @@ public class CommandBox extends UiPart<Region> {
     private void updateCommandTextField(String text) {
         logger.log(Level.INFO, String.format("Showing command: %1$s", text));
 
-        commandTextField.setText(text);
-        commandTextField.positionCaret(text.length());
+        setTextAndMoveCaretToEnd(text);
     }
 
     /**
@@ -116,6 +189,8 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        suggestionMenu.hide();
+
         // Store the command, even if invalid, and reset the index pointer to the end
         commandHistory.add(commandText);
         index = Index.fromOneBased(commandHistory.size());
@@ -160,4 +235,17 @@ public class CommandBox extends UiPart<Region> {
          */
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
+
+    /**
+     * Represents a function that looks up suggestions for completing commands without blocking.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns the suggestions for completing the command typed so far.
+         *
+         * @see seedu.address.logic.Logic#suggest(String)
+         */
+        CompletableFuture<Suggestions> suggest(String commandText);
+    }
 }
@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import com.sun.javafx.scene.control.behavior.TabPaneBehavior;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -11,6 +12,7 @@ import javafx.scene.control.TabPane;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Category;
 import seedu.address.model.client.Client;
 import seedu.address.model.product.Product;
+import seedu.address.model.sales.RevenueReport;
+import seedu.address.model.sales.SalesReport;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -139,8 +143,9 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> statusBarFooter.showSaveFailure(message)));
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::suggest);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         helpMessage = new HelpMessage();
@@ -193,11 +198,25 @@ public class MainWindow extends UiPart<Stage> {
 
     @FXML
     private void handleStat() {
-        PieChartSalesView salesView = new PieChartSalesView(logic.getFilteredClientList());
+        PieChartSalesView salesView = new PieChartSalesView(logic.getFilteredClientList(), logic.getAddressBook());
         secondPanelPlaceholder.getChildren().clear();
         secondPanelPlaceholder.getChildren().add(salesView.getRoot());
     }
 
+    private void handleStat(SalesReport report) {
+        UiPart<Region> salesView = report.getPeriod().isPresent()
+                ? new BarChartSalesView(report, logic.getAddressBook())
+                : new PieChartSalesView(report, logic.getAddressBook());
+        secondPanelPlaceholder.getChildren().clear();
+        secondPanelPlaceholder.getChildren().add(salesView.getRoot());
+    }
+
+    private void handleRevenue(RevenueReport report) {
+        RevenueView revenueView = new RevenueView(report, logic.getAddressBook());
+        secondPanelPlaceholder.getChildren().clear();
+        secondPanelPlaceholder.getChildren().add(revenueView.getRoot());
+    }
+
     private void handleChangeTab(TabPaneBehavior tpb, int selectedTab, boolean isClient) {
         if (isClient) {
             if (selectedTab == 1) {
@@ -219,7 +238,7 @@ public class MainWindow extends UiPart<Stage> {
             logger.info("View client's details: " + category);
 
             ViewMoreClient viewMoreClient = new ViewMoreClient();
-            viewMoreClient.setClientDetails((Client) category);
+            viewMoreClient.setClientDetails((Client) category, logic.getAddressBook());
 
             secondPanelPlaceholder.getChildren().clear();
             secondPanelPlaceholder.getChildren().add(viewMoreClient.getRoot());
@@ -233,7 +252,9 @@ public class MainWindow extends UiPart<Stage> {
             logger.info("View product's details: " + category);
 
             ViewMoreProduct viewMoreProduct = new ViewMoreProduct();
-            viewMoreProduct.setProductDetails((Product) category);
+            Product product = (Product) category;
+            viewMoreProduct.setProductDetails(product,
+                    logic.getAddressBook().getClientsWithOrder(product.getId()));
 
             secondPanelPlaceholder.getChildren().clear();
             secondPanelPlaceholder.getChildren().add(viewMoreProduct.getRoot());
@@ -274,10 +295,20 @@ public class MainWindow extends UiPart<Stage> {
                 break;
 
             case STAT:
-                handleStat();
+                if (commandResult.getSalesReport().isPresent()) {
+                    handleStat(commandResult.getSalesReport().get());
+                } else {
+                    handleStat();
+                }
+                break;
+
+            case REVENUE:
+                handleRevenue(commandResult.getRevenueReport().get());
                 break;
 
             case CLEAR:
+            case EXPORT:
+            case IMPORT:
                 break;
 
             case ADD:
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -12,11 +11,16 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.chart.PieChart;
 import javafx.scene.layout.Region;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.commons.ID;
 import seedu.address.model.order.Order;
+import seedu.address.model.sales.ProductSales;
+import seedu.address.model.sales.SalesReport;
 
 public class PieChartSalesView extends UiPart<Region> implements SecondPanel {
     private static final String fxml = "PieChartSales.fxml";
+    private static final int TOP_PRODUCT_COUNT = 5;
 
     @FXML
     private PieChart pieChart;
@@ -24,37 +28,61 @@ public class PieChartSalesView extends UiPart<Region> implements SecondPanel {
     /**
      * Constructor for the {@code PieChartSalesView}
      */
-    public PieChartSalesView(ObservableList<Client> clients) {
+    public PieChartSalesView(ObservableList<Client> clients, ReadOnlyAddressBook addressBook) {
         super(fxml);
 
         // data to be changed
-        HashMap<String, Integer> table = new HashMap<>();
-        ArrayList<String> toBeDeleted = new ArrayList<>();
-        ArrayList<String> toBeAddedKey = new ArrayList<>();
-        ArrayList<Integer> toBeAddedValue = new ArrayList<>();
-
-        for (Client client : clients) {
-            Set<Order> currOrders = client.getOrders();
-            for (Order order : currOrders) {
-                String productName = order.getProductName().toString();
-                int quantity = Integer.parseInt(order.getQuantity().value);
-                table.put(productName, table.getOrDefault(productName, 0) + quantity);
+        HashMap<String, Long> table = new HashMap<>();
+
+        if (clients.size() == addressBook.getClientList().size()) {
+            // every client is shown, so the best-selling products are already kept sorted
+            for (ProductSales sales : addressBook.getSalesAggregates().getBestSelling(TOP_PRODUCT_COUNT)) {
+                table.merge(getProductName(sales.getProductId(), addressBook), sales.getUnits(), Long::sum);
+            }
+        } else {
+            // only the orders of the clients shown are read
+            for (Client client : clients) {
+                for (Order order : client.getOrders()) {
+                    table.merge(getProductName(order.getProductId(), addressBook), order.getQuantity().value,
+                            Long::sum);
+                }
             }
         }
-        Map<String, Integer> topFive =
+
+        showTopFive(table);
+    }
+
+    /**
+     * Constructor for the {@code PieChartSalesView} of the units sold of each product in {@code report}.
+     */
+    public PieChartSalesView(SalesReport report, ReadOnlyAddressBook addressBook) {
+        super(fxml);
+
+        HashMap<String, Long> table = new HashMap<>();
+        report.getTotalSales().forEach((productId, sales) ->
+                table.merge(getProductName(productId, addressBook), sales.getUnits(), Long::sum));
+        showTopFive(table);
+    }
+
+    private void showTopFive(HashMap<String, Long> table) {
+        ArrayList<String> toBeDeleted = new ArrayList<>();
+        ArrayList<String> toBeAddedKey = new ArrayList<>();
+        ArrayList<Long> toBeAddedValue = new ArrayList<>();
+
+        Map<String, Long> topFive =
                 table.entrySet().stream()
                         .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                        .limit(5)
+                        .limit(TOP_PRODUCT_COUNT)
                         .collect(Collectors.toMap(
                                 Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, HashMap::new));
 
         ObservableList<PieChart.Data> pieChartData = FXCollections.observableArrayList();
 
-        for (Map.Entry<String, Integer> product : topFive.entrySet()) {
+        for (Map.Entry<String, Long> product : topFive.entrySet()) {
             if (product.getKey().length() > 14) {
                 toBeDeleted.add(product.getKey());
                 String newString = product.getKey().substring(0, 11) + "...";
-                int newValue = product.getValue();
+                long newValue = product.getValue();
                 toBeAddedKey.add(newString);
                 toBeAddedValue.add(newValue);
             }
@@ -65,7 +93,7 @@ public class PieChartSalesView extends UiPart<Region> implements SecondPanel {
             topFive.put(toBeAddedKey.get(i), toBeAddedValue.get(i));
         }
 
-        for (Map.Entry<String, Integer> product : topFive.entrySet()) {
+        for (Map.Entry<String, Long> product : topFive.entrySet()) {
             pieChartData.add(new PieChart.Data(
                     "Product: " + product.getKey().toString() + "\n"
                             + " Sold: " + product.getValue().toString(),
@@ -75,6 +103,14 @@ public class PieChartSalesView extends UiPart<Region> implements SecondPanel {
         pieChart.getData().addAll(pieChartData);
     }
 
+    /**
+     * Returns the name of the product with {@code productId}, or its ID if the product is not in {@code addressBook}.
+     */
+    static String getProductName(ID productId, ReadOnlyAddressBook addressBook) {
+        return addressBook.findProduct(productId).map(product -> product.getName().toString())
+                .orElse("ID " + productId);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,93 @@
+package seedu.address.ui;
+
+import java.time.format.DateTimeFormatter;
+
+import javafx.fxml.FXML;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.commons.ID;
+import seedu.address.model.product.UnitPrice;
+import seedu.address.model.sales.ClientSales;
+import seedu.address.model.sales.ProductSales;
+import seedu.address.model.sales.RevenueReport;
+
+/**
+ * Shows the revenue of a {@code RevenueReport}: its total, a bar for each period or, if it is only totalled, for each
+ * product with the highest revenue, and the products and clients with the highest revenue.
+ */
+public class RevenueView extends UiPart<Region> implements SecondPanel {
+    private static final String fxml = "RevenueView.fxml";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+    private static final double CENTS_PER_DOLLAR = 100.0;
+
+    @FXML
+    private Label total;
+    @FXML
+    private BarChart<String, Number> barChart;
+    @FXML
+    private Label topProducts;
+    @FXML
+    private Label topClients;
+
+    /**
+     * Constructor for the {@code RevenueView} of {@code report}.
+     */
+    public RevenueView(RevenueReport report, ReadOnlyAddressBook addressBook) {
+        super(fxml);
+
+        total.setText(String.format("Revenue from %s to %s: $%s", report.getFrom().format(DATE_FORMAT),
+                report.getTo().format(DATE_FORMAT), UnitPrice.formatCents(report.getRevenueCents())));
+
+        // the bars are only drawn to scale, so dollars as a double are precise enough
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        if (report.getPeriod().isPresent()) {
+            report.getRevenueCentsByPeriod().forEach((start, cents) -> series.getData().add(new XYChart.Data<>(
+                    BarChartSalesView.getLabel(start, report.getPeriod().get()), cents / CENTS_PER_DOLLAR)));
+        } else {
+            for (ProductSales sales : report.getTopProducts()) {
+                series.getData().add(new XYChart.Data<>(
+                        PieChartSalesView.getProductName(sales.getProductId(), addressBook),
+                        sales.getRevenueCents() / CENTS_PER_DOLLAR));
+            }
+        }
+        barChart.getData().add(series);
+
+        StringBuilder productText = new StringBuilder("Top products by revenue:");
+        for (ProductSales sales : report.getTopProducts()) {
+            productText.append(String.format("%n%s: $%s (%d sold)",
+                    PieChartSalesView.getProductName(sales.getProductId(), addressBook),
+                    UnitPrice.formatCents(sales.getRevenueCents()), sales.getUnits()));
+        }
+        topProducts.setText(productText.toString());
+
+        StringBuilder clientText = new StringBuilder("Top clients by revenue:");
+        for (ClientSales sales : report.getTopClients()) {
+            clientText.append(String.format("%n%s: $%s (%d orders)", getClientName(sales.getClientId(), addressBook),
+                    UnitPrice.formatCents(sales.getRevenueCents()), sales.getOrderCount()));
+        }
+        topClients.setText(clientText.toString());
+    }
+
+    private static String getClientName(ID clientId, ReadOnlyAddressBook addressBook) {
+        return addressBook.findClient(clientId).map(client -> client.getName().toString())
+                .orElse("ID " + clientId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RevenueView)) {
+            return false;
+        }
+
+        RevenueView view = (RevenueView) other;
+        return total.equals(view.total)
+                && barChart.equals(view.barChart);
+    }
+}
@@ -23,4 +23,11 @@ public class StatusBarFooter extends UiPart<Region> {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
+
+    /**
+     * Replaces the save location shown with {@code message}, describing why the data could not be saved.
+     */
+    public void showSaveFailure(String message) {
+        saveLocationStatus.setText(message);
+    }
 }
@@ -3,8 +3,12 @@ package seedu.address.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
+import seedu.address.model.product.UnitPrice;
 
 /**
  * Second panel containing the details of client/product.
@@ -37,7 +41,10 @@ public class ViewMoreClient extends UiPart<Region> implements SecondPanel {
         super(fxml);
     }
 
-    public void setClientDetails(Client client) {
+    /**
+     * Shows the details of {@code client}, with the names of the products ordered as they are in {@code addressBook}.
+     */
+    public void setClientDetails(Client client, ReadOnlyAddressBook addressBook) {
         id.setText("ID: " + client.getId().toString());
         name.setText("Name: " + client.getName().toString());
         phoneNumber.setText("Phone Number: " + client.getPhoneNumber().toString());
@@ -52,8 +59,14 @@ public class ViewMoreClient extends UiPart<Region> implements SecondPanel {
 
         if (!client.getOrders().isEmpty()) {
             StringBuilder orderString = new StringBuilder();
-            for (Order order : client.getOrders()) {
-                orderString.append("\t").append(order.toString()).append("\n");
+            for (Order order : client.getLatestOrders(client.getOrders().size())) {
+                String productName = order.getProductName(addressBook).map(Name::toString)
+                        .orElse("ID " + order.getProductId());
+                orderString.append("\t[ Order ").append(order.getId().map(ID::toString).orElse("-"))
+                        .append(", Product: ").append(productName)
+                        .append(", Quantity: ").append(order.getQuantity())
+                        .append(", Unit price: ").append(order.getUnitPrice().map(UnitPrice::toString).orElse("-"))
+                        .append(", Time: ").append(order.getTime()).append(" ]\n");
             }
             orders.setText("Orders:\n" + orderString);
         }
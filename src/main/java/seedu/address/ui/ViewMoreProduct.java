@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.client.Client;
 import seedu.address.model.product.Product;
 
 /**
@@ -23,6 +26,9 @@ public class ViewMoreProduct extends UiPart<Region> implements SecondPanel {
     @FXML
     private Label quantity;
 
+    @FXML
+    private Label buyers;
+
     /**
      * Constructor for the ViewMore
      */
@@ -30,7 +36,10 @@ public class ViewMoreProduct extends UiPart<Region> implements SecondPanel {
         super(fxml);
     }
 
-    public void setProductDetails(Product product) {
+    /**
+     * Shows the details of {@code product}, and the clients in {@code buyers} who have an order of it.
+     */
+    public void setProductDetails(Product product, List<Client> buyers) {
         id.setText("ID: " + product.getId().toString());
         name.setText("Name: " + product.getName().toString());
         unitPrice.setText("Unit Price: " + product.getUnitPrice().toString());
@@ -38,6 +47,14 @@ public class ViewMoreProduct extends UiPart<Region> implements SecondPanel {
         if (product.getQuantity() != null) {
             quantity.setText("Quantity: " + product.getQuantity().toString());
         }
+
+        if (!buyers.isEmpty()) {
+            StringBuilder buyerString = new StringBuilder();
+            for (Client buyer : buyers) {
+                buyerString.append("\t").append(buyer.getName()).append(" (ID ").append(buyer.getId()).append(")\n");
+            }
+            this.buyers.setText("Buyers:\n" + buyerString);
+        }
     }
 
     @Override
@@ -54,6 +71,7 @@ public class ViewMoreProduct extends UiPart<Region> implements SecondPanel {
         return id.equals(view.id)
                 && name.equals(view.name)
                 && unitPrice.equals(view.unitPrice)
-                && quantity.equals(view.quantity);
+                && quantity.equals(view.quantity)
+                && buyers.equals(view.buyers);
     }
 }
@@ -1,12 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void isValidPath() {
@@ -20,4 +33,58 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_previousContentsKeptAsBackup() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write(1), true);
+        FileUtil.writeAtomically(file, out -> out.write(2), true);
+
+        assertArrayEquals(new byte[] {2}, Files.readAllBytes(file));
+        assertArrayEquals(new byte[] {1}, Files.readAllBytes(FileUtil.getBackupFilePath(file)));
+        assertFalse(Files.exists(Paths.get(file + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_failedWrite_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(1);
+            throw new IOException("Disk full");
+        }, true));
+
+        assertEquals("contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+        assertFalse(Files.exists(Paths.get(file + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void newMappedInputStream_largeFile_sameContents() throws Exception {
+        byte[] contents = new byte[(int) FileUtil.MAPPED_READ_THRESHOLD + 3];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = (byte) i;
+        }
+
+        Path file = testFolder.resolve("large.bin");
+        Files.write(file, contents);
+
+        try (InputStream in = FileUtil.newMappedInputStream(file)) {
+            assertEquals(contents[0] & 0xFF, in.read());
+            assertEquals(10, in.skip(10));
+            byte[] rest = in.readAllBytes();
+            assertArrayEquals(Arrays.copyOfRange(contents, 11, contents.length), rest);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void newMappedInputStream_smallFile_sameContents() throws Exception {
+        Path file = testFolder.resolve("small.txt");
+        FileUtil.writeToFile(file, "contents");
+
+        try (InputStream in = FileUtil.newMappedInputStream(file)) {
+            assertEquals("contents", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
 }
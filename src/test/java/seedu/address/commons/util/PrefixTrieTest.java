@@ -0,0 +1,84 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void startingWith_prefixIgnoringCase_returnsMatchesInOrder() {
+        trie.add("Meyer");
+        trie.add("Alice");
+        trie.add("meier");
+        trie.add("Mask");
+
+        assertEquals(List.of("Mask", "meier", "Meyer"), trie.startingWith("M", 10));
+        assertEquals(List.of("meier", "Meyer"), trie.startingWith("mE", 10));
+        assertEquals(List.of("Alice"), trie.startingWith("ALICE", 10));
+        assertEquals(List.of(), trie.startingWith("Alicia", 10));
+    }
+
+    @Test
+    public void startingWith_limit_returnsAtMostLimit() {
+        trie.add("Meier");
+        trie.add("Meyer");
+        trie.add("Mask");
+
+        assertEquals(List.of("Mask", "Meier"), trie.startingWith("", 2));
+        assertEquals(List.of(), trie.startingWith("", 0));
+        assertThrows(IllegalArgumentException.class, () -> trie.startingWith("", -1));
+    }
+
+    @Test
+    public void remove_addedTwice_heldUntilRemovedTwice() {
+        trie.add("Meier");
+        trie.add("Meier");
+
+        assertTrue(trie.remove("Meier"));
+        assertTrue(trie.contains("Meier"));
+        assertTrue(trie.remove("Meier"));
+        assertFalse(trie.contains("Meier"));
+        assertFalse(trie.remove("Meier"));
+        assertEquals(0, trie.size());
+        assertEquals(List.of(), trie.startingWith("", 10));
+    }
+
+    @Test
+    public void remove_otherCase_keepsString() {
+        trie.add("Meier");
+
+        assertFalse(trie.remove("meier"));
+        assertFalse(trie.contains("meier"));
+        assertEquals(List.of("Meier"), trie.startingWith("m", 10));
+    }
+
+    @Test
+    public void remove_prefixOfOtherString_keepsOtherString() {
+        trie.add("Me");
+        trie.add("Meier");
+
+        assertTrue(trie.remove("Me"));
+        assertEquals(List.of("Meier"), trie.startingWith("me", 10));
+        assertTrue(trie.remove("Meier"));
+        assertEquals(List.of(), trie.startingWith("", 10));
+    }
+
+    @Test
+    public void extend_sharedContinuation_extendsKeepingTypedCase() {
+        trie.add("Meier");
+        trie.add("Meiers");
+        trie.add("Meyer");
+
+        assertEquals("meIer", trie.extend("meI"));
+        assertEquals("Me", trie.extend("Me"));
+        assertEquals("Meyer", trie.extend("Mey"));
+        assertEquals("Z", trie.extend("Z"));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,6 +11,39 @@ import org.junit.jupiter.api.Test;
 
 public class StringUtilTest {
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc def 1", StringUtil.foldCase("aBC DeF 1"));
+
+        // characters equal ignoring case are folded alike, even if their lower case forms differ
+        assertTrue("\u0130".equalsIgnoreCase("i"));
+        assertEquals(StringUtil.foldCase("i"), StringUtil.foldCase("\u0130"));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", "", 0));
+        assertEquals(0, StringUtil.editDistance("abc", "abc", 0));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 3));
+        assertEquals(2, StringUtil.editDistance("", "ab", 2));
+
+        // a swap of adjacent characters is one edit
+        assertEquals(1, StringUtil.editDistance("jonh", "john", 1));
+
+        // no character is edited twice
+        assertEquals(3, StringUtil.editDistance("ca", "abc", 3));
+
+        // more than the max distance
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 2));
+        assertEquals(1, StringUtil.editDistance("a", "abc", 0));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("a", "b", -1));
+    }
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
@@ -12,11 +12,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListClientCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -24,6 +29,8 @@ import seedu.address.model.UserPrefs;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalClients;
+import seedu.address.testutil.TypicalProducts;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
@@ -79,6 +86,55 @@ public class LogicManagerTest {
         assertCommandFailure(addClientCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commandWithoutModification_addressBookNotSaved() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // The storage stub throws on every save, so the command only succeeds if no save is attempted
+        assertCommandSuccess(ListClientCommand.COMMAND_WORD, ListClientCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_exportThenImport_addressBookReplaced() throws Exception {
+        AddressBook addressBook = TypicalClients.getTypicalAddressBook();
+        TypicalProducts.getTypicalProducts().forEach(addressBook::addProduct);
+
+        for (AddressBookFormat format : AddressBookFormat.values()) {
+            Path filePath = temporaryFolder.resolve("export" + format);
+            model.setAddressBook(addressBook);
+            assertCommandSuccess(ExportCommand.COMMAND_WORD + " " + format.name().toLowerCase() + " " + filePath,
+                    String.format(ExportCommand.MESSAGE_SUCCESS, filePath), model);
+
+            model.setAddressBook(new AddressBook());
+            logic.execute(ImportCommand.COMMAND_WORD + " " + filePath);
+            assertEquals(addressBook.getClientList().size(), model.getAddressBook().getClientList().size());
+            assertEquals(addressBook.getProductList().size(), model.getAddressBook().getProductList().size());
+        }
+    }
+
+    @Test
+    public void execute_importMissingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.bin");
+        assertCommandException(ImportCommand.COMMAND_WORD + " " + filePath,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_importInvalidFile_throwsCommandException() throws Exception {
+        Path filePath = temporaryFolder.resolve("invalid.json");
+        FileUtil.writeToFile(filePath, "not an address book");
+        model.setAddressBook(TypicalClients.getTypicalAddressBook());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertThrows(CommandException.class, () -> logic.execute(ImportCommand.COMMAND_WORD + " " + filePath));
+        assertEquals(expectedModel, model);
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
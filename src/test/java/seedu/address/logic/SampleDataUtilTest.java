@@ -25,14 +25,14 @@ import seedu.address.model.util.SampleDataUtil;
 public class SampleDataUtilTest {
     @Test
     public void getSampleClients_differentClients_throwsAssertionFailedError() {
-        Client[] clients = SampleDataUtil.getSampleClients();
+        Client[] clients = SampleDataUtil.getSampleClients(SampleDataUtil.getSampleProducts());
         Client[] exampleClients = new Client[]{ALICE, BENSON, CARL, DANIEL, ELLE, GEORGE};
         assertThrows(AssertionFailedError.class, () -> assertArrayEquals(clients, exampleClients));
     }
 
     @Test
     public void getSampleClients_null_throwsAssertionFailedError() {
-        Client[] clients = SampleDataUtil.getSampleClients();
+        Client[] clients = SampleDataUtil.getSampleClients(SampleDataUtil.getSampleProducts());
         assertThrows(AssertionFailedError.class, () -> assertArrayEquals(clients, null));
     }
 
@@ -0,0 +1,96 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProducts.IPAD;
+import static seedu.address.testutil.TypicalProducts.IPHONE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.ClientBuilder;
+
+public class AutocompleterTest {
+    private static final Executor DIRECT = Runnable::run;
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final Autocompleter autocompleter = new Autocompleter(addressBook, DIRECT);
+
+    @Test
+    public void suggest_partialCommandWord_completesCommonPrefix() {
+        Suggestions suggestions = suggest("fi");
+
+        assertEquals(List.of("find -c", "find -p"), suggestions.getCandidates());
+        assertEquals("find -", suggestions.getCompletion());
+        assertEquals("find -c ", suggestions.complete("find -c"));
+    }
+
+    @Test
+    public void suggest_uniqueCommandWord_completesWithSpace() {
+        assertEquals("  stat ", suggest("  st").getCompletion());
+        assertEquals(List.of("stat"), suggest("  st").getCandidates());
+    }
+
+    @Test
+    public void suggest_commandWordOtherCase_noSuggestions() {
+        assertEquals(Suggestions.none("FI"), suggest("FI"));
+        assertEquals(Suggestions.none("add -c n/Al"), suggest("add -c n/Al"));
+    }
+
+    @Test
+    public void suggest_findClientWord_suggestsClientNameWords() {
+        Suggestions suggestions = suggest("find -c alice me");
+
+        assertEquals(List.of("Meier", "Meyer"), suggestions.getCandidates());
+        assertEquals("find -c alice me", suggestions.getCompletion());
+        assertEquals("find -c alice Meyer ", suggestions.complete("Meyer"));
+        assertEquals("find -c alice meier ", suggest("find -c alice mei").getCompletion());
+    }
+
+    @Test
+    public void suggest_findProductWord_suggestsProductNameWords() {
+        addressBook.addProduct(IPHONE);
+        addressBook.addProduct(IPAD);
+
+        assertEquals(List.of("IPad", "IPhone"), suggest("find -p ip").getCandidates());
+        assertEquals(Suggestions.none("find -c ip"), suggest("find -c ip"));
+    }
+
+    @Test
+    public void suggest_afterModifications_followsAddressBook() {
+        addressBook.removeClient(ALICE);
+        addressBook.setClient(BENSON, new ClientBuilder(BENSON).withName("Benson Alder").build());
+        addressBook.addClient(new ClientBuilder().withName("Alfred Meier").build());
+
+        assertEquals(List.of("Alder", "Alfred"), suggest("find -c al").getCandidates());
+        assertEquals(List.of("Meier", "Meyer"), suggest("find -c me").getCandidates());
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(Suggestions.none("find -c al"), suggest("find -c al"));
+    }
+
+    @Test
+    public void suggest_background_tasksRunInOrder() {
+        List<Runnable> tasks = new ArrayList<>();
+        Autocompleter queued = new Autocompleter(addressBook, tasks::add);
+        addressBook.addClient(new ClientBuilder().withName("Zed Zimmer").build());
+
+        CompletableFuture<Suggestions> suggestions = queued.suggest("find -c z");
+        tasks.forEach(Runnable::run);
+
+        assertTrue(suggestions.isDone());
+        assertEquals(List.of("Zed", "Zimmer"), suggestions.join().getCandidates());
+    }
+
+    private Suggestions suggest(String input) {
+        return autocompleter.suggest(input).join();
+    }
+}
@@ -7,14 +7,25 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.AddClientCommand.MESSAGE_SUCCESS;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.AddClientCommand.AddClientDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
 import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
 
 public class AddClientCommandTest {
     private final Name name = new Name("John Doe");
@@ -33,16 +44,35 @@ public class AddClientCommandTest {
     }
 
     @Test
-    public void execute_duplicateClient_throwsCommandException() {
-        assertThrows(CommandException.class, () -> addClientCommand.execute(new ModelDuplicateClientStub()));
+    public void execute_ordersTooLarge_throwsCommandException() {
+        ModelManager model = new ModelManager();
+        Order hugeOrder = new Order(null, new ID(1), new Quantity(Long.MAX_VALUE), LocalDate.of(2022, 1, 1),
+                new UnitPrice("1"));
+        AddClientDescriptor hugeDescriptor = new AddClientDescriptor(name, phoneNumber);
+        hugeDescriptor.setOrders(Set.of(hugeOrder));
+
+        assertThrows(CommandException.class, Messages.MESSAGE_ORDERS_TOO_LARGE, () ->
+                new AddClientCommand(hugeDescriptor).execute(model));
+        assertTrue(model.getAddressBook().getClientList().isEmpty());
+        assertEquals(IdAllocator.FIRST_ID, model.getAddressBook().getNextClientId());
+    }
+
+    @Test
+    public void execute_noIdsLeft_throwsCommandException() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.getClientIdAllocator().advanceTo(Integer.MAX_VALUE);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+        assertThrows(CommandException.class, () -> addClientCommand.execute(model));
+        assertTrue(model.getAddressBook().getClientList().isEmpty());
     }
 
     @Test
     public void execute_newClient_returnsCommandResult() {
-        Client clientToAdd = new Client(name, phoneNumber, null, null, null);
+        Client clientToAdd = new Client(new ID(1), name, phoneNumber, null, null, null);
         CommandResult expectedResult = new CommandResult(String.format(MESSAGE_SUCCESS, clientToAdd));
         try {
-            CommandResult actualResult = addClientCommand.execute(new ModelStub());
+            CommandResult actualResult = addClientCommand.execute(new ModelManager());
 
             // compare the feedback to user excluding the id.
             String actualString = actualResult.getFeedbackToUser();
@@ -64,30 +94,4 @@ public class AddClientCommandTest {
     public void equals_itself_returnsTrue() {
         assertTrue(addClientCommand.equals(addClientCommand));
     }
-
-    public class ModelDuplicateClientStub extends ModelManager {
-        /**
-         * Assume there are duplicate clients, return true.
-         *
-         * @param client the client to be checked.
-         * @return True.
-         */
-        @Override
-        public boolean hasClient(Client client) {
-            return true;
-        }
-    }
-
-    public class ModelStub extends ModelManager {
-        /**
-         * Assume there are no duplicate clients, return false.
-         *
-         * @param client the client to be checked.
-         * @return False.
-         */
-        @Override
-        public boolean hasClient(Client client) {
-            return false;
-        }
-    }
 }
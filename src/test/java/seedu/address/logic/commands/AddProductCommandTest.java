@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ModelManager;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.UnitPrice;
@@ -37,9 +38,20 @@ public class AddProductCommandTest {
         assertThrows(CommandException.class, () -> addProductCommand.execute(new ModelDuplicateProductStub()));
     }
 
+    @Test
+    public void execute_duplicateProduct_noIdAllocated() {
+        ModelManager model = new ModelManager();
+        model.addProduct(new Product(new ID(1), name, unitPrice, null));
+        int nextId = model.getAddressBook().getNextProductId();
+
+        assertThrows(CommandException.class, AddProductCommand.MESSAGE_DUPLICATE_PRODUCT, () ->
+                addProductCommand.execute(model));
+        assertEquals(nextId, model.getAddressBook().getNextProductId());
+    }
+
     @Test
     public void execute_newProduct_returnsCommandResult() {
-        Product productToAdd = new Product(name, unitPrice, null);
+        Product productToAdd = new Product(new ID(1), name, unitPrice, null);
         CommandResult expectedResult = new CommandResult(String.format(MESSAGE_SUCCESS, productToAdd));
         try {
             CommandResult actualResult = addProductCommand.execute(new ModelStub());
@@ -68,11 +80,11 @@ public class AddProductCommandTest {
         /**
          * Assume there are duplicate products, return true.
          *
-         * @param product the product to be checked.
+         * @param name the name to be checked.
          * @return True.
          */
         @Override
-        public boolean hasProduct(Product product) {
+        public boolean hasProductWithName(Name name) {
             return true;
         }
     }
@@ -81,11 +93,11 @@ public class AddProductCommandTest {
         /**
          * Assume there are no duplicate products, return false.
          *
-         * @param product the product to be checked.
+         * @param name the name to be checked.
          * @return False.
          */
         @Override
-        public boolean hasProduct(Product product) {
+        public boolean hasProductWithName(Name name) {
             return false;
         }
     }
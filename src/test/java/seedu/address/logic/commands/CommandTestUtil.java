@@ -42,8 +42,8 @@ public class CommandTestUtil {
     public static final String VALID_EMAIL_BOB = "bob@example.com";
     public static final String VALID_ADDRESS_AMY = "Block 312, Amy Street 1";
     public static final String VALID_ADDRESS_BOB = "Block 123, Bobby Street 3";
-    public static final String VALID_ORDER_ONE = CANNON.getName() + " 1 1/1";
-    public static final String VALID_ORDER_TWO = DAISY.getName() + " 455 2020/12/31";
+    public static final String VALID_ORDER_ONE = CANNON.getId() + " 1 1/1";
+    public static final String VALID_ORDER_TWO = DAISY.getId() + " 455 2020/12/31";
 
     public static final String VALID_NAME_CANNON = "Cannon";
     public static final String VALID_NAME_DAISY = "Daisy";
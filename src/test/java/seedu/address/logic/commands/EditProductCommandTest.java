@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.DESC_CANNON;
 import static seedu.address.logic.commands.CommandTestUtil.DESC_DAISY;
@@ -13,6 +15,9 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PRODUCT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PRODUCT;
 import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
@@ -22,7 +27,12 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.Quantity;
+import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.EditProductDescriptorBuilder;
 import seedu.address.testutil.ProductBuilder;
 
@@ -79,6 +89,20 @@ public class EditProductCommandTest {
         assertCommandSuccess(editProductCommand, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_renameProductWithOrders_ordersUnchanged() throws Exception {
+        Product productToEdit = model.getFilteredProductList().get(0);
+        Client client = new ClientBuilder().withOrder(productToEdit.getId(), new Quantity("1"), LocalDate.MAX).build();
+        model.addClient(client);
+
+        EditProductDescriptor descriptor = new EditProductDescriptorBuilder().withName(VALID_NAME_DAISY).build();
+        new EditProductCommand(INDEX_FIRST_PRODUCT, descriptor).execute(model);
+
+        assertSame(client, model.getAddressBook().getClientList().get(0));
+        Order order = client.getOrders().iterator().next();
+        assertEquals(Optional.of(new Name(VALID_NAME_DAISY)), order.getProductName(model.getAddressBook()));
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditProductCommand editProductCommand =
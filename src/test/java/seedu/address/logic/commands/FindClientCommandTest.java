@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.CARL;
 import static seedu.address.testutil.TypicalClients.ELLE;
 import static seedu.address.testutil.TypicalClients.FIONA;
@@ -12,13 +13,16 @@ import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.testutil.ClientBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindClientCommand}.
@@ -52,6 +56,9 @@ public class FindClientCommandTest {
 
         // different client -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // allowing for typos -> returns false
+        assertFalse(findFirstCommand.equals(new FindClientCommand(firstPredicate, true)));
     }
 
     @Test
@@ -76,6 +83,30 @@ public class FindClientCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredClientList());
     }
 
+    @Test
+    public void execute_clientsRenamedAfterFind_filteredListUpToDate() {
+        new FindClientCommand(preparePredicate("Kurz")).execute(model);
+        Client renamedCarl = new ClientBuilder(CARL).withName("Carl Tan").build();
+        Client renamedBenson = new ClientBuilder(BENSON).withName("Benson Kurz").build();
+
+        model.setClient(CARL, renamedCarl);
+        model.setClient(BENSON, renamedBenson);
+
+        assertEquals(Collections.singletonList(renamedBenson), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_fuzzyKeyword_closestClientsFirst() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 2);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, CommandType.FIND, null, true);
+        // "Kunz" matches Fiona Kunz exactly, and is a substitution away from Carl Kurz
+        FindClientCommand command = new FindClientCommand(preparePredicate("Kunz"), true);
+        expectedModel.updateFilteredClientList(client -> client.equals(CARL) || client.equals(FIONA),
+                Comparator.comparing(client -> !client.equals(FIONA)));
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(FIONA, CARL), model.getFilteredClientList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code ClientContainsKeywordsPredicate}.
      */
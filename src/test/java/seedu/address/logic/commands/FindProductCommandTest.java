@@ -8,10 +8,12 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalProducts.IPAD;
 import static seedu.address.testutil.TypicalProducts.IPHONE;
 import static seedu.address.testutil.TypicalProducts.MACBOOK;
+import static seedu.address.testutil.TypicalProducts.MASK;
 import static seedu.address.testutil.TypicalProducts.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +54,9 @@ public class FindProductCommandTest {
 
         // different product -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // allowing for typos -> returns false
+        assertFalse(findFirstCommand.equals(new FindProductCommand(firstPredicate, true)));
     }
 
     @Test
@@ -76,6 +81,18 @@ public class FindProductCommandTest {
         assertEquals(Arrays.asList(IPHONE, IPAD, MACBOOK), model.getFilteredProductList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestProductsFirst() {
+        String expectedMessage = String.format(MESSAGE_PRODUCTS_LISTED_OVERVIEW, 3);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, CommandType.FIND, null, false);
+        // "ipda" is a swap away from "IPad", "macbok" a deletion away from "MacBook", and "mask" matches exactly
+        FindProductCommand command = new FindProductCommand(preparePredicate("ipda macbok mask"), true);
+        expectedModel.updateFilteredProductList(product -> Arrays.asList(MASK, IPAD, MACBOOK).contains(product),
+                Comparator.comparing(product -> product != MASK));
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(MASK, IPAD, MACBOOK), model.getFilteredProductList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code ProductContainsKeywordsPredicate}.
      */
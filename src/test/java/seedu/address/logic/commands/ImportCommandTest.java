@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalClients;
+
+/**
+ * Contains unit tests for {@code ExportCommand} and {@code ImportCommand}.
+ * The files themselves are read and written by the storage, which {@code LogicManagerTest} covers.
+ */
+public class ImportCommandTest {
+    private final Path filePath = Paths.get("data", "backup.bin");
+
+    @Test
+    public void execute_import_asksForFileToBeRead() {
+        Model model = new ModelManager(TypicalClients.getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalClients.getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        assertEquals(new CommandResult(String.format(ImportCommand.MESSAGE_SUCCESS, filePath), CommandType.IMPORT,
+                filePath, null), result);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_export_asksForFileToBeWritten() {
+        Model model = new ModelManager(TypicalClients.getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalClients.getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = new ExportCommand(AddressBookFormat.BINARY, filePath).execute(model);
+
+        assertEquals(new CommandResult(String.format(ExportCommand.MESSAGE_SUCCESS, filePath), CommandType.EXPORT,
+                filePath, AddressBookFormat.BINARY), result);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(filePath);
+        ExportCommand exportCommand = new ExportCommand(AddressBookFormat.BINARY, filePath);
+
+        assertEquals(importCommand, new ImportCommand(filePath));
+        assertEquals(exportCommand, new ExportCommand(AddressBookFormat.BINARY, filePath));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("data", "other.bin"))));
+        assertFalse(exportCommand.equals(new ExportCommand(AddressBookFormat.JSON, filePath)));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_NUMBER_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProducts.CANNON;
+import static seedu.address.testutil.TypicalProducts.DAISY;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddClientCommand.AddClientDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
+import seedu.address.model.sales.ClientSales;
+import seedu.address.model.sales.ProductSales;
+import seedu.address.model.sales.RevenueReport;
+import seedu.address.model.sales.SalesPeriod;
+
+public class RevenueCommandTest {
+    private static final LocalDate JAN_15 = LocalDate.of(2021, 1, 15);
+    private static final LocalDate FEB_1 = LocalDate.of(2021, 2, 1);
+    private static final LocalDate APR_1 = LocalDate.of(2021, 4, 1);
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_noOrders_throwsCommandException() {
+        assertThrows(CommandException.class, StatCommand.MESSAGE_FAILURE, () ->
+                new RevenueCommand(null, null, null).execute(model));
+    }
+
+    @Test
+    public void execute_allTime_revenueOfEveryOrder() throws Exception {
+        ID clientId = addClientWithOrders();
+
+        CommandResult result = new RevenueCommand(null, null, null).execute(model);
+
+        // the order without a unit price has no revenue
+        RevenueReport expectedReport = new RevenueReport(JAN_15, APR_1, null, 1300, Map.of(),
+                List.of(new ProductSales(DAISY.getId(), 1, 1, 1000), new ProductSales(CANNON.getId(), 2, 5, 300)),
+                List.of(new ClientSales(clientId, 3, 1300)));
+        assertEquals(new CommandResult(String.format(RevenueCommand.MESSAGE_SUCCESS, "2021/01/15", "2021/04/01",
+                "13.00"), expectedReport), result);
+    }
+
+    @Test
+    public void execute_byMonthInRange_revenueInRange() throws Exception {
+        ID clientId = addClientWithOrders();
+        LocalDate from = LocalDate.of(2021, 1, 1);
+        LocalDate to = LocalDate.of(2021, 3, 31);
+
+        CommandResult result = new RevenueCommand(from, to, SalesPeriod.MONTH).execute(model);
+
+        RevenueReport expectedReport = new RevenueReport(from, to, SalesPeriod.MONTH, 300,
+                Map.of(from, 300L, FEB_1, 0L), List.of(new ProductSales(CANNON.getId(), 2, 5, 300)),
+                List.of(new ClientSales(clientId, 2, 300)));
+        assertEquals(expectedReport, result.getRevenueReport().get());
+        assertEquals(CommandType.REVENUE, result.getCommandType());
+
+        // no orders in range
+        assertThrows(CommandException.class, String.format(StatCommand.MESSAGE_NO_ORDERS_IN_RANGE,
+                "2021/02/02", "2021/03/31"), () ->
+                new RevenueCommand(FEB_1.plusDays(1), to, null).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RevenueCommand revenueByMonth = new RevenueCommand(null, null, SalesPeriod.MONTH);
+
+        assertEquals(revenueByMonth, revenueByMonth);
+        assertEquals(revenueByMonth, new RevenueCommand(null, null, SalesPeriod.MONTH));
+        assertEquals(false, revenueByMonth.equals(new RevenueCommand(null, null, SalesPeriod.YEAR)));
+        assertEquals(false, revenueByMonth.equals(new RevenueCommand(JAN_15, null, SalesPeriod.MONTH)));
+        assertEquals(false, revenueByMonth.equals(null));
+    }
+
+    /**
+     * Adds a client with two priced orders and one order made before unit prices were kept, and returns its ID.
+     */
+    private ID addClientWithOrders() throws CommandException {
+        AddClientDescriptor descriptor = new AddClientDescriptor(new Name(VALID_NAME_AMY),
+                new PhoneNumber(VALID_PHONE_NUMBER_AMY));
+        descriptor.setOrders(Set.of(
+                new Order(null, CANNON.getId(), new Quantity("2"), JAN_15, new UnitPrice("1.50")),
+                new Order(CANNON.getId(), new Quantity("3"), FEB_1),
+                new Order(null, DAISY.getId(), new Quantity("1"), APR_1, new UnitPrice("10"))));
+        new AddClientCommand(descriptor).execute(model);
+        return model.getAddressBook().getClientList().get(0).getId();
+    }
+}
@@ -9,6 +9,9 @@ import static seedu.address.testutil.TypicalProducts.CANNON;
 
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +23,9 @@ import seedu.address.model.client.PhoneNumber;
 import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
 import seedu.address.model.product.Quantity;
+import seedu.address.model.sales.ProductSales;
+import seedu.address.model.sales.SalesPeriod;
+import seedu.address.model.sales.SalesReport;
 
 public class StatCommandTest {
     private final Model model = new ModelManager();
@@ -32,7 +38,7 @@ public class StatCommandTest {
 
     @Test
     public void execute_hasStatistics_success() {
-        Order order = new Order(CANNON.getName(), new Quantity("1"), LocalDate.now());
+        Order order = new Order(CANNON.getId(), new Quantity("1"), LocalDate.now());
         HashSet<Order> orders = new HashSet<>();
         orders.add(order);
 
@@ -52,4 +58,28 @@ public class StatCommandTest {
             fail();
         }
     }
+
+    @Test
+    public void execute_byMonthInRange_reportsSalesInRange() throws Exception {
+        LocalDate january = LocalDate.of(2021, 1, 15);
+        AddClientDescriptor descriptor = new AddClientDescriptor(new Name(VALID_NAME_AMY),
+                new PhoneNumber(VALID_PHONE_NUMBER_AMY));
+        descriptor.setOrders(Set.of(new Order(CANNON.getId(), new Quantity("2"), january),
+                new Order(CANNON.getId(), new Quantity("5"), LocalDate.of(2021, 4, 1))));
+        new AddClientCommand(descriptor).execute(model);
+
+        LocalDate from = LocalDate.of(2021, 1, 1);
+        LocalDate to = LocalDate.of(2021, 3, 31);
+        CommandResult result = new StatCommand(from, to, SalesPeriod.MONTH).execute(model);
+
+        SalesReport expectedReport = new SalesReport(from, to, SalesPeriod.MONTH,
+                new TreeMap<>(Map.of(from, Map.of(CANNON.getId(), new ProductSales(CANNON.getId(), 1, 2, 0)))));
+        assertEquals(new CommandResult(String.format(StatCommand.MESSAGE_SUCCESS_RANGE, "2021/01/01", "2021/03/31"),
+                expectedReport), result);
+
+        // no orders in range
+        assertThrows(CommandException.class, String.format(StatCommand.MESSAGE_NO_ORDERS_IN_RANGE,
+                "2021/02/01", "2021/03/31"), () ->
+                new StatCommand(LocalDate.of(2021, 2, 1), to, null).execute(model));
+    }
 }
@@ -18,6 +18,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientContainsIdPredicate;
 import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 
 /**
@@ -31,9 +32,9 @@ public class ViewClientCommandTest {
     public void setUp() {
         model = new ModelManager(new AddressBook(), new UserPrefs());
         expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
-        Client client1 = new Client(new Name("Test1"), new PhoneNumber("1"), null, null, null);
-        Client client2 = new Client(new Name("Test2"), new PhoneNumber("2"), null, null, null);
-        Client client3 = new Client(new Name("Test3"), new PhoneNumber("3"), null, null, null);
+        Client client1 = new Client(new ID(1), new Name("Test1"), new PhoneNumber("1"), null, null, null);
+        Client client2 = new Client(new ID(2), new Name("Test2"), new PhoneNumber("2"), null, null, null);
+        Client client3 = new Client(new ID(3), new Name("Test3"), new PhoneNumber("3"), null, null, null);
         model.addClient(client1);
         model.addClient(client2);
         model.addClient(client3);
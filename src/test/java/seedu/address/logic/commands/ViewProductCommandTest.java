@@ -15,6 +15,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.ProductContainsIdPredicate;
@@ -31,9 +32,9 @@ public class ViewProductCommandTest {
     public void setUp() {
         model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
         expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-        Product product1 = new Product(new Name("Test1"), new UnitPrice("1"), null);
-        Product product2 = new Product(new Name("Test2"), new UnitPrice("2"), null);
-        Product product3 = new Product(new Name("Test3"), new UnitPrice("3"), null);
+        Product product1 = new Product(new ID(1001), new Name("Test1"), new UnitPrice("1"), null);
+        Product product2 = new Product(new ID(1002), new Name("Test2"), new UnitPrice("2"), null);
+        Product product3 = new Product(new ID(1003), new Name("Test3"), new UnitPrice("3"), null);
         model.addProduct(product1);
         model.addProduct(product2);
         model.addProduct(product3);
@@ -33,6 +33,7 @@ import seedu.address.logic.commands.FindProductCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListClientCommand;
 import seedu.address.logic.commands.ListProductCommand;
+import seedu.address.logic.commands.RevenueCommand;
 import seedu.address.logic.commands.StatCommand;
 import seedu.address.logic.commands.ViewClientCommand;
 import seedu.address.logic.commands.ViewProductCommand;
@@ -42,9 +43,11 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientContainsIdPredicate;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.ProductContainsIdPredicate;
 import seedu.address.model.product.ProductContainsKeywordsPredicate;
+import seedu.address.model.sales.SalesPeriod;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.ClientUtil;
 import seedu.address.testutil.EditClientDescriptorBuilder;
@@ -214,6 +217,15 @@ public class AddressBookParserTest {
     public void parseCommand_stat() throws Exception {
         assertTrue(parser.parseCommand(StatCommand.COMMAND_WORD, model) instanceof StatCommand);
         assertTrue(parser.parseCommand(StatCommand.COMMAND_WORD + " 3", model) instanceof StatCommand);
+        assertEquals(new StatCommand(null, null, SalesPeriod.YEAR),
+                parser.parseCommand(StatCommand.COMMAND_WORD + " -by year", model));
+    }
+
+    @Test
+    public void parseCommand_revenue() throws Exception {
+        assertEquals(new RevenueCommand(null, null, null), parser.parseCommand(RevenueCommand.COMMAND_WORD, model));
+        assertEquals(new RevenueCommand(null, null, SalesPeriod.MONTH),
+                parser.parseCommand(RevenueCommand.COMMAND_WORD + " -by month", model));
     }
 
     @Test
@@ -266,6 +278,11 @@ public class AddressBookParserTest {
             return false;
         }
 
+        @Override
+        public boolean hasProductWithName(Name name) {
+            return false;
+        }
+
         @Override
         public ObservableList<Product> getFilteredProductList() {
             return FXCollections.observableList(filteredProducts);
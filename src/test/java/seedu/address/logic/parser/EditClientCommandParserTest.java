@@ -32,6 +32,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLIENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CLIENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_CLIENT;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -230,21 +232,16 @@ public class EditClientCommandParserTest {
         private final ID idDaisy = TypicalProducts.DAISY.getId();
 
         @Override
-        public boolean hasProduct(ID id) {
-            return id.equals(idCannon) || id.equals(idDaisy);
-        }
-
-        @Override
-        public Product getProductById(ID id) {
+        public Optional<Product> findProduct(ID id) {
             if (id.equals(idCannon)) {
-                return TypicalProducts.CANNON;
+                return Optional.of(TypicalProducts.CANNON);
             }
 
             if (id.equals(idDaisy)) {
-                return TypicalProducts.DAISY;
+                return Optional.of(TypicalProducts.DAISY);
             }
 
-            return null;
+            return Optional.empty();
         }
     }
 }
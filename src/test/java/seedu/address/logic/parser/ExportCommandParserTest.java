@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, "binary data/backup.bin",
+                new ExportCommand(AddressBookFormat.BINARY, Paths.get("data/backup.bin")));
+        assertParseSuccess(parser, " JSON  data/my backup.json ",
+                new ExportCommand(AddressBookFormat.JSON, Paths.get("data/my backup.json")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "binary", expectedMessage);
+        assertParseFailure(parser, "xml data/backup.xml", expectedMessage);
+    }
+}
@@ -33,4 +33,19 @@ public class FindClientCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindClientCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindClientCommand() {
+        FindClientCommand expectedFindClientCommand =
+                new FindClientCommand(new ClientContainsKeywordsPredicate(Arrays.asList("alcie", "Bob")), true);
+        assertParseSuccess(parser, "~alcie ~Bob", expectedFindClientCommand);
+
+        // only the first keyword needs to be marked
+        assertParseSuccess(parser, " ~alcie Bob", expectedFindClientCommand);
+
+        // a lone marker is not a keyword
+        assertParseSuccess(parser, "~ alcie Bob", expectedFindClientCommand);
+        assertParseFailure(parser, " ~ ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -32,4 +32,19 @@ public class FindProductCommandParserTest {
         assertParseSuccess(parser, " \n Panadol \n \t Mask  \t", expectedFindProductCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindProductCommand() {
+        FindProductCommand expectedFindProductCommand =
+                new FindProductCommand(new ProductContainsKeywordsPredicate(Arrays.asList("panadl", "Mask")), true);
+        assertParseSuccess(parser, "~panadl ~Mask", expectedFindProductCommand);
+
+        // only the first keyword needs to be marked
+        assertParseSuccess(parser, " ~panadl Mask", expectedFindProductCommand);
+
+        // a lone marker is not a keyword
+        assertParseSuccess(parser, "~ panadl Mask", expectedFindProductCommand);
+        assertParseFailure(parser, " ~ ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProductCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -52,8 +53,10 @@ public class ParserUtilTest {
 
     private static final String WHITESPACE = " \t\r\n";
 
-    private static final Order ORDER_1 = new Order(CANNON.getName(), new Quantity("1"), LocalDate.now());
-    private static final Order ORDER_2 = new Order(DAISY.getName(), new Quantity("100"), LocalDate.now());
+    private static final Order ORDER_1 = new Order(null, CANNON.getId(), new Quantity("1"),
+            LocalDate.of(LocalDate.now().getYear(), 1, 1), CANNON.getUnitPrice());
+    private static final Order ORDER_2 = new Order(null, DAISY.getId(), new Quantity("455"), LocalDate.of(2020, 12, 31),
+            DAISY.getUnitPrice());
 
     @Test
     public void parseIndex_invalidInput_throwsParseException() {
@@ -278,16 +281,13 @@ public class ParserUtilTest {
 
     private class ModelStub extends ModelManager {
         @Override
-        public boolean hasProduct(ID productId) {
-            return productId.getId() != 0;
-        }
-
-        @Override
-        public Product getProductById(ID productId) {
-            if (productId.equals(CANNON.getId())) {
-                return CANNON;
+        public Optional<Product> findProduct(ID productId) {
+            if (productId.getId() == 0) {
+                return Optional.empty();
+            } else if (productId.equals(CANNON.getId())) {
+                return Optional.of(CANNON);
             } else {
-                return DAISY;
+                return Optional.of(DAISY);
             }
         }
     }
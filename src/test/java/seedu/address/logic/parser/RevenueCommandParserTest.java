@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RevenueCommand;
+import seedu.address.model.sales.SalesPeriod;
+
+public class RevenueCommandParserTest {
+    private final RevenueCommandParser parser = new RevenueCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsRevenueCommand() {
+        assertParseSuccess(parser, "", new RevenueCommand(null, null, null));
+    }
+
+    @Test
+    public void parse_allArgs_returnsRevenueCommand() {
+        assertParseSuccess(parser, "-from 2021/01/01 -to 2021/03/31 -by month",
+                new RevenueCommand(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 3, 31), SalesPeriod.MONTH));
+        assertParseSuccess(parser, "-from 2021/1/1", new RevenueCommand(LocalDate.of(2021, 1, 1), null, null));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "-to 2021/13/01", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "-by decade", SalesPeriod.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "-from 2021/03/31 -to 2021/01/01", StatCommandParser.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatCommand;
+import seedu.address.model.sales.SalesPeriod;
+
+public class StatCommandParserTest {
+    private final StatCommandParser parser = new StatCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsStatCommand() {
+        assertParseSuccess(parser, "", new StatCommand());
+    }
+
+    @Test
+    public void parse_allArgs_returnsStatCommand() {
+        assertParseSuccess(parser, "-from 2021/01/01 -to 2021/03/31 -by month",
+                new StatCommand(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 3, 31), SalesPeriod.MONTH));
+        assertParseSuccess(parser, "  -by WEEK  ", new StatCommand(null, null, SalesPeriod.WEEK));
+        assertParseSuccess(parser, "-to 2021/3/31",
+                new StatCommand(null, LocalDate.of(2021, 3, 31), null));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "-from 2021/13/01", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "-by fortnight", SalesPeriod.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "-from 2021/03/31 -to 2021/01/01", StatCommandParser.MESSAGE_INVALID_RANGE);
+    }
+}
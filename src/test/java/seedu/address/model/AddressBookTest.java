@@ -5,12 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalProducts.AIRPODS;
 import static seedu.address.testutil.TypicalProducts.IPHONE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,8 +24,16 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
+import seedu.address.model.order.Order;
 import seedu.address.model.product.Product;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
 import seedu.address.model.product.exceptions.DuplicateProductException;
+import seedu.address.model.sales.ProductSales;
+import seedu.address.model.sales.SalesAggregates;
+import seedu.address.model.sales.exceptions.SalesOverflowException;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.ProductBuilder;
 import seedu.address.testutil.TypicalClients;
@@ -58,6 +72,51 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesIndexes() {
+        AddressBook newData = new AddressBook();
+        newData.addClient(ALICE);
+        newData.addProduct(IPHONE);
+        addressBook.addProduct(TypicalProducts.IPAD);
+
+        addressBook.resetData(newData);
+        assertEquals(Optional.of(ALICE), addressBook.findClient(ALICE.getId()));
+        assertEquals(Optional.of(IPHONE), addressBook.findProduct(IPHONE.getId()));
+        assertEquals(Optional.empty(), addressBook.findProduct(TypicalProducts.IPAD.getId()));
+
+        // the lists are copied, not shared
+        newData.removeClient(ALICE);
+        assertTrue(addressBook.hasClient(ALICE));
+    }
+
+    @Test
+    public void resetData_withAddressBook_copiesHighWaterMarks() {
+        AddressBook newData = new AddressBook();
+        newData.getClientIdAllocator().advanceTo(50);
+        newData.getProductIdAllocator().advanceTo(60);
+        addressBook.getClientIdAllocator().advanceTo(100);
+
+        addressBook.resetData(newData);
+        assertEquals(50, addressBook.getNextClientId());
+        assertEquals(60, addressBook.getNextProductId());
+    }
+
+    @Test
+    public void addClient_removedAfterwards_idNotHandedOutAgain() {
+        Client client = new ClientBuilder(ALICE).build();
+        addressBook.addClient(client);
+        addressBook.removeClient(client);
+
+        assertTrue(addressBook.getClientIdAllocator().allocate().getId() > client.getId().getId());
+    }
+
+    @Test
+    public void getNextProductId_readOnlyAddressBook_pastLargestId() {
+        AddressBookStub stub = new AddressBookStub(Collections.emptyList(), List.of(IPHONE));
+        assertEquals(IPHONE.getId().getId() + 1, stub.getNextProductId());
+        assertEquals(IdAllocator.FIRST_ID, stub.getNextClientId());
+    }
+
     @Test
     public void resetData_withDuplicateClients_throwsDuplicateClientException() {
         // Two clients with the same identity fields
@@ -112,6 +171,28 @@ public class AddressBookTest {
         assertTrue(addressBook.hasProduct(IPHONE));
     }
 
+    @Test
+    public void findClient_clientInAddressBook_returnsClient() {
+        addressBook.addClient(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.findClient(ALICE.getId()));
+    }
+
+    @Test
+    public void findProduct_productRemoved_returnsEmpty() {
+        addressBook.addProduct(IPHONE);
+        assertEquals(Optional.of(IPHONE), addressBook.findProduct(IPHONE.getId()));
+
+        addressBook.removeProduct(IPHONE);
+        assertEquals(Optional.empty(), addressBook.findProduct(IPHONE.getId()));
+    }
+
+    @Test
+    public void findProduct_readOnlyAddressBook_searchesList() {
+        AddressBookStub stub = new AddressBookStub(Collections.emptyList(), List.of(IPHONE));
+        assertEquals(Optional.of(IPHONE), stub.findProduct(IPHONE.getId()));
+        assertEquals(Optional.empty(), stub.findClient(ALICE.getId()));
+    }
+
     @Test
     public void hasClient_clientWithSameIdentityFieldsInAddressBook_returnsTrue() {
         addressBook.addClient(ALICE);
@@ -136,6 +217,268 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getProductList().remove(0));
     }
 
+    @Test
+    public void getModificationVersion_afterEachModification_increases() {
+        Client client = new ClientBuilder().build();
+        Order order = new Order(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1));
+
+        assertModificationVersionIncreases(() -> addressBook.addClient(client));
+        assertModificationVersionIncreases(() -> addressBook.addProduct(IPHONE));
+        assertModificationVersionIncreases(() -> addressBook.addOrder(client, order));
+        assertModificationVersionIncreases(() ->
+                addressBook.removeOrder(addressBook.getClientList().get(0), IPHONE.getId()));
+        assertModificationVersionIncreases(() -> addressBook.removeProduct(IPHONE));
+        assertModificationVersionIncreases(() -> addressBook.resetData(new AddressBook()));
+    }
+
+    @Test
+    public void getModificationVersion_noModification_unchanged() {
+        Client client = new ClientBuilder().build();
+        addressBook.addClient(client);
+        long version = addressBook.getModificationVersion();
+
+        addressBook.hasClient(client);
+        addressBook.removeOrder(client, new ID(999));
+        assertEquals(version, addressBook.getModificationVersion());
+    }
+
+    @Test
+    public void addOrder_clientInAddressBook_clientReplacedByCopy() {
+        Client client = new ClientBuilder().build();
+        Order order = new Order(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1));
+        addressBook.addClient(client);
+
+        addressBook.addOrder(client, order);
+
+        Client updatedClient = addressBook.getClientList().get(0);
+        assertTrue(client.isSameClient(updatedClient));
+        assertTrue(updatedClient.hasOrder(IPHONE.getId()));
+        assertFalse(client.hasOrder(IPHONE.getId()));
+    }
+
+    @Test
+    public void addOrder_repeatOrdersOfSameProduct_allKept() {
+        Client client = new ClientBuilder(ALICE).build();
+        addressBook.addClient(client);
+        addressBook.addOrder(client, new Order(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1)));
+        addressBook.addOrder(addressBook.getClientList().get(0),
+                new Order(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1)));
+
+        Client updatedClient = addressBook.getClientList().get(0);
+        assertEquals(2, updatedClient.getOrders().size());
+        assertEquals(new ID(2), updatedClient.getLatestOrders(1).get(0).getId().get());
+
+        addressBook.removeOrder(updatedClient, IPHONE.getId());
+        assertTrue(addressBook.getClientList().get(0).getOrders().isEmpty());
+    }
+
+    @Test
+    public void getClientsWithOrder_afterEachModification_upToDate() {
+        Client alice = new ClientBuilder(ALICE).build();
+        Client bob = new ClientBuilder(TypicalClients.BOB).build();
+        Order iphoneOrder = new Order(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1));
+        addressBook.addClient(alice);
+        addressBook.addOrder(alice, iphoneOrder);
+        assertEquals(List.of(addressBook.getClientList().get(0)), addressBook.getClientsWithOrder(IPHONE.getId()));
+
+        // kept up to date once built
+        addressBook.addClient(bob);
+        addressBook.addOrder(bob, iphoneOrder);
+        assertEquals(2, addressBook.getClientsWithOrder(IPHONE.getId()).size());
+
+        addressBook.removeOrder(addressBook.getClientList().get(0), IPHONE.getId());
+        assertEquals(List.of(addressBook.getClientList().get(1)), addressBook.getClientsWithOrder(IPHONE.getId()));
+
+        addressBook.removeClient(addressBook.getClientList().get(1));
+        assertEquals(Collections.emptyList(), addressBook.getClientsWithOrder(IPHONE.getId()));
+    }
+
+    @Test
+    public void getClientsWithOrder_repeatOrdersChangedOneAtATime_clientKeptWhileAnyOrderLeft() {
+        Client alice = new ClientBuilder(ALICE).build();
+        addressBook.addClient(alice);
+        addressBook.addOrder(alice, new Order(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1)));
+        addressBook.addOrder(addressBook.getClientList().get(0),
+                new Order(IPHONE.getId(), new Quantity("2"), LocalDate.of(2022, 1, 2)));
+        assertEquals(1, addressBook.getClientsWithOrder(IPHONE.getId()).size());
+
+        Client updatedAlice = addressBook.getClientList().get(0);
+        addressBook.setOrder(updatedAlice, updatedAlice.getOrders().iterator().next(),
+                new Order(AIRPODS.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1)));
+        assertEquals(List.of(addressBook.getClientList().get(0)), addressBook.getClientsWithOrder(IPHONE.getId()));
+        assertEquals(List.of(addressBook.getClientList().get(0)), addressBook.getClientsWithOrder(AIRPODS.getId()));
+
+        addressBook.removeOrder(addressBook.getClientList().get(0), IPHONE.getId());
+        assertEquals(Collections.emptyList(), addressBook.getClientsWithOrder(IPHONE.getId()));
+        assertEquals(Set.of(new Order(new ID(1), AIRPODS.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1), null)),
+                addressBook.getClientList().get(0).getOrders());
+    }
+
+    @Test
+    public void getSalesAggregates_afterEachModification_upToDate() {
+        Client alice = new ClientBuilder(ALICE).build();
+        addressBook.addProduct(IPHONE);
+        addressBook.addClient(alice);
+        addressBook.addOrder(alice, new Order(null, IPHONE.getId(), new Quantity("3"), LocalDate.of(2022, 1, 1),
+                IPHONE.getUnitPrice()));
+        assertEquals(3, addressBook.getSalesAggregates().getSales(IPHONE.getId()).get().getUnits());
+
+        // kept up to date once built
+        addressBook.addOrder(addressBook.getClientList().get(0),
+                new Order(null, IPHONE.getId(), new Quantity("2"), LocalDate.of(2022, 1, 2), IPHONE.getUnitPrice()));
+        ProductSales sales = addressBook.getSalesAggregates().getSales(IPHONE.getId()).get();
+        assertEquals(5, sales.getUnits());
+        assertEquals(5 * IPHONE.getUnitPrice().cents, sales.getRevenueCents());
+        assertEquals(5 * IPHONE.getUnitPrice().cents, addressBook.getSalesAggregates().getClientSales(alice.getId())
+                .get().getRevenueCents());
+
+        // orders keep the unit price they were made at
+        Product repricedIphone = new ProductBuilder(IPHONE).withUnitPrice("2.50").build();
+        addressBook.setProduct(IPHONE, repricedIphone);
+        assertEquals(sales, addressBook.getSalesAggregates().getSales(IPHONE.getId()).get());
+
+        addressBook.removeOrder(addressBook.getClientList().get(0), IPHONE.getId());
+        assertTrue(addressBook.getSalesAggregates().isEmpty());
+
+        addressBook.resetData(TypicalClients.getTypicalAddressBook());
+        AddressBookStub freshlyCounted = new AddressBookStub(addressBook.getClientList(), addressBook.getProductList());
+        assertEquals(freshlyCounted.getSalesAggregates().getBestSelling(Integer.MAX_VALUE),
+                addressBook.getSalesAggregates().getBestSelling(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void addClient_ordersTooLarge_throwsSalesOverflowExceptionAndNothingChanged() {
+        Client alice = new ClientBuilder(ALICE).build();
+        addressBook.addClient(alice);
+        addressBook.addOrder(alice, new Order(null, IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1),
+                new UnitPrice("1")));
+        SalesAggregates aggregates = addressBook.getSalesAggregates();
+        long revenueCents = aggregates.getRevenueCents();
+        Order hugeOrder = new Order(null, IPHONE.getId(), new Quantity(Long.MAX_VALUE), LocalDate.of(2022, 1, 2),
+                new UnitPrice("0"));
+        Client bob = new ClientBuilder(TypicalClients.BOB).build();
+        Client bobWithHugeOrder = Client.updateClient(bob, bob.getName(), bob.getPhoneNumber(), bob.getEmail(),
+                bob.getAddress(), Set.of(hugeOrder));
+
+        assertFalse(addressBook.canCountOrders(List.of(), List.of(hugeOrder)));
+        assertThrows(SalesOverflowException.class, () -> addressBook.addClient(bobWithHugeOrder));
+        assertThrows(SalesOverflowException.class, () ->
+                addressBook.addOrder(addressBook.getClientList().get(0), hugeOrder));
+        assertEquals(1, addressBook.getClientList().size());
+        assertEquals(1, addressBook.getClientList().get(0).getOrders().size());
+        assertEquals(revenueCents, addressBook.getSalesAggregates().getRevenueCents());
+
+        // removing the order makes room for the huge one
+        Client updatedAlice = addressBook.getClientList().get(0);
+        assertTrue(addressBook.canCountOrders(updatedAlice.getOrders(), List.of(hugeOrder)));
+        addressBook.setOrder(updatedAlice, updatedAlice.getOrders().iterator().next(), hugeOrder);
+        assertEquals(Long.MAX_VALUE, addressBook.getSalesAggregates().getSales(IPHONE.getId()).get().getUnits());
+    }
+
+    @Test
+    public void getSalesAggregates_loadedOrdersTooLarge_throwsSalesOverflowException() {
+        Order maxUnits = new Order(null, IPHONE.getId(), new Quantity(Long.MAX_VALUE), LocalDate.of(2022, 1, 1),
+                new UnitPrice("0"));
+        Client alice = new ClientBuilder(ALICE).build();
+        Client bob = new ClientBuilder(TypicalClients.BOB).build();
+        addressBook.setClients(List.of(
+                Client.updateClient(alice, alice.getName(), alice.getPhoneNumber(), alice.getEmail(),
+                        alice.getAddress(), Set.of(maxUnits)),
+                Client.updateClient(bob, bob.getName(), bob.getPhoneNumber(), bob.getEmail(), bob.getAddress(),
+                        Set.of(maxUnits))));
+
+        assertThrows(SalesOverflowException.class, () -> addressBook.getSalesAggregates());
+        assertThrows(SalesOverflowException.class, () -> addressBook.getSalesAggregates());
+        assertThrows(SalesOverflowException.class, () -> addressBook.getSalesRollups());
+    }
+
+    @Test
+    public void getSalesRollups_afterEachModification_upToDate() {
+        LocalDate day = LocalDate.of(2022, 1, 1);
+        Client alice = new ClientBuilder(ALICE).build();
+        addressBook.addClient(alice);
+        addressBook.addOrder(alice, new Order(IPHONE.getId(), new Quantity("3"), day));
+        assertEquals(3, addressBook.getSalesRollups().getSalesBetween(day, day).get(IPHONE.getId()).getUnits());
+
+        // kept up to date once built
+        Client updatedAlice = addressBook.getClientList().get(0);
+        addressBook.setOrder(updatedAlice, updatedAlice.getOrders().iterator().next(),
+                new Order(IPHONE.getId(), new Quantity("5"), day.plusDays(1)));
+        assertEquals(Map.of(), addressBook.getSalesRollups().getSalesBetween(day, day));
+        assertEquals(5, addressBook.getSalesRollups().getSalesBetween(day, day.plusDays(1)).get(IPHONE.getId())
+                .getUnits());
+
+        addressBook.removeClient(addressBook.getClientList().get(0));
+        assertTrue(addressBook.getSalesRollups().isEmpty());
+    }
+
+    @Test
+    public void getClientsWithOrder_afterResetData_matchesNewData() {
+        Client alice = new ClientBuilder(ALICE).build();
+        addressBook.addClient(alice);
+        addressBook.addOrder(alice, new Order(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1)));
+        assertEquals(1, addressBook.getClientsWithOrder(IPHONE.getId()).size());
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.emptyList(), addressBook.getClientsWithOrder(IPHONE.getId()));
+    }
+
+    @Test
+    public void getClientNameMatcher_afterEachModification_upToDate() {
+        Client alice = new ClientBuilder(ALICE).build();
+        addressBook.addClient(alice);
+        Predicate<Client> matcher = addressBook.getClientNameMatcher(List.of("pauline", "Bob"));
+        assertTrue(matcher.test(alice));
+
+        Client bob = new ClientBuilder().withName("Bob Choo").build();
+        addressBook.addClient(bob);
+        assertTrue(matcher.test(bob));
+
+        Client renamedAlice = new ClientBuilder(alice).withName("Alice Tan").build();
+        addressBook.setClient(alice, renamedAlice);
+        assertFalse(matcher.test(renamedAlice));
+
+        addressBook.resetData(TypicalClients.getTypicalAddressBook());
+        assertTrue(matcher.test(ALICE));
+        assertFalse(matcher.test(bob));
+    }
+
+    @Test
+    public void getClientNameMatcher_failedAdd_indexUnchanged() {
+        Client alice = new ClientBuilder(ALICE).build();
+        addressBook.addClient(alice);
+        Predicate<Client> matcher = addressBook.getClientNameMatcher(List.of("Alice"));
+
+        Client sameIdOtherName = new ClientBuilder(alice).withName("Carl Kurz").build();
+        assertThrows(DuplicateClientException.class, () -> addressBook.addClient(sameIdOtherName));
+        assertTrue(matcher.test(alice));
+    }
+
+    @Test
+    public void getProductNameMatcher_afterRemoval_noLongerMatches() {
+        addressBook.addProduct(IPHONE);
+        Predicate<Product> matcher = addressBook.getProductNameMatcher(List.of("IPHONE"));
+        assertTrue(matcher.test(IPHONE));
+
+        addressBook.removeProduct(IPHONE);
+        assertFalse(matcher.test(IPHONE));
+    }
+
+    @Test
+    public void getClientsWithOrder_readOnlyAddressBook_searchesOrders() {
+        Client alice = new ClientBuilder(ALICE).withOrder(IPHONE.getId(), new Quantity("1"), LocalDate.of(2022, 1, 1))
+                .build();
+        AddressBookStub stub = new AddressBookStub(List.of(alice, TypicalClients.BOB), Collections.emptyList());
+
+        assertEquals(List.of(alice), stub.getClientsWithOrder(IPHONE.getId()));
+    }
+
+    private void assertModificationVersionIncreases(Runnable modification) {
+        long versionBefore = addressBook.getModificationVersion();
+        modification.run();
+        assertTrue(addressBook.getModificationVersion() > versionBefore);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose clients/products list can violate interface constraints.
      */
@@ -13,12 +13,13 @@ import static seedu.address.testutil.TypicalProducts.IPHONE;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
-import seedu.address.model.commons.ID;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.ProductContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
@@ -93,19 +94,55 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasClient(ALICE));
     }
 
+    @Test
+    public void findClient_nullClientID_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findClient(null));
+    }
+
+    @Test
+    public void findClient_clientInAddressBook_returnsClient() {
+        modelManager.addClient(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findClient(ALICE.getId()));
+        assertEquals(Optional.empty(), modelManager.findClient(BENSON.getId()));
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredClientList().remove(0));
     }
 
+    @Test
+    public void updateFilteredClientList_withComparator_ordersUntilNextFilter() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS,
+                Comparator.comparing(client -> client != BENSON));
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredClientList());
+
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredClientList());
+    }
+
     @Test
     public void hasProduct_nullProduct_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasProduct((Product) null));
     }
 
     @Test
-    public void hasProduct_nullProductID_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> modelManager.hasProduct((ID) null));
+    public void findProduct_nullProductID_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findProduct(null));
+    }
+
+    @Test
+    public void findProduct_productInAddressBook_returnsProduct() {
+        modelManager.addProduct(IPHONE);
+        assertEquals(Optional.of(IPHONE), modelManager.findProduct(IPHONE.getId()));
+    }
+
+    @Test
+    public void findProduct_productNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), modelManager.findProduct(IPHONE.getId()));
     }
 
     @Test
@@ -6,17 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
-import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_CANNON;
-import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_DAISY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_NUMBER_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.AMY;
 import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalProducts.CANNON;
+import static seedu.address.testutil.TypicalProducts.DAISY;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.commons.Name;
+import seedu.address.model.commons.ID;
 import seedu.address.model.order.Order;
 import seedu.address.model.product.Quantity;
 import seedu.address.testutil.ClientBuilder;
@@ -88,33 +92,57 @@ public class ClientTest {
     }
 
     @Test
-    public void addOrder_success() {
-        Order order = new Order(new Name("product"), new Quantity("1"), LocalDate.MAX);
-        AMY.addOrder(order);
-        Client editedAmy = new ClientBuilder(AMY)
-                .withOrder(new Name("product"), new Quantity("1"), LocalDate.MAX)
-                .build();
-        assertTrue(AMY.equals(editedAmy));
+    public void hasOrder_clientHasOrder_returnsTrue() {
+        assertTrue(AMY.hasOrder(DAISY.getId()));
     }
 
     @Test
-    public void hasOrder_clientHasOrder_returnsTrue() {
-        assertTrue(AMY.hasOrder(new Name(VALID_NAME_DAISY)));
+    public void hasOrder_cannotFindOrder_returnsFalse() {
+        assertFalse(AMY.hasOrder(new ID(999)));
     }
 
     @Test
-    public void hasOrder_cannotFindOrder_returnsFalse() {
-        assertFalse(AMY.hasOrder(new Name("random product")));
+    public void getOrder_cannotFindOrder_returnsEmpty() {
+        assertEquals(Optional.empty(), AMY.getOrder(new ID(999)));
+    }
+
+    @Test
+    public void getOrder_clientHasOrder_returnsOrder() {
+        Order order = AMY.getOrder(CANNON.getId()).get();
+        assertEquals(CANNON.getId(), order.getProductId());
+        assertEquals(new Quantity("1"), order.getQuantity());
     }
 
     @Test
-    public void removeOrder_cannotFindOrder_returnsNull() {
-        assertEquals(null, AMY.removeOrder(new Name("random product")));
+    public void getOrder_repeatOrders_latestReturned() {
+        Client client = new ClientBuilder().withOrder(CANNON.getId(), new Quantity("1"), LocalDate.of(2021, 1, 1))
+                .withOrder(CANNON.getId(), new Quantity("2"), LocalDate.of(2021, 3, 1))
+                .withOrder(DAISY.getId(), new Quantity("3"), LocalDate.of(2021, 2, 1))
+                .build();
+
+        assertEquals(new Quantity("2"), client.getOrder(CANNON.getId()).get().getQuantity());
     }
 
     @Test
-    public void removeOrder_clientHasOrder_returnsOrderToRemove() {
-        assertTrue(AMY.removeOrder(new Name(VALID_NAME_CANNON))
-                .equals(new Order(new Name(VALID_NAME_CANNON), new Quantity("1"), LocalDate.MAX)));
+    public void getOrders_cannotBeModified() {
+        Client client = new ClientBuilder().withOrder(CANNON.getId(), new Quantity("1"), LocalDate.of(2021, 1, 1))
+                .build();
+
+        assertThrows(UnsupportedOperationException.class, () ->
+                client.getOrders().add(new Order(DAISY.getId(), new Quantity("1"), LocalDate.of(2021, 1, 1))));
+        assertThrows(UnsupportedOperationException.class, () -> client.getOrders().clear());
+    }
+
+    @Test
+    public void getLatestOrders_repeatOrdersOfSameProduct_allKeptLatestFirst() {
+        Order first = new Order(CANNON.getId(), new Quantity("1"), LocalDate.of(2021, 1, 1));
+        Order second = new Order(CANNON.getId(), new Quantity("1"), LocalDate.of(2021, 2, 1));
+        Client client = new ClientBuilder().withOrder(CANNON.getId(), new Quantity("1"), LocalDate.of(2021, 1, 1))
+                .withOrder(CANNON.getId(), new Quantity("1"), LocalDate.of(2021, 2, 1))
+                .build();
+
+        assertEquals(List.of(second.withId(new ID(2)), first.withId(new ID(1))), client.getLatestOrders(2));
+        assertEquals(Set.of(first.withId(new ID(1))),
+                client.getOrdersBetween(LocalDate.of(2020, 12, 1), LocalDate.of(2021, 1, 31)));
     }
 }
@@ -7,13 +7,17 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalClients.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.testutil.ClientBuilder;
@@ -124,6 +128,64 @@ public class UniqueClientListTest {
         assertEquals(expectedUniqueClientList, uniqueClientList);
     }
 
+    @Test
+    public void remove_clientWithSameIdButDifferentFields_throwsClientNotFoundException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.remove(Client.updateClient(ALICE, BOB)));
+    }
+
+    @Test
+    public void remove_earlierClient_laterClientsStillFound() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        uniqueClientList.add(CARL);
+        uniqueClientList.remove(ALICE);
+
+        Client editedCarl = Client.updateClient(CARL, BOB);
+        uniqueClientList.setClient(CARL, editedCarl);
+        uniqueClientList.remove(BOB);
+
+        UniqueClientList expectedUniqueClientList = new UniqueClientList();
+        expectedUniqueClientList.add(editedCarl);
+        assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertEquals(Optional.of(editedCarl), uniqueClientList.find(CARL.getId()));
+    }
+
+    @Test
+    public void remove_severalClientsThenAdd_allClientsStillFound() {
+        Client dan = new ClientBuilder().withName("Dan").build();
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        uniqueClientList.add(CARL);
+        uniqueClientList.remove(BOB);
+        uniqueClientList.remove(ALICE);
+        uniqueClientList.add(dan);
+
+        Client editedDan = Client.updateClient(dan, BOB);
+        uniqueClientList.setClient(dan, editedDan);
+        uniqueClientList.remove(CARL);
+
+        UniqueClientList expectedUniqueClientList = new UniqueClientList();
+        expectedUniqueClientList.add(editedDan);
+        assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertEquals(Optional.of(editedDan), uniqueClientList.find(dan.getId()));
+    }
+
+    @Test
+    public void find_clientInList_returnsClient() {
+        uniqueClientList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniqueClientList.find(ALICE.getId()));
+        assertEquals(Optional.empty(), uniqueClientList.find(BOB.getId()));
+    }
+
+    @Test
+    public void find_afterSetClients_returnsNewClients() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClients(Collections.singletonList(BOB));
+        assertEquals(Optional.empty(), uniqueClientList.find(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniqueClientList.find(BOB.getId()));
+    }
+
     @Test
     public void setClients_nullUniqueClientList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.setClients((UniqueClientList) null));
@@ -159,6 +221,26 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
     }
 
+    @Test
+    public void setClients_listWithDuplicateClients_listUnchanged() {
+        uniqueClientList.add(ALICE);
+        List<Client> listWithDuplicateClients = Arrays.asList(BOB, CARL, BOB);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
+        assertEquals(Collections.singletonList(ALICE), uniqueClientList.asUnmodifiableObservableList());
+        assertTrue(uniqueClientList.find(ALICE.getId()).isPresent());
+        assertFalse(uniqueClientList.find(BOB.getId()).isPresent());
+    }
+
+    @Test
+    public void setClients_list_notifiesListenersOnce() {
+        uniqueClientList.add(ALICE);
+        List<ListChangeListener.Change<? extends Client>> changes = new ArrayList<>();
+        uniqueClientList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniqueClientList.setClients(Arrays.asList(BOB, CARL));
+        assertEquals(1, changes.size());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,111 @@
+package seedu.address.model.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.commons.exceptions.IdsExhaustedException;
+
+public class IdAllocatorTest {
+    @Test
+    public void allocate_newAllocator_startsFromFirstId() {
+        IdAllocator allocator = new IdAllocator();
+        assertEquals(new ID(IdAllocator.FIRST_ID), allocator.allocate());
+        assertEquals(new ID(IdAllocator.FIRST_ID + 1), allocator.allocate());
+        assertEquals(IdAllocator.FIRST_ID + 2, allocator.getNextId());
+    }
+
+    @Test
+    public void allocateBlock_success() {
+        IdAllocator allocator = new IdAllocator(10);
+        assertEquals(10, allocator.allocateBlock(5));
+        assertEquals(new ID(15), allocator.allocate());
+        assertEquals(16, allocator.allocateBlock(0));
+        assertEquals(16, allocator.getNextId());
+    }
+
+    @Test
+    public void allocateBlock_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdAllocator().allocateBlock(-1));
+    }
+
+    @Test
+    public void allocate_lastId_throwsIdsExhaustedException() {
+        IdAllocator allocator = new IdAllocator(ID.MAX_ID);
+        assertEquals(new ID(ID.MAX_ID), allocator.allocate());
+        assertThrows(IdsExhaustedException.class, allocator::allocate);
+        assertEquals(Integer.MAX_VALUE, allocator.getNextId());
+    }
+
+    @Test
+    public void allocateBlock_notEnoughIdsLeft_noIdAllocated() {
+        IdAllocator allocator = new IdAllocator(ID.MAX_ID - 1);
+        assertThrows(IdsExhaustedException.class, () -> allocator.allocateBlock(3));
+        assertEquals(ID.MAX_ID - 1, allocator.allocateBlock(2));
+    }
+
+    @Test
+    public void reserve_invalidId_throwsIllegalArgumentException() {
+        IdAllocator allocator = new IdAllocator();
+        assertThrows(IllegalArgumentException.class, () -> allocator.reserve(new ID(Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> allocator.reserve(new ID(-1)));
+
+        allocator.reserve(new ID(ID.MAX_ID));
+        assertThrows(IdsExhaustedException.class, allocator::allocate);
+    }
+
+    @Test
+    public void reserve_onlyMovesForward() {
+        IdAllocator allocator = new IdAllocator(10);
+        allocator.reserve(new ID(3));
+        assertEquals(10, allocator.getNextId());
+
+        allocator.reserve(new ID(20));
+        assertEquals(new ID(21), allocator.allocate());
+    }
+
+    @Test
+    public void advanceTo_onlyMovesForward() {
+        IdAllocator allocator = new IdAllocator(10);
+        allocator.advanceTo(5);
+        assertEquals(10, allocator.getNextId());
+
+        allocator.advanceTo(30);
+        assertEquals(30, allocator.getNextId());
+    }
+
+    @Test
+    public void reset_movesBackward() {
+        IdAllocator allocator = new IdAllocator(10);
+        allocator.reset(IdAllocator.FIRST_ID);
+        assertEquals(new ID(IdAllocator.FIRST_ID), allocator.allocate());
+    }
+
+    @Test
+    public void allocate_concurrently_allUnique() throws Exception {
+        IdAllocator allocator = new IdAllocator();
+        Set<ID> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    ids.add(allocator.allocate());
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, ids.size());
+        assertEquals(IdAllocator.FIRST_ID + 4000, allocator.getNextId());
+    }
+}
@@ -1,33 +1,44 @@
 package seedu.address.model.commons;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 public class IdTest {
     @Test
     public void constructor_success() {
-        int expectedClient = ID.getNewClientID().getId() + 1;
-        int actualClient = ID.getNewClientID().getId();
-        assertEquals(expectedClient, actualClient);
+        assertEquals(42, new ID(42).getId());
+        assertEquals(42, new ID("42").getId());
+        assertEquals("42", new ID(42).toString());
+    }
+
+    @Test
+    public void isValidId() {
+        assertTrue(ID.isValidId("0"));
+        assertTrue(ID.isValidId("2147483646"));
 
-        String expectedProduct = Integer.toString(ID.getNewProductID().getId() + 1);
-        String actualProduct = ID.getNewProductID().toString();
-        assertEquals(expectedProduct, actualProduct);
+        assertFalse(ID.isValidId(""));
+        assertFalse(ID.isValidId("-1"));
+        assertFalse(ID.isValidId("2147483647")); // no ID can be handed out after it
+        assertFalse(ID.isValidId("2147483648")); // too large to keep
+        assertThrows(IllegalArgumentException.class, () -> new ID("2147483648"));
     }
 
     @Test
     public void equals() {
-        ID idClient = ID.getNewClientID();
-        ID idProduct = ID.getNewProductID();
+        ID id = new ID(1);
 
         // same object -> returns true
-        assertEquals(idClient, idClient);
-        assertEquals(idProduct, idProduct);
+        assertEquals(id, id);
+
+        // same value -> returns true
+        assertEquals(id, new ID("1"));
 
         // different id -> returns false
-        assertNotEquals(idClient, ID.getNewClientID());
-        assertNotEquals(idProduct, ID.getNewProductID());
+        assertNotEquals(id, new ID(2));
     }
 }
@@ -0,0 +1,98 @@
+package seedu.address.model.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordIndexTest {
+    private static final ID FIRST_ID = new ID(1);
+    private static final ID SECOND_ID = new ID(2);
+
+    private final KeywordIndex index = new KeywordIndex();
+
+    @Test
+    public void hasAnyKeyword_wholeWordIgnoringCase_returnsTrue() {
+        index.put(FIRST_ID, new Name("Alice Pauline"));
+
+        assertTrue(index.hasAnyKeyword(FIRST_ID, KeywordIndex.normalize(List.of("aLiCe"))));
+        assertTrue(index.hasAnyKeyword(FIRST_ID, KeywordIndex.normalize(List.of("Bob", "PAULINE"))));
+    }
+
+    @Test
+    public void hasAnyKeyword_partialWordOrOtherId_returnsFalse() {
+        index.put(FIRST_ID, new Name("Alice Pauline"));
+        index.put(SECOND_ID, new Name("Bob"));
+
+        assertFalse(index.hasAnyKeyword(FIRST_ID, KeywordIndex.normalize(List.of("Ali"))));
+        assertFalse(index.hasAnyKeyword(SECOND_ID, KeywordIndex.normalize(List.of("Alice"))));
+        assertFalse(index.hasAnyKeyword(FIRST_ID, KeywordIndex.normalize(List.of())));
+    }
+
+    @Test
+    public void put_renamed_previousNameUnindexed() {
+        index.put(FIRST_ID, new Name("Alice"));
+        index.put(FIRST_ID, new Name("Carl"));
+
+        assertFalse(index.hasAnyKeyword(FIRST_ID, KeywordIndex.normalize(List.of("Alice"))));
+        assertTrue(index.hasAnyKeyword(FIRST_ID, KeywordIndex.normalize(List.of("carl"))));
+    }
+
+    @Test
+    public void remove_sharedWord_otherIdStillIndexed() {
+        index.put(FIRST_ID, new Name("Alice Meier"));
+        index.put(SECOND_ID, new Name("Daniel Meier"));
+
+        index.remove(FIRST_ID);
+        index.remove(FIRST_ID);
+
+        assertFalse(index.hasAnyKeyword(FIRST_ID, KeywordIndex.normalize(List.of("Meier"))));
+        assertTrue(index.hasAnyKeyword(SECOND_ID, KeywordIndex.normalize(List.of("Meier"))));
+    }
+
+    @Test
+    public void findWithinEdits_typos_returnsSmallestDistances() {
+        index.put(FIRST_ID, new Name("John Smith"));
+        index.put(SECOND_ID, new Name("Jon Smyth"));
+
+        // "jonh" is a swap away from "John" and an insertion away from "Jon"
+        assertEquals(Map.of(FIRST_ID, 1, SECOND_ID, 1),
+                index.findWithinEdits(KeywordIndex.normalize(List.of("jonh"))));
+        assertEquals(Map.of(FIRST_ID, 0, SECOND_ID, 1),
+                index.findWithinEdits(KeywordIndex.normalize(List.of("SMITH"))));
+        assertEquals(Map.of(FIRST_ID, 1), index.findWithinEdits(KeywordIndex.normalize(List.of("xyz", "johm"))));
+    }
+
+    @Test
+    public void findWithinEdits_tooManyEdits_notFound() {
+        index.put(FIRST_ID, new Name("Alexander Tan"));
+
+        // short words must match exactly
+        assertEquals(Map.of(), index.findWithinEdits(KeywordIndex.normalize(List.of("ta"))));
+        assertEquals(Map.of(FIRST_ID, 0), index.findWithinEdits(KeywordIndex.normalize(List.of("ta", "tan"))));
+
+        // words of fewer than 8 characters allow one edit, longer ones two
+        assertEquals(Map.of(), index.findWithinEdits(KeywordIndex.normalize(List.of("tnx", "alexandrina"))));
+        assertEquals(Map.of(FIRST_ID, 2), index.findWithinEdits(KeywordIndex.normalize(List.of("alxandar"))));
+    }
+
+    @Test
+    public void findWithinEdits_removedOrRenamed_notFound() {
+        index.put(FIRST_ID, new Name("Alice"));
+        index.put(SECOND_ID, new Name("Alicia"));
+        index.remove(SECOND_ID);
+        index.put(FIRST_ID, new Name("Carl"));
+
+        assertEquals(Map.of(), index.findWithinEdits(KeywordIndex.normalize(List.of("alcie", "alicia"))));
+        assertEquals(Map.of(FIRST_ID, 1), index.findWithinEdits(KeywordIndex.normalize(List.of("karl"))));
+    }
+
+    @Test
+    public void normalize_blankKeywords_leftOut() {
+        assertEquals(List.of("abc"), KeywordIndex.normalize(List.of(" ", " ABC ", "")));
+    }
+}
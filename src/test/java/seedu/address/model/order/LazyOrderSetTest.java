@@ -0,0 +1,113 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProducts.AIRPODS;
+import static seedu.address.testutil.TypicalProducts.IPHONE;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.sales.SalesTotals;
+
+public class LazyOrderSetTest {
+    private final Order oneIphone = new Order(new ID(1), IPHONE.getId(), new Quantity("1"), LocalDate.now());
+    private final Order twoAirpods = new Order(new ID(2), AIRPODS.getId(), new Quantity("2"), LocalDate.now());
+    private final Set<Order> orders = Set.of(oneIphone, twoAirpods);
+
+    private int loadCount;
+
+    @Test
+    public void size_notLoaded_ordersNotRead() {
+        LazyOrderSet set = new LazyOrderSet(2, this::load, new OrderHistoryCache(10));
+
+        assertEquals(2, set.size());
+        assertFalse(set.isEmpty());
+        assertFalse(set.isLoaded());
+        assertEquals(0, loadCount);
+    }
+
+    @Test
+    public void salesTotals_totalsKnown_ordersNotRead() {
+        LazyOrderSet set = new LazyOrderSet(2, SalesTotals.of(3, 0), this::load, new OrderHistoryCache(10));
+
+        assertEquals(SalesTotals.of(orders), SalesTotals.of(set));
+        assertFalse(set.isLoaded());
+        assertEquals(0, loadCount);
+    }
+
+    @Test
+    public void contains_loadedOnce() {
+        LazyOrderSet set = new LazyOrderSet(2, this::load, new OrderHistoryCache(10));
+
+        assertTrue(set.contains(oneIphone));
+        assertTrue(set.contains(twoAirpods));
+        assertEquals(orders, set);
+        assertTrue(set.isLoaded());
+        assertEquals(1, loadCount);
+    }
+
+    @Test
+    public void recordAccess_cacheFull_leastRecentlyUsedUnloaded() {
+        OrderHistoryCache cache = new OrderHistoryCache(3);
+        LazyOrderSet first = new LazyOrderSet(2, this::load, cache);
+        LazyOrderSet second = new LazyOrderSet(2, this::load, cache);
+
+        first.contains(oneIphone);
+        second.contains(oneIphone);
+
+        assertFalse(first.isLoaded());
+        assertTrue(second.isLoaded());
+        assertEquals(2, cache.getLoadedOrderCount());
+
+        // read again when needed
+        assertEquals(orders, first);
+        assertEquals(3, loadCount);
+        assertFalse(second.isLoaded());
+    }
+
+    @Test
+    public void recordAccess_setLargerThanCache_stillLoaded() {
+        OrderHistoryCache cache = new OrderHistoryCache(1);
+        LazyOrderSet set = new LazyOrderSet(2, this::load, cache);
+
+        set.contains(oneIphone);
+
+        assertTrue(set.isLoaded());
+        assertEquals(2, cache.getLoadedOrderCount());
+    }
+
+    @Test
+    public void iterator_wrongNumberOfOrdersRead_throwsIllegalStateException() {
+        LazyOrderSet set = new LazyOrderSet(3, this::load, new OrderHistoryCache(10));
+
+        assertThrows(IllegalStateException.class, String.format(LazyOrderSet.MESSAGE_WRONG_SIZE, 3, 2),
+                set::iterator);
+    }
+
+    @Test
+    public void iterator_wrongTotalsRead_throwsIllegalStateException() {
+        LazyOrderSet set = new LazyOrderSet(2, SalesTotals.of(4, 0), this::load, new OrderHistoryCache(10));
+
+        assertThrows(IllegalStateException.class, String.format(LazyOrderSet.MESSAGE_WRONG_TOTALS,
+                SalesTotals.of(4, 0), SalesTotals.of(orders)), set::iterator);
+    }
+
+    @Test
+    public void remove_throwsUnsupportedOperationException() {
+        LazyOrderSet set = new LazyOrderSet(2, this::load, new OrderHistoryCache(10));
+
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(oneIphone));
+    }
+
+    private Set<Order> load() {
+        loadCount++;
+        return orders;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProducts.AIRPODS;
+import static seedu.address.testutil.TypicalProducts.IPHONE;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.product.Quantity;
+
+public class OrderHistoryTest {
+    private static final LocalDate JANUARY = LocalDate.of(2021, 1, 15);
+    private static final LocalDate FEBRUARY = LocalDate.of(2021, 2, 15);
+    private static final LocalDate MARCH = LocalDate.of(2021, 3, 15);
+
+    private final Order januaryIphone = new Order(IPHONE.getId(), new Quantity("1"), JANUARY);
+    private final Order februaryIphone = new Order(IPHONE.getId(), new Quantity("1"), FEBRUARY);
+    private final Order februaryAirpods = new Order(AIRPODS.getId(), new Quantity("2"), FEBRUARY);
+    private final Order marchIphone = new Order(IPHONE.getId(), new Quantity("3"), MARCH);
+
+    @Test
+    public void with_ordersWithoutIds_givenNextIds() {
+        OrderHistory history = new OrderHistory().with(februaryIphone).with(januaryIphone);
+
+        assertEquals(List.of(januaryIphone.withId(new ID(2)), februaryIphone.withId(new ID(1))),
+                List.copyOf(history));
+    }
+
+    @Test
+    public void with_orderWithId_idKeptAndNotGivenAgain() {
+        OrderHistory history = new OrderHistory().with(januaryIphone.withId(new ID(5))).with(februaryIphone);
+
+        assertTrue(history.contains(januaryIphone.withId(new ID(5))));
+        assertTrue(history.contains(februaryIphone.withId(new ID(6))));
+        assertEquals(history, history.with(januaryIphone.withId(new ID(5))));
+        assertEquals(2, history.size());
+    }
+
+    @Test
+    public void with_originalUnchanged() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone));
+        OrderHistory changed = history.with(februaryIphone);
+
+        assertEquals(1, history.size());
+        assertEquals(2, changed.size());
+    }
+
+    @Test
+    public void identify_orderWithoutId_givenIdThatWithGives() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone));
+
+        Order identified = history.identify(februaryIphone);
+        assertEquals(februaryIphone.withId(new ID(2)), identified);
+        assertTrue(history.with(februaryIphone).contains(identified));
+        assertEquals(januaryIphone.withId(new ID(7)), history.identify(januaryIphone.withId(new ID(7))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone));
+
+        assertThrows(UnsupportedOperationException.class, () -> history.add(februaryIphone));
+        assertThrows(UnsupportedOperationException.class, () -> history.remove(januaryIphone.withId(new ID(1))));
+        assertThrows(UnsupportedOperationException.class, () -> history.iterator().remove());
+    }
+
+    @Test
+    public void constructor_mixedOrders_newOrdersNumberedAfterExistingInTimeOrder() {
+        OrderHistory history = new OrderHistory(List.of(marchIphone, januaryIphone, februaryIphone.withId(new ID(3))));
+
+        assertEquals(Set.of(februaryIphone.withId(new ID(3)), januaryIphone.withId(new ID(4)),
+                marchIphone.withId(new ID(5))), history);
+    }
+
+    @Test
+    public void constructor_copyOfHistory_sameOrdersAndNextId() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone, februaryIphone));
+        OrderHistory copy = new OrderHistory(history).with(marchIphone);
+
+        assertEquals(2, history.size());
+        assertTrue(copy.containsAll(history));
+        assertTrue(copy.contains(marchIphone.withId(new ID(3))));
+    }
+
+    @Test
+    public void without_orderInHistory_removed() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone));
+
+        assertEquals(history, history.without(januaryIphone));
+        assertTrue(history.without(januaryIphone.withId(new ID(1))).isEmpty());
+        assertEquals(1, history.size());
+    }
+
+    @Test
+    public void withChanges_removedThenAdded() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone, februaryAirpods));
+
+        OrderHistory changed = history.withChanges(order -> order.getProductId().equals(IPHONE.getId()),
+                List.of(marchIphone));
+        assertEquals(Set.of(februaryAirpods.withId(new ID(2)), marchIphone.withId(new ID(3))), changed);
+    }
+
+    @Test
+    public void getLatest_latestFirst() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone, februaryIphone, februaryAirpods, marchIphone));
+
+        List<Order> latest = history.getLatest(3);
+        assertEquals(List.of(MARCH, FEBRUARY, FEBRUARY),
+                List.of(latest.get(0).getTime(), latest.get(1).getTime(), latest.get(2).getTime()));
+        assertEquals(4, history.getLatest(10).size());
+        assertTrue(history.getLatest(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> history.getLatest(-1));
+    }
+
+    @Test
+    public void getBetween_inclusiveOfBothDays() {
+        OrderHistory history = new OrderHistory(List.of(januaryIphone, februaryIphone, februaryAirpods, marchIphone));
+
+        assertEquals(2, history.getBetween(FEBRUARY, FEBRUARY).size());
+        assertEquals(3, history.getBetween(JANUARY, FEBRUARY).size());
+        assertEquals(4, history.getBetween(LocalDate.MIN, LocalDate.MAX).size());
+        assertTrue(history.getBetween(MARCH.plusDays(1), LocalDate.MAX).isEmpty());
+        assertTrue(history.getBetween(MARCH, JANUARY).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> history.getBetween(JANUARY, MARCH).clear());
+    }
+}
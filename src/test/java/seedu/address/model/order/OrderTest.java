@@ -2,21 +2,25 @@ package seedu.address.model.order;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalProducts.AIRPODS;
 import static seedu.address.testutil.TypicalProducts.IPHONE;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.commons.ID;
 import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
 
 public class OrderTest {
     private final LocalDate now = LocalDate.now();
-    private final Order oneIphone = new Order(IPHONE.getName(), new Quantity("1"), now);
-    private final Order oneIphoneCopy = new Order(IPHONE.getName(), new Quantity("1"), now);
-    private final Order oneIphoneDuplicate = new Order(IPHONE.getName(), new Quantity("3"), now);
-    private final Order twoAirpods = new Order(AIRPODS.getName(), new Quantity("2"), LocalDate.MAX);
+    private final Order oneIphone = new Order(IPHONE.getId(), new Quantity("1"), now);
+    private final Order oneIphoneCopy = new Order(IPHONE.getId(), new Quantity("1"), now);
+    private final Order threeIphones = new Order(IPHONE.getId(), new Quantity("3"), now);
+    private final Order twoAirpods = new Order(AIRPODS.getId(), new Quantity("2"), LocalDate.MAX);
 
     @Test
     public void equals() {
@@ -29,10 +33,39 @@ public class OrderTest {
         // different objects with the same values
         assertEquals(oneIphone, oneIphoneCopy);
 
-        // different objects with the same id
-        assertEquals(oneIphone, oneIphoneDuplicate);
+        // repeat order of the same product -> returns false
+        assertNotEquals(oneIphone, threeIphones);
+        assertNotEquals(oneIphone, new Order(IPHONE.getId(), new Quantity("1"), now.minusDays(1)));
+
+        // different order IDs -> returns false
+        assertNotEquals(oneIphone.withId(new ID(1)), oneIphone.withId(new ID(2)));
+        assertNotEquals(oneIphone, oneIphone.withId(new ID(1)));
+        assertEquals(oneIphone.withId(new ID(1)), oneIphoneCopy.withId(new ID(1)));
+
+        // different unit prices -> returns false
+        assertNotEquals(oneIphone, new Order(null, IPHONE.getId(), new Quantity("1"), now, new UnitPrice("1")));
 
         // two different orders
         assertNotEquals(oneIphone, twoAirpods);
     }
+
+    @Test
+    public void getRevenueCents() {
+        assertEquals(0, threeIphones.getRevenueCents());
+        assertEquals(450, new Order(null, IPHONE.getId(), new Quantity("3"), now, new UnitPrice("1.50"))
+                .getRevenueCents());
+
+        // the unit price is kept with a new ID
+        Order pricedOrder = new Order(null, IPHONE.getId(), new Quantity("1"), now, new UnitPrice("2"));
+        assertEquals(pricedOrder.getUnitPrice(), pricedOrder.withId(new ID(1)).getUnitPrice());
+    }
+
+    @Test
+    public void chronologicalOrder_byTimeThenId() {
+        Comparator<Order> order = Order.CHRONOLOGICAL_ORDER;
+        assertTrue(order.compare(oneIphone.withId(new ID(9)), twoAirpods.withId(new ID(1))) < 0);
+        assertTrue(order.compare(threeIphones.withId(new ID(1)), oneIphone.withId(new ID(2))) < 0);
+        assertTrue(order.compare(oneIphone, oneIphone.withId(new ID(1))) < 0);
+        assertEquals(0, order.compare(oneIphone, oneIphoneCopy));
+    }
 }
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalProducts.IPAD;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.testutil.ProductBuilder;
 
@@ -78,16 +79,16 @@ public class ProductTest {
     @Test
     public void hasEnoughStock_notEnough_returnsFalse() {
         // quantity of the product is null
-        Product product = new Product(new Name("productX"), new UnitPrice("1"), null);
+        Product product = new Product(new ID(1), new Name("productX"), new UnitPrice("1"), null);
         assertFalse(product.hasEnoughStock(new Quantity("1")));
         // stock is not enough
-        Product productWithStock = new Product(new Name("productY"), new UnitPrice("1"), new Quantity("1"));
+        Product productWithStock = new Product(new ID(2), new Name("productY"), new UnitPrice("1"), new Quantity("1"));
         assertFalse(productWithStock.hasEnoughStock(new Quantity("100")));
     }
 
     @Test
     public void hasEnoughStock_enough_returnsTrue() {
-        Product product = new Product(new Name("productZ"), new UnitPrice("1"), new Quantity("100"));
+        Product product = new Product(new ID(3), new Name("productZ"), new UnitPrice("1"), new Quantity("100"));
         assertTrue(product.hasEnoughStock(new Quantity("1")));
         assertTrue(product.hasEnoughStock(new Quantity("100")));
     }
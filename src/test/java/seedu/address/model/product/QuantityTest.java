@@ -32,12 +32,14 @@ public class QuantityTest {
         assertFalse(Quantity.isValidQuantity("9312 1534")); // spaces within digits
         assertFalse(Quantity.isValidQuantity("-100")); // negative number
         assertFalse(Quantity.isValidQuantity("23.89")); // decimals
+        assertFalse(Quantity.isValidQuantity("9223372036854775808")); // too large to count
 
         // valid quantity
         assertTrue(Quantity.isValidQuantity("91"));
         assertTrue(Quantity.isValidQuantity("911"));
         assertTrue(Quantity.isValidQuantity("93121534"));
         assertTrue(Quantity.isValidQuantity("124293842033123"));
+        assertTrue(Quantity.isValidQuantity("9223372036854775807")); // largest quantity
     }
 
     @Test
@@ -50,5 +52,30 @@ public class QuantityTest {
         assertTrue(quantity.compareTo(new Quantity("1")) > 0);
         assertTrue(quantity.compareTo(new Quantity("10")) == 0);
         assertTrue(quantity.compareTo(new Quantity("20")) < 0);
+        assertTrue(quantity.compareTo(new Quantity("9")) > 0); // compared as numbers, not text
+    }
+
+    @Test
+    public void equals() {
+        Quantity quantity = new Quantity("10");
+
+        assertTrue(quantity.equals(new Quantity(10)));
+        assertTrue(quantity.equals(new Quantity("010"))); // leading zeros are not kept
+        assertFalse(quantity.equals(new Quantity(11)));
+        assertFalse(quantity.equals(null));
+        assertEquals("10", new Quantity("010").toString());
+    }
+
+    @Test
+    public void arithmetic() {
+        Quantity quantity = new Quantity(10);
+
+        assertEquals(new Quantity(13), quantity.add(new Quantity(3)));
+        assertEquals(new Quantity(7), quantity.subtract(new Quantity(3)));
+        assertEquals(25, quantity.multiply(2) + new Quantity(5).multiply(1));
+        assertThrows(IllegalArgumentException.class, () -> quantity.subtract(new Quantity(11)));
+        assertThrows(IllegalArgumentException.class, () -> new Quantity(-1));
+        assertThrows(ArithmeticException.class, () -> new Quantity(Long.MAX_VALUE).add(new Quantity(1)));
+        assertThrows(ArithmeticException.class, () -> new Quantity(Long.MAX_VALUE).multiply(2));
     }
 }
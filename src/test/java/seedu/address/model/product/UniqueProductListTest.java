@@ -6,15 +6,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_QUANTITY_CANNON;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_UNIT_PRICE_CANNON;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProducts.AIRPODS;
 import static seedu.address.testutil.TypicalProducts.IPAD;
 import static seedu.address.testutil.TypicalProducts.IPHONE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.product.exceptions.DuplicateProductException;
 import seedu.address.model.product.exceptions.ProductNotFoundException;
 import seedu.address.testutil.ProductBuilder;
@@ -125,6 +129,30 @@ public class UniqueProductListTest {
         assertEquals(expectedUniqueProductList, uniqueProductList);
     }
 
+    @Test
+    public void remove_earlierProduct_laterProductsStillFound() {
+        uniqueProductList.add(IPHONE);
+        uniqueProductList.add(IPAD);
+        uniqueProductList.add(AIRPODS);
+        uniqueProductList.remove(IPHONE);
+
+        Product editedAirpods = new ProductBuilder(AIRPODS).withQuantity(VALID_QUANTITY_CANNON).build();
+        uniqueProductList.setProduct(AIRPODS, editedAirpods);
+        uniqueProductList.remove(IPAD);
+
+        UniqueProductList expectedUniqueProductList = new UniqueProductList();
+        expectedUniqueProductList.add(editedAirpods);
+        assertEquals(expectedUniqueProductList, uniqueProductList);
+        assertEquals(Optional.of(editedAirpods), uniqueProductList.find(AIRPODS.getId()));
+    }
+
+    @Test
+    public void find_productInList_returnsProduct() {
+        uniqueProductList.add(IPHONE);
+        assertEquals(Optional.of(IPHONE), uniqueProductList.find(IPHONE.getId()));
+        assertEquals(Optional.empty(), uniqueProductList.find(IPAD.getId()));
+    }
+
     @Test
     public void setProducts_nullUniqueProductList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueProductList.setProducts((UniqueProductList) null));
@@ -160,6 +188,52 @@ public class UniqueProductListTest {
         assertThrows(DuplicateProductException.class, () -> uniqueProductList.setProducts(listWithDuplicateProducts));
     }
 
+    @Test
+    public void setProducts_listWithDuplicateProducts_listUnchanged() {
+        uniqueProductList.add(IPHONE);
+        List<Product> listWithDuplicateProducts = Arrays.asList(IPAD, AIRPODS, IPAD);
+        assertThrows(DuplicateProductException.class, () -> uniqueProductList.setProducts(listWithDuplicateProducts));
+        assertEquals(Collections.singletonList(IPHONE), uniqueProductList.asUnmodifiableObservableList());
+        assertTrue(uniqueProductList.find(IPHONE.getId()).isPresent());
+        assertFalse(uniqueProductList.find(IPAD.getId()).isPresent());
+    }
+
+    @Test
+    public void setProducts_list_notifiesListenersOnce() {
+        uniqueProductList.add(IPHONE);
+        List<ListChangeListener.Change<? extends Product>> changes = new ArrayList<>();
+        uniqueProductList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniqueProductList.setProducts(Arrays.asList(IPAD, AIRPODS));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void hasProductWithSameName_afterEachModification_upToDate() {
+        Product otherIphone = new ProductBuilder().withName(IPHONE.getName().toString()).build();
+        assertFalse(uniqueProductList.hasProductWithSameName(otherIphone));
+
+        uniqueProductList.add(IPHONE);
+        assertTrue(uniqueProductList.hasProductWithSameName(otherIphone));
+
+        Product renamedIphone = new ProductBuilder(IPHONE).withName("iPhone 14").build();
+        uniqueProductList.setProduct(IPHONE, renamedIphone);
+        assertFalse(uniqueProductList.hasProductWithSameName(otherIphone));
+        assertTrue(uniqueProductList.hasProductWithSameName(renamedIphone));
+
+        uniqueProductList.remove(renamedIphone);
+        assertFalse(uniqueProductList.hasProductWithSameName(renamedIphone));
+
+        uniqueProductList.setProducts(List.of(IPHONE, AIRPODS));
+        assertTrue(uniqueProductList.hasProductWithSameName(otherIphone));
+
+        UniqueProductList replacement = new UniqueProductList();
+        replacement.add(IPAD);
+        uniqueProductList.setProducts(replacement);
+        assertFalse(uniqueProductList.hasProductWithSameName(otherIphone));
+        assertTrue(uniqueProductList.hasProductWithSameName(IPAD));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,5 +1,6 @@
 package seedu.address.model.product;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -33,6 +34,7 @@ public class UnitPriceTest {
         assertFalse(UnitPrice.isValidUnitPrice("1.2")); // with 1 decimal place
         assertFalse(UnitPrice.isValidUnitPrice("1.255")); // with 3 decimal places
         assertFalse(UnitPrice.isValidUnitPrice("-100")); // negative number
+        assertFalse(UnitPrice.isValidUnitPrice("92233720368547758.08")); // too many cents to count
 
         // valid unit price
         assertTrue(UnitPrice.isValidUnitPrice("91"));
@@ -40,5 +42,42 @@ public class UnitPriceTest {
         assertTrue(UnitPrice.isValidUnitPrice("93121534"));
         assertTrue(UnitPrice.isValidUnitPrice("124293842033123"));
         assertTrue(UnitPrice.isValidUnitPrice("1.20")); // with 2 decimal places
+        assertTrue(UnitPrice.isValidUnitPrice("92233720368547758.07")); // largest price
+    }
+
+    @Test
+    public void constructor_validUnitPrice_keptInCents() {
+        assertEquals(120, new UnitPrice("1.20").cents);
+        assertEquals(1200, new UnitPrice("12").cents);
+        assertEquals(new UnitPrice("12"), new UnitPrice("12.00"));
+        assertEquals(new UnitPrice(1250), new UnitPrice("12.50"));
+    }
+
+    @Test
+    public void toString_shownAsGiven() {
+        assertEquals("12", new UnitPrice("12").toString());
+        assertEquals("12.00", new UnitPrice("12.00").toString());
+        assertEquals("7.50", new UnitPrice("007.50").toString());
+        assertEquals("12", new UnitPrice(1200).toString());
+        assertEquals("0.05", new UnitPrice(5).toString());
+    }
+
+    @Test
+    public void arithmetic() {
+        UnitPrice unitPrice = new UnitPrice("1.99");
+
+        assertEquals(597, unitPrice.multiply(new Quantity(3)));
+        assertEquals(new UnitPrice("3.00"), unitPrice.add(new UnitPrice("1.01")));
+        assertTrue(unitPrice.compareTo(new UnitPrice("2")) < 0);
+        assertTrue(unitPrice.compareTo(new UnitPrice("1.99")) == 0);
+        assertThrows(ArithmeticException.class, () -> new UnitPrice(Long.MAX_VALUE).multiply(new Quantity(2)));
+        assertThrows(IllegalArgumentException.class, () -> new UnitPrice(-1));
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.00", UnitPrice.formatCents(0));
+        assertEquals("1234.56", UnitPrice.formatCents(123456));
+        assertEquals("-0.05", UnitPrice.formatCents(-5));
     }
 }
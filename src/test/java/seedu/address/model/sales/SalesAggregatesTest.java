@@ -0,0 +1,123 @@
+package seedu.address.model.sales;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProducts.AIRPODS;
+import static seedu.address.testutil.TypicalProducts.CANNON;
+import static seedu.address.testutil.TypicalProducts.IPHONE;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
+
+public class SalesAggregatesTest {
+    private static final LocalDate TIME = LocalDate.of(2021, 10, 20);
+    private static final ID ALICE_ID = new ID(1);
+    private static final ID BOB_ID = new ID(2);
+
+    private final SalesAggregates sales = new SalesAggregates();
+
+    @Test
+    public void addOrder_ordersOfSameProduct_summed() {
+        sales.addOrder(ALICE_ID, orderOf(IPHONE, "2", "1.50"));
+        sales.addOrder(BOB_ID, orderOf(IPHONE, "3", "1.50"));
+
+        assertEquals(Optional.of(new ProductSales(IPHONE.getId(), 2, 5, 750)), sales.getSales(IPHONE.getId()));
+        assertEquals(Optional.of(new ClientSales(BOB_ID, 1, 450)), sales.getClientSales(BOB_ID));
+        assertEquals(750, sales.getRevenueCents());
+        assertTrue(sales.getSales(AIRPODS.getId()).isEmpty());
+        assertFalse(sales.isEmpty());
+    }
+
+    @Test
+    public void addOrder_noUnitPrice_noRevenue() {
+        sales.addOrder(ALICE_ID, orderOf(IPHONE, "2", null));
+        assertEquals(0, sales.getSales(IPHONE.getId()).get().getRevenueCents());
+        assertEquals(Optional.of(new ClientSales(ALICE_ID, 1, 0)), sales.getClientSales(ALICE_ID));
+    }
+
+    @Test
+    public void addOrder_revenueOverflows_salesUnchanged() {
+        sales.addOrder(ALICE_ID, orderOf(IPHONE, "1", "1"));
+        Order hugeOrder = new Order(null, AIRPODS.getId(), new Quantity(Long.MAX_VALUE), TIME, new UnitPrice("1"));
+
+        assertThrows(ArithmeticException.class, () -> sales.addOrder(ALICE_ID, hugeOrder));
+        assertEquals(100, sales.getRevenueCents());
+        assertEquals(Optional.of(new ClientSales(ALICE_ID, 1, 100)), sales.getClientSales(ALICE_ID));
+        assertTrue(sales.getSales(AIRPODS.getId()).isEmpty());
+    }
+
+    @Test
+    public void removeOrder_lastOrderOfProduct_productRemoved() {
+        Order order = orderOf(IPHONE, "2", "1");
+        sales.addOrder(ALICE_ID, order);
+        sales.addOrder(ALICE_ID, order);
+
+        sales.removeOrder(ALICE_ID, order);
+        assertEquals(Optional.of(new ProductSales(IPHONE.getId(), 1, 2, 200)), sales.getSales(IPHONE.getId()));
+        assertEquals(Optional.of(new ClientSales(ALICE_ID, 1, 200)), sales.getClientSales(ALICE_ID));
+
+        sales.removeOrder(ALICE_ID, order);
+        assertTrue(sales.isEmpty());
+        assertEquals(0, sales.getRevenueCents());
+        assertTrue(sales.getClientSales(ALICE_ID).isEmpty());
+        assertEquals(List.of(), sales.getBestSelling(5));
+        assertEquals(List.of(), sales.getHighestRevenueClients(5));
+    }
+
+    @Test
+    public void removeOrder_orderNotCounted_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> sales.removeOrder(ALICE_ID, orderOf(IPHONE, "1", null)));
+
+        sales.addOrder(ALICE_ID, orderOf(IPHONE, "1", null));
+        assertThrows(IllegalArgumentException.class, () -> sales.removeOrder(BOB_ID, orderOf(IPHONE, "1", null)));
+    }
+
+    @Test
+    public void getBestSelling_mostUnitsFirst() {
+        sales.addOrder(ALICE_ID, orderOf(IPHONE, "1", null));
+        sales.addOrder(ALICE_ID, orderOf(AIRPODS, "3", null));
+        sales.addOrder(ALICE_ID, orderOf(CANNON, "2", null));
+
+        assertEquals(List.of(AIRPODS.getId(), CANNON.getId()),
+                sales.getBestSelling(2).stream().map(ProductSales::getProductId).collect(Collectors.toList()));
+
+        // the order changes as units are added
+        sales.addOrder(ALICE_ID, orderOf(IPHONE, "5", null));
+        assertEquals(IPHONE.getId(), sales.getBestSelling(1).get(0).getProductId());
+        assertEquals(3, sales.getBestSelling(10).size());
+        assertThrows(IllegalArgumentException.class, () -> sales.getBestSelling(-1));
+    }
+
+    @Test
+    public void getHighestRevenue_highestRevenueFirst() {
+        sales.addOrder(ALICE_ID, orderOf(IPHONE, "1", "1000"));
+        sales.addOrder(BOB_ID, orderOf(AIRPODS, "3", "0.10"));
+        sales.addOrder(BOB_ID, orderOf(CANNON, "2", "300"));
+
+        // the most units sold are not the most revenue
+        assertEquals(List.of(IPHONE.getId(), CANNON.getId(), AIRPODS.getId()),
+                sales.getHighestRevenue(3).stream().map(ProductSales::getProductId).collect(Collectors.toList()));
+        assertEquals(List.of(new ClientSales(ALICE_ID, 1, 100000)), sales.getHighestRevenueClients(1));
+
+        sales.addOrder(BOB_ID, orderOf(AIRPODS, "1", "400"));
+        assertEquals(BOB_ID, sales.getHighestRevenueClients(1).get(0).getClientId());
+        assertEquals(200030, sales.getRevenueCents());
+    }
+
+    private static Order orderOf(Product product, String quantity, String unitPrice) {
+        return new Order(null, product.getId(), new Quantity(quantity), TIME,
+                unitPrice == null ? null : new UnitPrice(unitPrice));
+    }
+}
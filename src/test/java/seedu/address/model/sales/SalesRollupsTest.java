@@ -0,0 +1,142 @@
+package seedu.address.model.sales;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProducts.AIRPODS;
+import static seedu.address.testutil.TypicalProducts.IPHONE;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.commons.ID;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
+
+public class SalesRollupsTest {
+    private static final ID CLIENT_ID = new ID(0);
+    private static final ID OTHER_CLIENT_ID = new ID(1);
+    private static final LocalDate JAN_1 = LocalDate.of(2021, 1, 1);
+    private static final LocalDate JAN_31 = LocalDate.of(2021, 1, 31);
+    private static final LocalDate FEB_1 = LocalDate.of(2021, 2, 1);
+    private static final LocalDate FEB_2 = LocalDate.of(2021, 2, 2);
+    private static final LocalDate MAR_15 = LocalDate.of(2021, 3, 15);
+
+    private final SalesRollups rollups = new SalesRollups();
+
+    @Test
+    public void getSalesByPeriod_wholePeriods_fromRollups() {
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("1"), JAN_1));
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("2"), JAN_31));
+        rollups.addOrder(CLIENT_ID, new Order(AIRPODS.getId(), new Quantity("3"), FEB_1));
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("4"), MAR_15));
+
+        Map<LocalDate, Map<ID, Long>> expected = Map.of(
+                JAN_1, Map.of(IPHONE.getId(), 3L),
+                FEB_1, Map.of(AIRPODS.getId(), 3L),
+                LocalDate.of(2021, 3, 1), Map.of(IPHONE.getId(), 4L));
+        assertEquals(expected, unitsOf(rollups.getSalesByPeriod(JAN_1, LocalDate.of(2021, 3, 31), SalesPeriod.MONTH)));
+
+        assertEquals(Map.of(JAN_1, Map.of(IPHONE.getId(), 7L, AIRPODS.getId(), 3L)),
+                unitsOf(rollups.getSalesByPeriod(JAN_1, LocalDate.of(2021, 12, 31), SalesPeriod.YEAR)));
+    }
+
+    @Test
+    public void getSalesByPeriod_rangeCutsPeriods_onlyDaysInRangeCounted() {
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("1"), JAN_1));
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("2"), JAN_31));
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("4"), MAR_15));
+
+        // the first month is cut by the start of the range and the last by its end
+        assertEquals(Map.of(JAN_1, Map.of(IPHONE.getId(), 2L)),
+                unitsOf(rollups.getSalesByPeriod(LocalDate.of(2021, 1, 2), MAR_15.minusDays(1), SalesPeriod.MONTH)));
+        assertEquals(Map.of(IPHONE.getId(), new ProductSales(IPHONE.getId(), 2, 6, 0)),
+                rollups.getSalesBetween(JAN_31, MAR_15));
+        assertTrue(rollups.getSalesBetween(FEB_1, MAR_15.minusDays(1)).isEmpty());
+        assertTrue(rollups.getSalesBetween(MAR_15, JAN_1).isEmpty());
+    }
+
+    @Test
+    public void getSalesByPeriod_weeks_startOnMonday() {
+        // 2021/01/01 is a Friday
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("1"), JAN_1));
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("2"), LocalDate.of(2021, 1, 4)));
+
+        assertEquals(Map.of(LocalDate.of(2020, 12, 28), Map.of(IPHONE.getId(), 1L),
+                        LocalDate.of(2021, 1, 4), Map.of(IPHONE.getId(), 2L)),
+                unitsOf(rollups.getSalesByPeriod(JAN_1, JAN_31, SalesPeriod.WEEK)));
+    }
+
+    @Test
+    public void removeOrder_allOrdersRemoved_empty() {
+        Order order = new Order(IPHONE.getId(), new Quantity("2"), JAN_1);
+        rollups.addOrder(CLIENT_ID, order);
+        rollups.addOrder(CLIENT_ID, order);
+
+        rollups.removeOrder(CLIENT_ID, order);
+        assertEquals(Map.of(IPHONE.getId(), new ProductSales(IPHONE.getId(), 1, 2, 0)),
+                rollups.getSalesBetween(JAN_1, JAN_1));
+
+        rollups.removeOrder(CLIENT_ID, order);
+        assertTrue(rollups.isEmpty());
+        assertTrue(rollups.getClientSalesBetween(JAN_1, JAN_1).isEmpty());
+        assertEquals(Optional.empty(), rollups.getFirstDay());
+        assertTrue(rollups.getSalesByPeriod(JAN_1, JAN_31, SalesPeriod.DAY).isEmpty());
+    }
+
+    @Test
+    public void removeOrder_orderNotCounted_throwsIllegalArgumentException() {
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("1"), JAN_1));
+        assertThrows(IllegalArgumentException.class, () ->
+                rollups.removeOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("2"), JAN_1)));
+    }
+
+    @Test
+    public void getSalesByPeriod_pricedOrders_revenueByPeriod() {
+        rollups.addOrder(CLIENT_ID, new Order(null, IPHONE.getId(), new Quantity("2"), JAN_1, new UnitPrice("1.25")));
+        rollups.addOrder(CLIENT_ID, new Order(null, IPHONE.getId(), new Quantity("1"), JAN_31, new UnitPrice("2")));
+        rollups.addOrder(CLIENT_ID, new Order(null, AIRPODS.getId(), new Quantity("3"), FEB_1, new UnitPrice("0.10")));
+
+        assertEquals(Map.of(JAN_1, Map.of(IPHONE.getId(), new ProductSales(IPHONE.getId(), 2, 3, 450)),
+                        FEB_1, Map.of(AIRPODS.getId(), new ProductSales(AIRPODS.getId(), 1, 3, 30))),
+                rollups.getSalesByPeriod(JAN_1, MAR_15, SalesPeriod.MONTH));
+        assertEquals(200, rollups.getSalesBetween(JAN_31, JAN_31).get(IPHONE.getId()).getRevenueCents());
+    }
+
+    @Test
+    public void getClientSalesBetween_ordersOfTwoClients_salesOfEachClientInRange() {
+        rollups.addOrder(CLIENT_ID, new Order(null, IPHONE.getId(), new Quantity("2"), JAN_1, new UnitPrice("1.25")));
+        rollups.addOrder(CLIENT_ID, new Order(null, AIRPODS.getId(), new Quantity("1"), FEB_1, new UnitPrice("2")));
+        rollups.addOrder(OTHER_CLIENT_ID, new Order(IPHONE.getId(), new Quantity("3"), JAN_31));
+        rollups.addOrder(OTHER_CLIENT_ID, new Order(IPHONE.getId(), new Quantity("1"), MAR_15));
+
+        // the range cuts February, so its days are added up
+        assertEquals(Map.of(CLIENT_ID, new ClientSales(CLIENT_ID, 2, 450),
+                        OTHER_CLIENT_ID, new ClientSales(OTHER_CLIENT_ID, 1, 0)),
+                rollups.getClientSalesBetween(JAN_1, FEB_1));
+        assertEquals(Map.of(OTHER_CLIENT_ID, new ClientSales(OTHER_CLIENT_ID, 1, 0)),
+                rollups.getClientSalesBetween(FEB_2, MAR_15));
+    }
+
+    @Test
+    public void getFirstDayAndLastDay() {
+        rollups.addOrder(CLIENT_ID, new Order(IPHONE.getId(), new Quantity("1"), MAR_15));
+        rollups.addOrder(CLIENT_ID, new Order(AIRPODS.getId(), new Quantity("1"), JAN_31));
+
+        assertEquals(Optional.of(JAN_31), rollups.getFirstDay());
+        assertEquals(Optional.of(MAR_15), rollups.getLastDay());
+    }
+
+    private static Map<LocalDate, Map<ID, Long>> unitsOf(Map<LocalDate, Map<ID, ProductSales>> salesByPeriod) {
+        Map<LocalDate, Map<ID, Long>> unitsByPeriod = new HashMap<>();
+        salesByPeriod.forEach((start, sales) -> unitsByPeriod.put(start, sales.values().stream()
+                .collect(Collectors.toMap(ProductSales::getProductId, ProductSales::getUnits))));
+        return unitsByPeriod;
+    }
+}
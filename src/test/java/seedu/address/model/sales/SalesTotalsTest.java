@@ -0,0 +1,47 @@
+package seedu.address.model.sales;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProducts.AIRPODS;
+import static seedu.address.testutil.TypicalProducts.IPHONE;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
+import seedu.address.model.sales.exceptions.SalesOverflowException;
+
+public class SalesTotalsTest {
+    private static final LocalDate TIME = LocalDate.of(2021, 10, 20);
+
+    private final Order twoIphones = new Order(null, IPHONE.getId(), new Quantity("2"), TIME, new UnitPrice("1.50"));
+    private final Order threeAirpods = new Order(AIRPODS.getId(), new Quantity("3"), TIME);
+
+    @Test
+    public void of_ordersWithAndWithoutPrices_summed() {
+        SalesTotals totals = SalesTotals.of(List.of(twoIphones, threeAirpods));
+
+        assertEquals(5, totals.getUnits());
+        assertEquals(300, totals.getRevenueCents());
+        assertEquals(SalesTotals.of(List.of(threeAirpods)), totals.minus(List.of(twoIphones)));
+    }
+
+    @Test
+    public void plus_unitsOrRevenueOverflow_throwsSalesOverflowException() {
+        Order maxUnits = new Order(AIRPODS.getId(), new Quantity(Long.MAX_VALUE), TIME);
+        Order hugeRevenue = new Order(null, AIRPODS.getId(), new Quantity(Long.MAX_VALUE), TIME, new UnitPrice("1"));
+
+        assertThrows(SalesOverflowException.class, () -> SalesTotals.of(List.of(twoIphones, maxUnits)));
+        assertThrows(SalesOverflowException.class, () -> SalesTotals.NONE.plus(List.of(hugeRevenue)));
+        assertEquals(Long.MAX_VALUE, SalesTotals.of(List.of(maxUnits)).getUnits());
+    }
+
+    @Test
+    public void minus_ordersNotCounted_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> SalesTotals.NONE.minus(List.of(twoIphones)));
+    }
+}
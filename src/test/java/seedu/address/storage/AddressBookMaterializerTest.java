@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
+
+public class AddressBookMaterializerTest {
+    private static final int MANY = AddressBookMaterializer.BATCH_SIZE * 5 + 3;
+
+    @Test
+    public void materialize_manyClientsAndProducts_keepsFileOrder() throws Exception {
+        AddressBook addressBook = AddressBookMaterializer.materialize(createClients(MANY), createProducts(MANY));
+
+        List<Client> clients = addressBook.getClientList();
+        List<Product> products = addressBook.getProductList();
+        assertEquals(MANY, clients.size());
+        assertEquals(MANY, products.size());
+        for (int i = 0; i < MANY; i++) {
+            assertEquals("Client " + toLetters(i), clients.get(i).getName().fullName);
+            assertEquals("Product " + toLetters(i), products.get(i).getName().fullName);
+        }
+
+        // IDs are assigned in file order
+        for (int i = 1; i < MANY; i++) {
+            assertTrue(clients.get(i - 1).getId().getId() < clients.get(i).getId().getId());
+            assertTrue(products.get(i - 1).getId().getId() < products.get(i).getId().getId());
+        }
+    }
+
+    @Test
+    public void materialize_empty_returnsEmptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(),
+                AddressBookMaterializer.materialize(Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void materialize_invalidClients_throwsFirstFailure() {
+        List<JsonAdaptedClient> clients = createClients(MANY);
+        clients.set(MANY - 1, new JsonAdaptedClient("R@chel", "91234567", null, null, null));
+        clients.set(AddressBookMaterializer.BATCH_SIZE + 1,
+                new JsonAdaptedClient("Rachel", "+651234", null, null, null));
+
+        assertThrows(IllegalValueException.class, PhoneNumber.MESSAGE_CONSTRAINTS, () ->
+                AddressBookMaterializer.materialize(clients, createProducts(1)));
+    }
+
+    @Test
+    public void materialize_duplicateProductNames_throwsIllegalValueException() {
+        List<JsonAdaptedProduct> products = createProducts(MANY);
+        products.add(new JsonAdaptedProduct("Product " + toLetters(MANY / 2), "2", null));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PRODUCT, () ->
+                AddressBookMaterializer.materialize(createClients(1), products));
+    }
+
+    @Test
+    public void materialize_invalidProduct_throwsIllegalValueException() {
+        List<JsonAdaptedProduct> products = createProducts(MANY);
+        products.set(MANY / 2, new JsonAdaptedProduct("P@n", "2", null));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                AddressBookMaterializer.materialize(createClients(1), products));
+    }
+
+    @Test
+    public void materialize_ordersWithProductNames_givenProductIds() throws Exception {
+        List<JsonAdaptedClient> clients = List.of(new JsonAdaptedClient("Client a", "91234567", null, null,
+                List.of(new JsonAdaptedOrder(null, null, "Product b", "3", null, LocalDate.of(2022, 1, 1)))));
+
+        AddressBook addressBook = AddressBookMaterializer.materialize(clients, createProducts(3));
+
+        Order order = addressBook.getClientList().get(0).getOrders().iterator().next();
+        assertEquals(addressBook.getProductList().get(1).getId(), order.getProductId());
+    }
+
+    @Test
+    public void materialize_orderWithUnknownProduct_throwsIllegalValueException() {
+        List<JsonAdaptedClient> unknownName = List.of(new JsonAdaptedClient("Client a", "91234567", null, null,
+                List.of(new JsonAdaptedOrder(null, null, "Product z", "3", null, LocalDate.of(2022, 1, 1)))));
+        assertThrows(IllegalValueException.class, JsonAdaptedOrder.MESSAGE_UNKNOWN_PRODUCT, () ->
+                AddressBookMaterializer.materialize(unknownName, createProducts(3)));
+
+        List<JsonAdaptedClient> unknownId = List.of(new JsonAdaptedClient("Client a", "91234567", null, null,
+                List.of(new JsonAdaptedOrder(null, ID.MAX_ID, null, "3", null, LocalDate.of(2022, 1, 1)))));
+        assertThrows(IllegalValueException.class, JsonAdaptedOrder.MESSAGE_UNKNOWN_PRODUCT, () ->
+                AddressBookMaterializer.materialize(unknownId, createProducts(3)));
+    }
+
+    @Test
+    public void materialize_savedProductIds_keptAndNotReused() throws Exception {
+        List<JsonAdaptedProduct> products = List.of(new JsonAdaptedProduct(100_000, "Product a", "2", null));
+
+        AddressBook addressBook = AddressBookMaterializer.materialize(Collections.emptyList(), products);
+
+        assertEquals(new ID(100_000), addressBook.getProductList().get(0).getId());
+        assertTrue(addressBook.getNextProductId() > 100_000);
+    }
+
+    @Test
+    public void materialize_savedHighWaterMarks_kept() throws Exception {
+        List<JsonAdaptedClient> clients = List.of(new JsonAdaptedClient(4, "Client a", "91234567", null, null, null));
+        List<JsonAdaptedProduct> products = List.of(new JsonAdaptedProduct(2, "Product a", "2", null));
+
+        AddressBook addressBook = AddressBookMaterializer.materialize(clients, products, 50, 60);
+
+        assertEquals(new ID(4), addressBook.getClientList().get(0).getId());
+        assertEquals(50, addressBook.getNextClientId());
+        assertEquals(60, addressBook.getNextProductId());
+    }
+
+    @Test
+    public void materialize_missingIds_assignedPastSavedIdsAndMarks() throws Exception {
+        List<JsonAdaptedClient> clients = List.of(
+                new JsonAdaptedClient("Client a", "91234567", null, null, null),
+                new JsonAdaptedClient(30, "Client b", "91234567", null, null, null),
+                new JsonAdaptedClient("Client c", "91234567", null, null, null));
+
+        AddressBook addressBook = AddressBookMaterializer.materialize(clients, Collections.emptyList(), 10, null);
+
+        List<Client> modelClients = addressBook.getClientList();
+        assertEquals(new ID(31), modelClients.get(0).getId());
+        assertEquals(new ID(30), modelClients.get(1).getId());
+        assertEquals(new ID(32), modelClients.get(2).getId());
+        assertEquals(33, addressBook.getNextClientId());
+    }
+
+    @Test
+    public void materialize_duplicateClientIds_throwsIllegalValueException() {
+        List<JsonAdaptedClient> clients = List.of(
+                new JsonAdaptedClient(7, "Client a", "91234567", null, null, null),
+                new JsonAdaptedClient(7, "Client b", "91234567", null, null, null));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT, () ->
+                AddressBookMaterializer.materialize(clients, Collections.emptyList()));
+    }
+
+    private static List<JsonAdaptedClient> createClients(int count) {
+        List<JsonAdaptedClient> clients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clients.add(new JsonAdaptedClient("Client " + toLetters(i), "91234567", null, null, null));
+        }
+
+        return clients;
+    }
+
+    private static List<JsonAdaptedProduct> createProducts(int count) {
+        List<JsonAdaptedProduct> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(new JsonAdaptedProduct("Product " + toLetters(i), "2", "10"));
+        }
+
+        return products;
+    }
+
+    /**
+     * Returns a distinct name suffix for {@code index} that only uses letters.
+     */
+    private static String toLetters(int index) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + index % 26));
+            index /= 26;
+        } while (index > 0);
+
+        return letters.toString();
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.Name;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.TypicalClients;
+import seedu.address.testutil.TypicalProducts;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertSameContents(original, storage.readAddressBook().get());
+
+        original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(original);
+        assertSameContents(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_nonCanonicalAndLargestNumbers_restored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addProduct(new Product(new ID(1), new Name("Padded"), new UnitPrice("007.50"), new Quantity("0010")));
+        original.addProduct(new Product(new ID(2), new Name("Whole"), new UnitPrice("12"), null));
+        original.addProduct(new Product(new ID(3), new Name("Huge"), new UnitPrice(Long.MAX_VALUE),
+                new Quantity(Long.MAX_VALUE)));
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertSameContents(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_versionOneFile_ordersGivenProductIds() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.write("SELLAHBN".getBytes(StandardCharsets.US_ASCII));
+            out.writeShort(1);
+            out.writeInt(1); // product names used in orders
+            out.writeUTF("Pencil");
+
+            ByteArrayOutputStream client = new ByteArrayOutputStream();
+            DataOutputStream clientOut = new DataOutputStream(client);
+            clientOut.writeUTF("Alice");
+            clientOut.writeUTF("91234567");
+            clientOut.writeBoolean(false);
+            clientOut.writeBoolean(false);
+            clientOut.writeInt(1);
+            clientOut.writeInt(0);
+            clientOut.writeLong(3);
+            clientOut.writeLong(LocalDate.of(2022, 1, 1).toEpochDay());
+            out.writeInt(1);
+            out.writeInt(client.size());
+            client.writeTo(out);
+
+            ByteArrayOutputStream product = new ByteArrayOutputStream();
+            DataOutputStream productOut = new DataOutputStream(product);
+            productOut.writeUTF("Pencil");
+            productOut.writeLong(150);
+            productOut.writeBoolean(true);
+            productOut.writeBoolean(false);
+            out.writeInt(1);
+            out.writeInt(product.size());
+            product.writeTo(out);
+        }
+
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+
+        Order order = addressBook.getClientList().get(0).getOrders().iterator().next();
+        assertEquals(addressBook.getProductList().get(0).getId(), order.getProductId());
+        assertEquals(new Quantity("3"), order.getQuantity());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void detectFormat_savedFiles_formatOfEachFile() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Path emptyFilePath = testFolder.resolve("Empty.bin");
+        FileUtil.createFile(emptyFilePath);
+
+        assertEquals(AddressBookFormat.BINARY, AddressBookStorageUtil.detectFormat(binaryFilePath));
+        assertEquals(AddressBookFormat.JSON, AddressBookStorageUtil.detectFormat(jsonFilePath));
+        assertEquals(AddressBookFormat.JSON, AddressBookStorageUtil.detectFormat(emptyFilePath));
+        assertNull(AddressBookStorageUtil.detectFormat(testFolder.resolve("NonExistentFile.bin")));
+    }
+
+    private static AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = TypicalClients.getTypicalAddressBook();
+        TypicalProducts.getTypicalProducts().forEach(addressBook::addProduct);
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code actual} serializes to the same json as {@code expected}, including the IDs and their
+     * high-water marks.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual)
+            throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(expected)),
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(actual)));
+    }
+}
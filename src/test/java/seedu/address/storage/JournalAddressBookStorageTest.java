@@ -0,0 +1,258 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalProducts.CALCULATOR;
+import static seedu.address.testutil.TypicalProducts.IPHONE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
+import seedu.address.model.product.Quantity;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TypicalClients;
+import seedu.address.testutil.TypicalProducts;
+
+public class JournalAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("AddressBook.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        assertThrows(NullPointerException.class, () ->
+                new JournalAddressBookStorage(filePath).saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void saveAddressBook_incrementalChanges_snapshotUnchangedAndChangesReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        Client clientWithNewOrder = new ClientBuilder().withName("Jane Doe").build();
+        original.addClient(clientWithNewOrder);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Added, removed and edited clients and products, and added orders
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        original.addProduct(CALCULATOR);
+        original.removeProduct(IPHONE);
+        original.addOrder(clientWithNewOrder,
+                new Order(CALCULATOR.getId(), new Quantity("3"), LocalDate.of(2022, 1, 1)));
+        storage.saveAddressBook(original);
+        original.addClient(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertSameContents(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        String journal = FileUtil.readFromFile(JournalAddressBookStorage.getJournalFilePath(filePath));
+        storage.saveAddressBook(original);
+
+        assertEquals(journal, FileUtil.readFromFile(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendedToJournalRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        original.removeClient(ALICE);
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removeClient(readBack.getClientList().get(0));
+        readBack.addClient(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertSameContents(readBack, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadOfIncompleteLastEntry_changesReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original);
+        FileUtil.appendToFile(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"type\":\"REMOVE_CLI");
+
+        // An entry appended after the incomplete one would be lost with it
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removeClient(readBack.getClientList().get(0));
+        storage.saveAddressBook(readBack);
+
+        assertSameContents(readBack, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_clientRemovedAfterJournaled_idNotHandedOutAfterRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Client client = new ClientBuilder().withName("Jane Doe").build();
+        original.addClient(client);
+        storage.saveAddressBook(original);
+        original.removeClient(client);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertSameContents(original, readBack);
+        assertTrue(readBack.getNextClientId() > client.getId().getId());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"type\":\"REMOVE_CLI");
+
+        assertSameContents(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original);
+
+        // The snapshot is replaced by a plain json save, leaving the old journal behind
+        AddressBook replacement = TypicalClients.getTypicalAddressBook();
+        replacement.removeClient(BENSON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertSameContents(replacement, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_fullSnapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertSameContents(original, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_previousSnapshotAndJournalRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original);
+
+        // A storage that has not read the snapshot compacts it and its journal into a new one, which is then damaged
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removeClient(readBack.getClientList().get(0));
+        new JournalAddressBookStorage(filePath).saveAddressBook(readBack);
+        FileUtil.writeToFile(filePath, "{\"clients\": [");
+
+        assertSameContents(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private static AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = TypicalClients.getTypicalAddressBook();
+        TypicalProducts.getTypicalProducts().forEach(addressBook::addProduct);
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same clients, orders and products as {@code expected}, in the same order.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getNextClientId(), actual.getNextClientId());
+        assertEquals(expected.getNextProductId(), actual.getNextProductId());
+        assertEquals(describeClients(expected.getClientList()), describeClients(actual.getClientList()));
+        assertEquals(describeProducts(expected.getProductList()), describeProducts(actual.getProductList()));
+    }
+
+    private static List<String> describeClients(List<Client> clients) {
+        return clients.stream()
+                .map(client -> client.getId() + ";" + client.getName() + ";" + client.getPhoneNumber() + ";"
+                        + client.getEmail() + ";" + client.getAddress() + ";"
+                        + client.getOrders().stream().map(Order::toString).sorted().collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> describeProducts(List<Product> products) {
+        return products.stream()
+                .map(product -> product.getId() + ";" + product.getName() + ";" + product.getUnitPrice() + ";"
+                        + product.getQuantity())
+                .collect(Collectors.toList());
+    }
+}
@@ -16,6 +16,7 @@ import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 
 public class JsonAdaptedClientTest {
@@ -23,7 +24,9 @@ public class JsonAdaptedClientTest {
     private static final String INVALID_PHONE_NUMBER = "+651234";
     private static final String INVALID_ADDRESS = " ";
     private static final String INVALID_EMAIL = "example.com";
+    private static final Integer INVALID_ID = -1;
 
+    private static final Integer VALID_ID = AMY.getId().getId();
     private static final String VALID_NAME = AMY.getName().toString();
     private static final String VALID_PHONE_NUMBER = AMY.getPhoneNumber().toString();
     private static final String VALID_EMAIL = AMY.getEmail().toString();
@@ -38,6 +41,33 @@ public class JsonAdaptedClientTest {
         assertEquals(AMY, Client.updateClient(AMY, client.toModelType()));
     }
 
+    @Test
+    public void toModelType_savedId_keepsId() throws Exception {
+        assertEquals(AMY, new JsonAdaptedClient(AMY).toModelType(new ID(VALID_ID + 1)));
+    }
+
+    @Test
+    public void toModelType_nullIdWithNewId_usesNewId() throws Exception {
+        JsonAdaptedClient client =
+                new JsonAdaptedClient(VALID_NAME, VALID_PHONE_NUMBER, VALID_EMAIL, VALID_ADDRESS, VALID_ORDERS);
+        assertEquals(new ID(VALID_ID + 1), client.toModelType(new ID(VALID_ID + 1)).getId());
+    }
+
+    @Test
+    public void toModelType_nullId_throwsIllegalValueException() {
+        JsonAdaptedClient client =
+                new JsonAdaptedClient(VALID_NAME, VALID_PHONE_NUMBER, VALID_EMAIL, VALID_ADDRESS, VALID_ORDERS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, client::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedClient client = new JsonAdaptedClient(INVALID_ID, VALID_NAME, VALID_PHONE_NUMBER, VALID_EMAIL,
+                VALID_ADDRESS, VALID_ORDERS);
+        assertThrows(IllegalValueException.class, ID.MESSAGE_CONSTRAINTS, client::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedClient client =
@@ -81,7 +111,7 @@ public class JsonAdaptedClientTest {
     @Test
     public void toModelType_nullEmail_success() throws IllegalValueException {
         JsonAdaptedClient client =
-                new JsonAdaptedClient(VALID_NAME, VALID_PHONE_NUMBER, null, VALID_ADDRESS, VALID_ORDERS);
+                new JsonAdaptedClient(VALID_ID, VALID_NAME, VALID_PHONE_NUMBER, null, VALID_ADDRESS, VALID_ORDERS);
         assertNull(client.toModelType().getEmail());
     }
 
@@ -96,7 +126,7 @@ public class JsonAdaptedClientTest {
     @Test
     public void toModelType_nullAddress_success() throws IllegalValueException {
         JsonAdaptedClient client =
-                new JsonAdaptedClient(VALID_NAME, VALID_PHONE_NUMBER, VALID_EMAIL, null, VALID_ORDERS);
+                new JsonAdaptedClient(VALID_ID, VALID_NAME, VALID_PHONE_NUMBER, VALID_EMAIL, null, VALID_ORDERS);
         assertNull(client.toModelType().getAddress());
     }
 }
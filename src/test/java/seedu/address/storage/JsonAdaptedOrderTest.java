@@ -1,25 +1,99 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.storage.JsonAdaptedOrder.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProducts.CANNON;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
 import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
 
 public class JsonAdaptedOrderTest {
-    private static final Name VALID_NAME = CANNON.getName();
+    private static final ID VALID_PRODUCT_ID = CANNON.getId();
     private static final Quantity VALID_QUANTITY = CANNON.getQuantity();
     private static final LocalDate VALID_TIME = LocalDate.now();
 
     @Test
     public void toModelType_validOrderDetails_returnsOrder() throws Exception {
-        Order validOrder = new Order(VALID_NAME, VALID_QUANTITY, VALID_TIME);
+        Order validOrder = new Order(VALID_PRODUCT_ID, VALID_QUANTITY, VALID_TIME);
         JsonAdaptedOrder order = new JsonAdaptedOrder(validOrder);
         assertEquals(validOrder, order.toModelType());
     }
+
+    @Test
+    public void toModelType_orderWithId_idKept() throws Exception {
+        Order validOrder = new Order(new ID(7), VALID_PRODUCT_ID, VALID_QUANTITY, VALID_TIME);
+        assertEquals(validOrder, new JsonAdaptedOrder(validOrder).toModelType());
+    }
+
+    @Test
+    public void toModelType_orderWithUnitPrice_unitPriceKept() throws Exception {
+        Order validOrder = new Order(new ID(7), VALID_PRODUCT_ID, VALID_QUANTITY, VALID_TIME, CANNON.getUnitPrice());
+        assertEquals(validOrder, new JsonAdaptedOrder(validOrder).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidUnitPrice_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(null, VALID_PRODUCT_ID.getId(), null,
+                VALID_QUANTITY.toString(), "-1", VALID_TIME);
+        assertThrows(IllegalValueException.class, UnitPrice.MESSAGE_CONSTRAINTS, order::toModelType);
+    }
+
+    @Test
+    public void toModelType_negativeOrderId_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(-1, VALID_PRODUCT_ID.getId(), null,
+                VALID_QUANTITY.toString(), null, VALID_TIME);
+        assertThrows(IllegalValueException.class, ID.MESSAGE_CONSTRAINTS, order::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullProductId_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(null, null, null, VALID_QUANTITY.toString(), null, VALID_TIME);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, order::toModelType);
+    }
+
+    @Test
+    public void toModelType_negativeProductId_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(null, -1, null, VALID_QUANTITY.toString(), null, VALID_TIME);
+        assertThrows(IllegalValueException.class, ID.MESSAGE_CONSTRAINTS, order::toModelType);
+    }
+
+    @Test
+    public void withProductId_productName_resolvedById() throws Exception {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(null, null, CANNON.getName().fullName,
+                VALID_QUANTITY.toString(), null, VALID_TIME);
+        Order expectedOrder = new Order(VALID_PRODUCT_ID, VALID_QUANTITY, VALID_TIME);
+        assertEquals(expectedOrder, order.withProductId(Map.of(CANNON.getName(), VALID_PRODUCT_ID)).toModelType());
+    }
+
+    @Test
+    public void withProductId_productId_returnsSameOrder() throws Exception {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(new Order(VALID_PRODUCT_ID, VALID_QUANTITY, VALID_TIME));
+        assertSame(order, order.withProductId(Map.of()));
+    }
+
+    @Test
+    public void withProductId_unknownProductName_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(null, null, "Unknown", VALID_QUANTITY.toString(), null,
+                VALID_TIME);
+        assertThrows(IllegalValueException.class, JsonAdaptedOrder.MESSAGE_UNKNOWN_PRODUCT, () ->
+                order.withProductId(Map.of(new Name("Cannon"), VALID_PRODUCT_ID)));
+    }
+
+    @Test
+    public void withProductId_invalidProductName_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(null, null, "P@n", VALID_QUANTITY.toString(), null, VALID_TIME);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> order.withProductId(Map.of()));
+    }
 }
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalProducts.CANNON;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.Quantity;
@@ -18,7 +19,9 @@ public class JsonAdaptedProductTest {
     private static final String INVALID_NAME = "R@chel";
     private static final String INVALID_UNIT_PRICE = "+651234";
     private static final String INVALID_QUANTITY = " ";
+    private static final Integer INVALID_ID = -1;
 
+    private static final Integer VALID_ID = CANNON.getId().getId();
     private static final String VALID_NAME = CANNON.getName().toString();
     private static final String VALID_UNIT_PRICE = CANNON.getUnitPrice().toString();
     private static final String VALID_QUANTITY = CANNON.getQuantity().toString();
@@ -29,6 +32,30 @@ public class JsonAdaptedProductTest {
         assertEquals(CANNON, Product.updateProduct(CANNON, product.toModelType()));
     }
 
+    @Test
+    public void toModelType_savedId_keepsId() throws Exception {
+        assertEquals(CANNON, new JsonAdaptedProduct(CANNON).toModelType(new ID(VALID_ID + 1)));
+    }
+
+    @Test
+    public void toModelType_nullIdWithNewId_usesNewId() throws Exception {
+        JsonAdaptedProduct product = new JsonAdaptedProduct(VALID_NAME, VALID_UNIT_PRICE, VALID_QUANTITY);
+        assertEquals(new ID(VALID_ID + 1), product.toModelType(new ID(VALID_ID + 1)).getId());
+    }
+
+    @Test
+    public void toModelType_nullId_throwsIllegalValueException() {
+        JsonAdaptedProduct product = new JsonAdaptedProduct(VALID_NAME, VALID_UNIT_PRICE, VALID_QUANTITY);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, ID.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, product::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedProduct product = new JsonAdaptedProduct(INVALID_ID, VALID_NAME, VALID_UNIT_PRICE, VALID_QUANTITY);
+        assertThrows(IllegalValueException.class, ID.MESSAGE_CONSTRAINTS, product::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedProduct product =
@@ -69,7 +96,7 @@ public class JsonAdaptedProductTest {
 
     @Test
     public void toModelType_nullQuantity_success() throws IllegalValueException {
-        JsonAdaptedProduct product = new JsonAdaptedProduct(VALID_NAME, VALID_UNIT_PRICE, null);
+        JsonAdaptedProduct product = new JsonAdaptedProduct(VALID_ID, VALID_NAME, VALID_UNIT_PRICE, null);
         assertNull(product.toModelType().getQuantity());
     }
 }
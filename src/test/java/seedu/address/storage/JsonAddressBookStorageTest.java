@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.HOON;
@@ -11,6 +12,8 @@ import static seedu.address.testutil.TypicalProducts.IPHONE;
 import static seedu.address.testutil.TypicalProducts.TISSUE;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
@@ -209,4 +213,43 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void readAddressBook_truncatedFile_previousVersionRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = TypicalClients.getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = TypicalClients.getTypicalAddressBook();
+        modified.addClient(HOON);
+        storage.saveAddressBook(modified);
+
+        // A file damaged after it was saved, such as by a disk fault
+        String contents = FileUtil.readFromFile(filePath);
+        Files.write(filePath, contents.substring(0, contents.length() / 2).getBytes(StandardCharsets.UTF_8));
+
+        ReadOnlyAddressBook recovered = storage.readAddressBook().get();
+        assertEquals(original.getClientList().size(), recovered.getClientList().size());
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(Paths.get(filePath + AddressBookStorageUtil.CORRUPTED_FILE_SUFFIX)));
+
+        // The next save does not replace the recovered version with the damaged file
+        storage.saveAddressBook(recovered);
+        assertEquals(original.getClientList().size(),
+                storage.readAddressBook(FileUtil.getBackupFilePath(filePath)).get().getClientList().size());
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithBackup_backupRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(TypicalClients.getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+
+        // A crash after the backup is made, but before the new file is renamed into place
+        Files.delete(filePath);
+
+        assertEquals(TypicalClients.getTypicalAddressBook().getClientList().size(),
+                storage.readAddressBook().get().getClientList().size());
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.TypicalProducts;
+
+public class JsonAddressBookStreamerTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    private static final Path TYPICAL_CLIENTS_FILE = TEST_DATA_FOLDER.resolve("typicalClientsAddressBook.json");
+    private static final Path TYPICAL_PRODUCTS_FILE = TEST_DATA_FOLDER.resolve("typicalProductsAddressBook.json");
+    private static final Path INVALID_PRODUCTS_FILE = TEST_DATA_FOLDER.resolve("invalidProductsAddressBook.json");
+    private static final Path DUPLICATE_PRODUCTS_FILE = TEST_DATA_FOLDER.resolve("duplicateProductsAddressBook.json");
+
+    @Test
+    public void write_sampleAddressBook_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JsonAddressBookStreamer.write(addressBook, out);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_writtenAddressBook_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStreamer.write(addressBook, out);
+
+        AddressBook streamed = JsonAddressBookStreamer.read(new ByteArrayInputStream(out.toByteArray()));
+
+        // IDs are assigned on read, so the serialized forms are compared instead
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(streamed)));
+    }
+
+    @Test
+    public void read_typicalFiles_success() throws Exception {
+        assertEquals(JsonUtil.readJsonFile(TYPICAL_CLIENTS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType().getClientList().size(), read(TYPICAL_CLIENTS_FILE).getClientList().size());
+        assertEquals(TypicalProducts.getTypicalProducts().size(), read(TYPICAL_PRODUCTS_FILE).getProductList().size());
+    }
+
+    @Test
+    public void read_invalidProductFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_PRODUCTS_FILE));
+    }
+
+    @Test
+    public void read_duplicateProducts_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(DUPLICATE_PRODUCTS_FILE));
+    }
+
+    private AddressBook read(Path filePath) throws Exception {
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            return JsonAddressBookStreamer.read(in);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalProducts.CALCULATOR;
+import static seedu.address.testutil.TypicalProducts.MASK;
+import static seedu.address.testutil.TypicalProducts.PANADOL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.LazyOrderSet;
+import seedu.address.model.order.Order;
+import seedu.address.model.product.Quantity;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.TypicalClients;
+import seedu.address.testutil.TypicalProducts;
+
+public class ShardedAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("AddressBook.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notManifest_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertSameContents(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+
+        original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(original);
+        assertSameContents(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changedProduct_onlyProductSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest before = readManifest(filePath);
+
+        addressBook.addProduct(CALCULATOR);
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest after = readManifest(filePath);
+
+        assertNotEquals(before.getProducts(), after.getProducts());
+        assertEquals(before.getClients(), after.getClients());
+        assertEquals(before.getOrders(), after.getOrders());
+        assertSameContents(addressBook, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changedOrder_onlyOrderSegmentOfClientWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest before = readManifest(filePath);
+
+        Client client = addressBook.getClientList().get(0);
+        addressBook.addOrder(client, new Order(MASK.getId(), new Quantity("3"), LocalDate.of(2022, 1, 1)));
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest after = readManifest(filePath);
+
+        int segment = client.getId().getId() / ShardedAddressBookStorage.CLIENTS_PER_ORDER_SEGMENT;
+        assertEquals(before.getProducts(), after.getProducts());
+        assertEquals(before.getClients(), after.getClients());
+        assertNotEquals(before.getOrders().get(segment), after.getOrders().get(segment));
+        assertSameContents(addressBook, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_manySaves_onlyCurrentAndPreviousSegmentsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removeClient(ALICE);
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest previous = readManifest(filePath);
+        addressBook.addProduct(CALCULATOR);
+        storage.saveAddressBook(addressBook);
+        JsonAdaptedShardManifest current = readManifest(filePath);
+
+        Set<Path> expectedFiles = new HashSet<>();
+        for (JsonAdaptedShardManifest manifest : new JsonAdaptedShardManifest[] {previous, current}) {
+            expectedFiles.add(filePath.resolveSibling(manifest.getProducts()));
+            expectedFiles.add(filePath.resolveSibling(manifest.getClients()));
+            manifest.getOrders().values().forEach(segment -> expectedFiles.add(filePath.resolveSibling(segment)));
+            manifest.getOrderIndexes().values()
+                    .forEach(segment -> expectedFiles.add(filePath.resolveSibling(segment)));
+        }
+
+        try (Stream<Path> files = Files.list(ShardedAddressBookStorage.getShardDirectory(filePath))) {
+            assertEquals(expectedFiles, files.collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_previousVersionRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = getTypicalAddressBook();
+        modified.addProduct(CALCULATOR);
+        storage.saveAddressBook(modified);
+
+        Files.delete(filePath.resolveSibling(readManifest(filePath).getProducts()));
+
+        assertSameContents(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_withOrderCache_ordersReadWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getAddressBookWithOrders();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath, 1000).readAddressBook().get();
+
+        List<Client> clientsWithOrders = readBack.getClientList().stream()
+                .filter(client -> !client.getOrders().isEmpty())
+                .collect(Collectors.toList());
+        assertFalse(clientsWithOrders.isEmpty());
+        for (Client client : clientsWithOrders) {
+            assertTrue(client.getOrders() instanceof LazyOrderSet);
+            assertFalse(((LazyOrderSet) client.getOrders()).isLoaded());
+        }
+
+        assertSameContents(original, readBack);
+        clientsWithOrders.forEach(client -> assertTrue(((LazyOrderSet) client.getOrders()).isLoaded()));
+    }
+
+    @Test
+    public void saveAddressBook_nothingChangedSinceRead_noSegmentWrittenAndOrdersNotRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithOrders());
+        JsonAdaptedShardManifest before = readManifest(filePath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 1000);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        storage.saveAddressBook(readBack);
+        JsonAdaptedShardManifest after = readManifest(filePath);
+
+        assertEquals(before.getProducts(), after.getProducts());
+        assertEquals(before.getClients(), after.getClients());
+        assertEquals(before.getOrders(), after.getOrders());
+        readBack.getClientList().stream()
+                .filter(client -> client.getOrders() instanceof LazyOrderSet)
+                .forEach(client -> assertFalse(((LazyOrderSet) client.getOrders()).isLoaded()));
+    }
+
+    @Test
+    public void saveAddressBook_ordersNotReadYet_copiedAndReadableAfterSegmentsDeleted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getAddressBookWithOrders();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        JsonAdaptedShardManifest originalManifest = readManifest(filePath);
+
+        // Each save writes the order segment of the first client anew, copying the entries of the other clients
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 1000);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        for (int i = 0; i < 2; i++) {
+            Order order = new Order(MASK.getId(), new Quantity("1"), LocalDate.of(2022, 3, i + 1));
+            readBack.addOrder(readBack.getClientList().get(0), order);
+            original.addOrder(original.getClientList().get(0), order);
+            storage.saveAddressBook(readBack);
+        }
+
+        for (String segment : originalManifest.getOrders().values()) {
+            assertFalse(Files.exists(filePath.resolveSibling(segment)));
+        }
+
+        // Counting the sales totals before adding an order does not read the orders of the other clients either
+        readBack.getClientList().stream()
+                .skip(1)
+                .filter(client -> client.getOrders() instanceof LazyOrderSet)
+                .forEach(client -> assertFalse(((LazyOrderSet) client.getOrders()).isLoaded()));
+
+        assertSameContents(original, readBack);
+        assertSameContents(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_otherFileWithOrderCache_ordersReadAtOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithOrders());
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(testFolder.resolve("Other.json"), 1000)
+                .readAddressBook(filePath).get();
+
+        readBack.getClientList().forEach(client -> assertFalse(client.getOrders() instanceof LazyOrderSet));
+    }
+
+    @Test
+    public void detectFormat_manifest_sharded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(AddressBookFormat.SHARDED, AddressBookStorageUtil.detectFormat(filePath));
+    }
+
+    private static JsonAdaptedShardManifest readManifest(Path filePath) throws Exception {
+        return JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonAdaptedShardManifest.class);
+    }
+
+    private static AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = TypicalClients.getTypicalAddressBook();
+        TypicalProducts.getTypicalProducts().forEach(addressBook::addProduct);
+        return addressBook;
+    }
+
+    private static AddressBook getAddressBookWithOrders() {
+        AddressBook addressBook = getTypicalAddressBook();
+        for (int i = 0; i < 3; i++) {
+            Client client = addressBook.getClientList().get(i);
+            addressBook.addOrder(client, new Order(MASK.getId(), new Quantity("3"), LocalDate.of(2022, 1, 1)));
+            addressBook.addOrder(addressBook.getClientList().get(i),
+                    new Order(PANADOL.getId(), new Quantity(String.valueOf(i + 1)), LocalDate.of(2022, 2, 1)));
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code actual} serializes to the same json as {@code expected}, apart from the order of orders.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static String describe(ReadOnlyAddressBook addressBook) {
+        return addressBook.getNextClientId() + ";" + addressBook.getNextProductId() + "\n"
+                + addressBook.getClientList().stream()
+                .map(client -> client.getId() + ";" + client.getName() + ";" + client.getPhoneNumber() + ";"
+                        + client.getEmail() + ";" + client.getAddress() + ";"
+                        + client.getOrders().stream().map(Order::toString).sorted().collect(Collectors.toList()))
+                .collect(Collectors.joining("\n"))
+                + addressBook.getProductList().stream()
+                .map(product -> product.getId() + ";" + product.getName() + ";" + product.getUnitPrice() + ";"
+                        + product.getQuantity())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -1,16 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -58,8 +62,61 @@ public class StorageManagerTest {
         AddressBook original = getTypicalAddressBook();
         storageManager.saveAddressBook(original);
         ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
-        // Will not be equal since now addressbook can't read data
-        assertNotEquals(original, new AddressBook(retrieved));
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_asyncSaving_writtenOnFlush() throws Exception {
+        storageManager.startAsyncSaving(Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        original.removeClient(original.getClientList().get(0));
+        storageManager.saveAddressBook(original);
+
+        assertFalse(storageManager.readAddressBook().isPresent());
+        storageManager.flush();
+        assertEquals(original.getClientList().size(), storageManager.readAddressBook().get().getClientList().size());
+    }
+
+    @Test
+    public void saveAddressBook_asyncSavingFails_failureReported() throws Exception {
+        IOException dummyException = new IOException("dummy exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw dummyException;
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        storageManager.setSaveFailureHandler(reportedFailure::complete);
+        storageManager.startAsyncSaving(0);
+
+        storageManager.saveAddressBook(new AddressBook());
+
+        assertEquals(dummyException, reportedFailure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void exportImportAddressBook_everyFormat_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (AddressBookFormat format : AddressBookFormat.values()) {
+            Path filePath = getTempFilePath("export" + format);
+            storageManager.exportAddressBook(original, format, filePath);
+            assertEquals(original, new AddressBook(storageManager.importAddressBook(filePath).get()));
+        }
+
+        assertFalse(storageManager.importAddressBook(getTempFilePath("missing")).isPresent());
+    }
+
+    @Test
+    public void importAddressBook_asyncExportPending_exportWrittenFirst() throws Exception {
+        storageManager.startAsyncSaving(Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = getTempFilePath("export.bin");
+        storageManager.exportAddressBook(original, AddressBookFormat.BINARY, filePath);
+
+        assertEquals(original, new AddressBook(storageManager.importAddressBook(filePath).get()));
     }
 
     @Test
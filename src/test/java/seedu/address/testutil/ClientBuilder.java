@@ -8,6 +8,8 @@ import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
+import seedu.address.model.commons.IdAllocator;
 import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
 import seedu.address.model.product.Quantity;
@@ -21,6 +23,9 @@ public class ClientBuilder {
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
 
+    // Gives every client built a different ID, as the clients of an address book have.
+    private static final IdAllocator ID_ALLOCATOR = new IdAllocator();
+
     private Client client;
     private Name name;
     private PhoneNumber phoneNumber;
@@ -49,7 +54,7 @@ public class ClientBuilder {
         phoneNumber = clientToCopy.getPhoneNumber();
         email = clientToCopy.getEmail();
         address = clientToCopy.getAddress();
-        orders = clientToCopy.getOrders();
+        orders = new HashSet<>(clientToCopy.getOrders());
     }
 
     /**
@@ -95,8 +100,8 @@ public class ClientBuilder {
     /**
      * Add an order to {@code Orders} of the {@code Client} that we are building.
      */
-    public ClientBuilder withOrder(Name name, Quantity quantity, LocalDate time) {
-        this.orders.add(new Order(name, quantity, time));
+    public ClientBuilder withOrder(ID productId, Quantity quantity, LocalDate time) {
+        this.orders.add(new Order(productId, quantity, time));
         return this;
     }
 
@@ -105,7 +110,7 @@ public class ClientBuilder {
      */
     public Client build() {
         return client == null
-               ? new Client(name, phoneNumber, email, address, orders)
+               ? new Client(ID_ALLOCATOR.allocate(), name, phoneNumber, email, address, orders)
                : Client.updateClient(client, name, phoneNumber, email, address, orders);
     }
 }
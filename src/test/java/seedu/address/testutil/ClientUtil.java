@@ -32,7 +32,7 @@ public class ClientUtil {
                 .append(PREFIX_EMAIL).append(client.getEmail().value).append(" ")
                 .append(PREFIX_ADDRESS).append(client.getAddress().value).append(" ");
         client.getOrders().forEach(s -> sb.append(PREFIX_ORDER)
-                .append(s.getProductName()).append(" ")
+                .append(s.getProductId()).append(" ")
                 .append(s.getQuantity()).append(" ")
                 .append(s.getTime()).append(" "));
 
@@ -40,7 +40,7 @@ public class ClientUtil {
     }
 
     private static String orderToString(Order order) {
-        return PREFIX_ORDER.toString() + order.getProductName() + " " + order.getQuantity() + " "
+        return PREFIX_ORDER.toString() + order.getProductId() + " " + order.getQuantity() + " "
                        + order.getTime() + " ";
     }
 
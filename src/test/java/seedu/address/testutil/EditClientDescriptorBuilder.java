@@ -12,9 +12,12 @@ import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.PhoneNumber;
+import seedu.address.model.commons.ID;
 import seedu.address.model.commons.Name;
 import seedu.address.model.order.Order;
+import seedu.address.model.product.Product;
 import seedu.address.model.product.Quantity;
+import seedu.address.model.product.UnitPrice;
 
 /**
  * A utility class to help with building EditClientDescriptor objects.
@@ -75,7 +78,8 @@ public class EditClientDescriptorBuilder {
     }
 
     /**
-     * Sets the {@code Order} of the {@code EditClientDescriptor} that we are building.
+     * Sets the {@code Order} of the {@code EditClientDescriptor} that we are building. Orders of {@code CANNON} or
+     * {@code DAISY} are made at their unit price, as when parsed.
      */
     public EditClientDescriptorBuilder withOrders(String... orders) {
         Set<Order> orderSet = Stream.of(orders)
@@ -86,11 +90,16 @@ public class EditClientDescriptorBuilder {
                         args[2] = String.format("%d/%s", year, args[2]);
                     }
 
-                    Name productName = new Name(args[0]);
+                    ID productId = new ID(args[0]);
                     Quantity quantity = new Quantity(args[1]);
                     LocalDate time = LocalDate.parse(args[2], DateTimeFormatter.ofPattern("yyyy/M/d"));
 
-                    return new Order(productName, quantity, time);
+                    UnitPrice unitPrice = Stream.of(TypicalProducts.CANNON, TypicalProducts.DAISY)
+                            .filter(product -> product.getId().equals(productId))
+                            .findFirst()
+                            .map(Product::getUnitPrice)
+                            .orElse(null);
+                    return new Order(null, productId, quantity, time, unitPrice);
                 }).collect(Collectors.toSet());
         descriptor.setOrders(orderSet);
         return this;
@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import seedu.address.model.commons.IdAllocator;
 import seedu.address.model.commons.Name;
 import seedu.address.model.product.Product;
 import seedu.address.model.product.Quantity;
@@ -13,6 +14,9 @@ public class ProductBuilder {
     public static final String DEFAULT_PRICE = "1";
     public static final String DEFAULT_QUANTITY = "1";
 
+    // Gives every product built a different ID, as the products of an address book have.
+    private static final IdAllocator ID_ALLOCATOR = new IdAllocator();
+
     private Product product;
     private Name name;
     private UnitPrice unitPrice;
@@ -75,7 +79,7 @@ public class ProductBuilder {
      */
     public Product build() {
         return product == null
-               ? new Product(name, unitPrice, quantity)
+               ? new Product(ID_ALLOCATOR.allocate(), name, unitPrice, quantity)
                : Product.updateProduct(product, name, unitPrice, quantity);
     }
 }
@@ -26,8 +26,8 @@ public class ProductUtil {
     public static String getProductDetails(Product product) {
         StringBuilder sb = new StringBuilder();
         sb.append(product.getName().fullName + " ");
-        sb.append(PREFIX_UNIT_PRICE + product.getUnitPrice().value + " ");
-        sb.append(PREFIX_QUANTITY + product.getQuantity().value + " ");
+        sb.append(PREFIX_UNIT_PRICE + product.getUnitPrice().toString() + " ");
+        sb.append(PREFIX_QUANTITY + product.getQuantity().toString() + " ");
         return sb.toString();
     }
 
@@ -37,7 +37,7 @@ public class ProductUtil {
     public static String getEditProductDescriptorDetails(EditProductCommand.EditProductDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
-        descriptor.getUnitPrice().ifPresent(price -> sb.append(PREFIX_UNIT_PRICE).append(price.value).append(" "));
+        descriptor.getUnitPrice().ifPresent(price -> sb.append(PREFIX_UNIT_PRICE).append(price).append(" "));
         descriptor.getQuantity().ifPresent(quantity -> sb.append(PREFIX_QUANTITY).append(quantity.value).append(" "));
         return sb.toString();
     }